@@ -4,13 +4,17 @@ import static javax.ws.rs.client.Entity.entity;
 import static javax.ws.rs.core.MediaType.APPLICATION_JSON_TYPE;
 import static javax.ws.rs.core.Response.Status.Family.SUCCESSFUL;
 
+import java.io.InputStream;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Date;
-import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
 import java.util.stream.Stream;
 
 import javax.json.Json;
@@ -20,6 +24,7 @@ import javax.json.JsonBuilderFactory;
 import javax.json.JsonObject;
 import javax.json.JsonObjectBuilder;
 import javax.json.JsonValue;
+import javax.ws.rs.client.InvocationCallback;
 import javax.ws.rs.client.WebTarget;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.MultivaluedMap;
@@ -33,6 +38,7 @@ import io.smallrye.graphql.client.typesafe.api.GraphQlClientException;
 import io.smallrye.graphql.client.typesafe.impl.reflection.FieldInfo;
 import io.smallrye.graphql.client.typesafe.impl.reflection.MethodInvocation;
 import io.smallrye.graphql.client.typesafe.impl.reflection.TypeInfo;
+import io.smallrye.mutiny.Uni;
 
 class GraphQlClientProxy {
     private static final Logger log = LoggerFactory.getLogger(GraphQlClientProxy.class);
@@ -40,7 +46,7 @@ class GraphQlClientProxy {
 
     private static final JsonBuilderFactory jsonObjectFactory = Json.createBuilderFactory(null);
 
-    private final Map<String, String> queryCache = new HashMap<>();
+    private final Map<String, String> queryCache = new ConcurrentHashMap<>();
     private final WebTarget target;
 
     GraphQlClientProxy(WebTarget target) {
@@ -48,13 +54,33 @@ class GraphQlClientProxy {
     }
 
     Object invoke(Class<?> api, MethodInvocation method) {
+        if (method.returnsUni())
+            return Unis.invoke(() -> invokeAsync(api, method));
+        if (method.isAsync())
+            return invokeAsync(api, method);
+
+        MultivaluedMap<String, Object> headers = new HeaderBuilder(api, method).build();
+        String request = request(method);
+
+        Response response = post(request, headers);
+        return read(method, response);
+    }
+
+    private CompletionStage<Object> invokeAsync(Class<?> api, MethodInvocation method) {
         MultivaluedMap<String, Object> headers = new HeaderBuilder(api, method).build();
         String request = request(method);
 
-        String response = post(request, headers);
-        log.debug("response graphql: {}", response);
+        return postAsync(request, headers).thenApply(response -> read(method, response));
+    }
 
-        return new ResultBuilder(method, response).read();
+    private Object read(MethodInvocation method, Response response) {
+        checkStatus(response);
+        if (log.isDebugEnabled()) {
+            String responseString = response.readEntity(String.class);
+            log.debug("response graphql: {}", responseString);
+            return new ResultBuilder(method, responseString).read();
+        }
+        return new ResultBuilder(method, response.readEntity(InputStream.class)).read();
     }
 
     private String request(MethodInvocation method) {
@@ -130,16 +156,45 @@ class GraphQlClientProxy {
         return builder.build();
     }
 
-    private String post(String request, MultivaluedMap<String, Object> headers) {
-        Response response = target
+    private Response post(String request, MultivaluedMap<String, Object> headers) {
+        return target
                 .request(APPLICATION_JSON_UTF8)
                 .headers(headers)
                 .post(entity(request, APPLICATION_JSON_UTF8));
+    }
+
+    private CompletionStage<Response> postAsync(String request, MultivaluedMap<String, Object> headers) {
+        CompletableFuture<Response> response = new CompletableFuture<>();
+        target
+                .request(APPLICATION_JSON_UTF8)
+                .headers(headers)
+                .async()
+                .post(entity(request, APPLICATION_JSON_UTF8), new InvocationCallback<Response>() {
+                    @Override
+                    public void completed(Response value) {
+                        response.complete(value);
+                    }
+
+                    @Override
+                    public void failed(Throwable throwable) {
+                        response.completeExceptionally(throwable);
+                    }
+                });
+        return response;
+    }
+
+    private void checkStatus(Response response) {
         StatusType status = response.getStatusInfo();
         if (status.getFamily() != SUCCESSFUL)
             throw new GraphQlClientException("expected successful status code but got " +
                     status.getStatusCode() + " " + status.getReasonPhrase() + ":\n" +
                     response.readEntity(String.class));
-        return response.readEntity(String.class);
+    }
+
+    /** Only loaded when an api method returns a <code>Uni</code>, so Mutiny is not required otherwise */
+    private static class Unis {
+        static Object invoke(Supplier<CompletionStage<Object>> invocation) {
+            return Uni.createFrom().completionStage(invocation);
+        }
     }
 }
@@ -1,24 +1,28 @@
 package io.smallrye.graphql.client.typesafe.impl;
 
-import static io.smallrye.graphql.client.typesafe.impl.json.JsonUtils.isListOf;
+import static io.smallrye.graphql.client.typesafe.impl.json.JsonUtils.skipValue;
 import static io.smallrye.graphql.client.typesafe.impl.json.JsonUtils.toMap;
-import static java.util.stream.Collectors.joining;
-import static javax.json.stream.JsonCollectors.toJsonArray;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.emptyMap;
+import static java.util.stream.Collectors.toList;
 
+import java.io.InputStream;
 import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
 
 import javax.json.Json;
 import javax.json.JsonArray;
-import javax.json.JsonArrayBuilder;
 import javax.json.JsonObject;
-import javax.json.JsonPatch;
-import javax.json.JsonPointer;
+import javax.json.JsonObjectBuilder;
 import javax.json.JsonValue;
+import javax.json.stream.JsonParser;
+import javax.json.stream.JsonParser.Event;
+import javax.json.stream.JsonParserFactory;
 
-import io.smallrye.graphql.client.typesafe.api.ErrorOr;
 import io.smallrye.graphql.client.typesafe.api.GraphQlClientError;
 import io.smallrye.graphql.client.typesafe.api.GraphQlClientException;
 import io.smallrye.graphql.client.typesafe.api.SourceLocation;
@@ -26,56 +30,119 @@ import io.smallrye.graphql.client.typesafe.impl.json.JsonReader;
 import io.smallrye.graphql.client.typesafe.impl.json.JsonUtils;
 import io.smallrye.graphql.client.typesafe.impl.reflection.MethodInvocation;
 
+/**
+ * Reads the response with a <code>JsonParser</code>, directly into the result type, without building a tree.
+ * The errors have to be known when reading the data, to apply them to <code>ErrorOr</code> values.
+ * When the service sends the data before the errors and the result type contains an <code>ErrorOr</code>,
+ * the data is buffered as a <code>JsonObject</code> until the errors are read.
+ */
 public class ResultBuilder {
+    private static final JsonParserFactory PARSER_FACTORY = Json.createParserFactory(null);
+
     private final MethodInvocation method;
-    private final JsonObject response;
-    private JsonObject data;
+    private final JsonParser parser;
+    private JsonArray errors;
 
     public ResultBuilder(MethodInvocation method, String responseString) {
+        this(method, PARSER_FACTORY.createParser(new StringReader(responseString)));
+    }
+
+    public ResultBuilder(MethodInvocation method, InputStream responseStream) {
+        this(method, PARSER_FACTORY.createParser(responseStream));
+    }
+
+    private ResultBuilder(MethodInvocation method, JsonParser parser) {
         this.method = method;
-        this.response = Json.createReader(new StringReader(responseString)).readObject();
+        this.parser = parser;
     }
 
     public Object read() {
-        data = readData();
-        readErrors();
-        return (data == null) ? null
-                : JsonReader.readJson(method.toString(), method.getReturnType(), data.get(method.getName()));
+        try (JsonParser parser = this.parser) {
+            if (parser.next() != Event.START_OBJECT)
+                throw new GraphQlClientException("expected a json object as response");
+            boolean hasData = false;
+            boolean errorsAfterData = false;
+            Object result = null;
+            JsonObject bufferedData = null;
+            while (parser.next() == Event.KEY_NAME) {
+                String key = parser.getString();
+                Event event = parser.next();
+                if ("errors".equals(key) && event == Event.START_ARRAY) {
+                    errors = parser.getArray();
+                    errorsAfterData = hasData && bufferedData == null;
+                } else if ("data".equals(key) && event == Event.START_OBJECT) {
+                    hasData = true;
+                    if (errors == null && method.getReturnType().containsErrorOr())
+                        bufferedData = parser.getObject();
+                    else
+                        result = readData(parser);
+                } else {
+                    skipValue(parser, event);
+                }
+            }
+            if (bufferedData != null) {
+                // the parsers over a JsonObject can't skip values
+                JsonParser dataParser = PARSER_FACTORY.createParser(new StringReader(bufferedData.toString()));
+                dataParser.next();
+                result = readData(dataParser);
+            }
+            if (!hasData) {
+                throwUnappliedErrors(errors);
+                return null;
+            }
+            if (errorsAfterData) {
+                throwUnappliedErrors(withoutPath(errors));
+                JsonReader.checkLateErrors(method.toString(), method.getName(), method.getReturnType(), errorsByPath());
+            }
+            return result;
+        }
     }
 
-    private JsonObject readData() {
-        if (!response.containsKey("data") || response.isNull("data"))
-            return null;
-        JsonObject data = response.getJsonObject("data");
-        if (!data.containsKey(method.getName()))
-            throw new GraphQlClientException("no data for '" + method.getName() + "':\n  " + data);
-        return data;
+    private Object readData(JsonParser parser) {
+        JsonObjectBuilder otherData = Json.createObjectBuilder();
+        while (parser.next() == Event.KEY_NAME) {
+            String key = parser.getString();
+            Event event = parser.next();
+            if (key.equals(method.getName())) {
+                throwUnappliedErrors(withoutPath(errors));
+                Object result = JsonReader.readJson(method.toString(), key, method.getReturnType(), parser, event,
+                        errorsByPath());
+                skipRest(parser);
+                return result;
+            }
+            otherData.add(key, parser.getValue());
+        }
+        throw new GraphQlClientException("no data for '" + method.getName() + "':\n  " + otherData.build());
     }
 
-    private void readErrors() {
-        if (!response.containsKey("errors") || response.isNull("errors"))
-            return;
-        JsonArray jsonErrors = response.getJsonArray("errors");
-        if (jsonErrors == null)
-            return;
-        JsonArray unapplied = jsonErrors.stream().filter(error -> !apply(error)).collect(toJsonArray());
-        if (unapplied.isEmpty())
+    private void skipRest(JsonParser parser) {
+        while (parser.next() == Event.KEY_NAME)
+            skipValue(parser, parser.next());
+    }
+
+    private List<JsonValue> withoutPath(JsonArray errors) {
+        if (errors == null)
+            return emptyList();
+        return errors.stream().filter(error -> getPath(error) == null).collect(toList());
+    }
+
+    private void throwUnappliedErrors(List<JsonValue> unapplied) {
+        if (unapplied == null || unapplied.isEmpty())
             return;
         throw new GraphQlClientException("errors from service",
-                unapplied.stream().map(this::convert).collect(Collectors.toList()));
+                unapplied.stream().map(this::convert).collect(toList()));
     }
 
-    private boolean apply(JsonValue error) {
-        List<Object> path = getPath(error);
-        if (data == null || path == null)
-            return false;
-        JsonPointer pointer = Json.createPointer(path.stream().map(Object::toString).collect(joining("/", "/", "")));
-        JsonArrayBuilder errors = Json.createArrayBuilder();
-        if (pointer.containsValue(data) && isListOf(pointer.getValue(data), ErrorOr.class.getSimpleName()))
-            pointer.getValue(data).asJsonArray().forEach(errors::add);
-        errors.add(ERROR_MARK.apply((JsonObject) error));
-        this.data = pointer.replace(data, errors.build());
-        return true;
+    private Map<String, List<JsonObject>> errorsByPath() {
+        if (errors == null)
+            return emptyMap();
+        Map<String, List<JsonObject>> errorsByPath = new LinkedHashMap<>();
+        for (JsonValue error : errors) {
+            JsonArray path = error.asJsonObject().getJsonArray("path");
+            if (path != null)
+                errorsByPath.computeIfAbsent(JsonUtils.pathKey(path), key -> new ArrayList<>()).add(error.asJsonObject());
+        }
+        return errorsByPath;
     }
 
     private GraphQlClientError convert(JsonValue jsonValue) {
@@ -121,7 +188,4 @@ public class ResultBuilder {
         JsonArray jsonArray = jsonValue.asJsonObject().getJsonArray("path");
         return (jsonArray == null) ? null : jsonArray.stream().map(JsonUtils::toValue).collect(Collectors.toList());
     }
-
-    private static final JsonPatch ERROR_MARK = Json.createPatchBuilder().add("/__typename", ErrorOr.class.getSimpleName())
-            .build();
 }
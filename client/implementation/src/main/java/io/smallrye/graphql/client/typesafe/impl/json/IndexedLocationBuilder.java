@@ -1,20 +1,21 @@
 package io.smallrye.graphql.client.typesafe.impl.json;
 
-import java.util.concurrent.atomic.AtomicInteger;
-
 import io.smallrye.graphql.client.typesafe.impl.reflection.TypeInfo;
 
 class IndexedLocationBuilder {
+    private final Location location;
     private final TypeInfo itemType;
     private final String baseDescription;
-    private final AtomicInteger index = new AtomicInteger();
+    private int index;
 
     IndexedLocationBuilder(Location location) {
+        this.location = location;
         this.itemType = location.getType().getItemType();
         this.baseDescription = location.getDescription();
     }
 
     Location nextLocation() {
-        return new Location(itemType, baseDescription + "[" + index.getAndIncrement() + "]");
+        int i = index++;
+        return location.child(itemType, baseDescription + "[" + i + "]", i);
     }
 }
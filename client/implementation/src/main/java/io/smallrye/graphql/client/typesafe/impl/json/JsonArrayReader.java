@@ -1,44 +1,48 @@
 package io.smallrye.graphql.client.typesafe.impl.json;
 
 import static io.smallrye.graphql.client.typesafe.impl.CollectionUtils.toArray;
-import static io.smallrye.graphql.client.typesafe.impl.json.GraphQlClientValueException.check;
 import static io.smallrye.graphql.client.typesafe.impl.json.JsonReader.readJson;
 import static java.util.stream.Collectors.toList;
 import static java.util.stream.Collectors.toSet;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
 import java.util.stream.Collector;
 
-import javax.json.JsonArray;
-import javax.json.JsonValue;
-import javax.json.JsonValue.ValueType;
+import javax.json.stream.JsonParser;
+import javax.json.stream.JsonParser.Event;
 
 import io.smallrye.graphql.client.typesafe.api.GraphQlClientException;
 import io.smallrye.graphql.client.typesafe.impl.reflection.TypeInfo;
 
-class JsonArrayReader extends Reader<JsonArray> {
+class JsonArrayReader extends Reader<JsonParser> {
 
     private Class<?> collectionType;
     private TypeInfo itemType;
 
-    JsonArrayReader(TypeInfo type, Location location, JsonArray value) {
+    JsonArrayReader(TypeInfo type, Location location, JsonParser value) {
         super(type, location, value);
     }
 
     @Override
     Object read() {
-        check(location, value, type.isCollection());
+        if (!type.isCollection())
+            throw new GraphQlClientValueException(location, value.getArray());
         IndexedLocationBuilder locationBuilder = new IndexedLocationBuilder(location);
-        return value.stream().map(item -> readItem(locationBuilder, item)).collect(collector());
+        List<Object> items = new ArrayList<>();
+        Event event;
+        while ((event = value.next()) != Event.END_ARRAY)
+            items.add(readItem(locationBuilder, event));
+        return items.stream().collect(collector());
     }
 
-    private Object readItem(IndexedLocationBuilder locationBuilder, JsonValue itemValue) {
+    private Object readItem(IndexedLocationBuilder locationBuilder, Event event) {
         Location itemLocation = locationBuilder.nextLocation();
         TypeInfo itemType = getItemType();
-        if (itemValue.getValueType() == ValueType.NULL && itemType.isNonNull())
+        if (event == Event.VALUE_NULL && itemType.isNonNull())
             throw new GraphQlClientException("invalid null " + itemLocation);
-        return readJson(itemLocation, itemType, itemValue);
+        return readJson(itemLocation, itemType, value, event);
     }
 
     private Collector<Object, ?, ?> collector() {
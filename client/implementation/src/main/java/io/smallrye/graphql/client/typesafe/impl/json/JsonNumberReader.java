@@ -42,6 +42,8 @@ class JsonNumberReader extends Reader<JsonNumber> {
             return value.bigIntegerValueExact();
         if (BigDecimal.class.equals(rawType))
             return value.bigDecimalValue();
+        if (Object.class.equals(rawType)) // e.g. the index in an error path
+            return value.numberValue();
 
         throw new GraphQlClientValueException(location, value);
     }
@@ -1,37 +1,51 @@
 package io.smallrye.graphql.client.typesafe.impl.json;
 
-import static io.smallrye.graphql.client.typesafe.impl.json.GraphQlClientValueException.check;
 import static io.smallrye.graphql.client.typesafe.impl.json.JsonReader.readJson;
+import static io.smallrye.graphql.client.typesafe.impl.json.JsonUtils.skipValue;
 import static io.smallrye.graphql.client.typesafe.impl.json.JsonUtils.toMap;
 
+import java.util.LinkedHashMap;
 import java.util.Map;
 
-import javax.json.JsonObject;
-import javax.json.JsonValue;
+import javax.json.stream.JsonParser;
+import javax.json.stream.JsonParser.Event;
 
 import io.smallrye.graphql.client.typesafe.api.GraphQlClientException;
 import io.smallrye.graphql.client.typesafe.impl.reflection.FieldInfo;
 import io.smallrye.graphql.client.typesafe.impl.reflection.TypeInfo;
 
-class JsonObjectReader extends Reader<JsonObject> {
-    JsonObjectReader(TypeInfo type, Location location, JsonObject value) {
+class JsonObjectReader extends Reader<JsonParser> {
+    JsonObjectReader(TypeInfo type, Location location, JsonParser value) {
         super(type, location, value);
     }
 
     @Override
     Object read() {
-        check(location, value, !type.isCollection() && !type.isScalar());
+        if (type.isCollection() || type.isScalar())
+            throw new GraphQlClientValueException(location, value.getObject());
         if (Map.class.equals(type.getRawType()))
-            return toMap(value);
+            return toMap(value.getObject());
         return readObject();
     }
 
     private Object readObject() {
         Object instance = newInstance();
-        type.fields().forEach(field -> {
-            Object fieldValue = buildValue(location, value, field);
-            field.set(instance, fieldValue);
-        });
+        Map<String, FieldInfo> missing = new LinkedHashMap<>();
+        type.fields().forEach(field -> missing.put(field.getName(), field));
+        while (value.next() == Event.KEY_NAME) {
+            FieldInfo field = missing.remove(value.getString());
+            Event event = value.next();
+            if (field == null) {
+                skipValue(value, event);
+            } else {
+                field.set(instance, readJson(fieldLocation(field), field.getType(), value, event));
+            }
+        }
+        for (FieldInfo field : missing.values()) {
+            if (field.isNonNull())
+                throw new GraphQlClientException("missing " + fieldLocation(field));
+            field.set(instance, null);
+        }
         return instance;
     }
 
@@ -43,14 +57,7 @@ class JsonObjectReader extends Reader<JsonObject> {
         }
     }
 
-    private Object buildValue(Location location, JsonObject value, FieldInfo field) {
-        Location fieldLocation = new Location(field.getType(), location.getDescription() + "." + field.getName());
-        JsonValue jsonFieldValue = value.get(field.getName());
-        if (jsonFieldValue == null) {
-            if (field.isNonNull())
-                throw new GraphQlClientException("missing " + fieldLocation);
-            return null;
-        }
-        return readJson(fieldLocation, field.getType(), jsonFieldValue);
+    private Location fieldLocation(FieldInfo field) {
+        return location.child(field.getType(), location.getDescription() + "." + field.getName(), field.getName());
     }
 }
@@ -1,87 +1,153 @@
 package io.smallrye.graphql.client.typesafe.impl.json;
 
-import static io.smallrye.graphql.client.typesafe.impl.json.JsonUtils.isListOf;
+import static io.smallrye.graphql.client.typesafe.impl.json.JsonUtils.skipValue;
 import static java.util.stream.Collectors.toList;
 
+import java.io.StringReader;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
-import javax.json.JsonArray;
+import javax.json.Json;
 import javax.json.JsonNumber;
 import javax.json.JsonObject;
 import javax.json.JsonString;
 import javax.json.JsonValue;
+import javax.json.stream.JsonParser;
+import javax.json.stream.JsonParser.Event;
+import javax.json.stream.JsonParserFactory;
 
 import io.smallrye.graphql.client.typesafe.api.ErrorOr;
 import io.smallrye.graphql.client.typesafe.api.GraphQlClientError;
 import io.smallrye.graphql.client.typesafe.api.GraphQlClientException;
+import io.smallrye.graphql.client.typesafe.impl.reflection.FieldInfo;
 import io.smallrye.graphql.client.typesafe.impl.reflection.TypeInfo;
 
-public class JsonReader extends Reader<JsonValue> {
-    public static Object readJson(String description, TypeInfo type, JsonValue value) {
-        return readJson(new Location(type, description), type, value);
+public class JsonReader extends Reader<JsonParser> {
+    private static final JsonParserFactory PARSER_FACTORY = Json.createParserFactory(null);
+
+    /**
+     * Read the value the parser is at
+     *
+     * @param name the name of the value in the response data, i.e. the first element of the error paths
+     * @param event the event the parser is at, i.e. the start of the value
+     * @param errors the errors from the service by path (see {@link JsonUtils#pathKey})
+     */
+    public static Object readJson(String description, String name, TypeInfo type, JsonParser parser, Event event,
+            Map<String, List<JsonObject>> errors) {
+        return readJson(new Location(type, description, name, errors), type, parser, event);
+    }
+
+    static Object readJson(Location location, TypeInfo type, JsonParser parser, Event event) {
+        return new JsonReader(type, location, parser, event).read();
+    }
+
+    /**
+     * The errors of the service came after the data, so they could not be applied while reading.
+     * Fail like reading would have, if one of them is for a value that we have read.
+     * Only for types that don't {@link TypeInfo#containsErrorOr() contain an ErrorOr}.
+     */
+    public static void checkLateErrors(String description, String name, TypeInfo type,
+            Map<String, List<JsonObject>> errors) {
+        for (Map.Entry<String, List<JsonObject>> entry : errors.entrySet()) {
+            Location location = resolve(new Location(type, description), name, entry.getKey().split("/"));
+            if (location != null && !GraphQlClientError.class.isAssignableFrom(location.getType().getRawType()))
+                throw cantApplyErrors(location, readGraphQlClientErrors(location, entry.getValue()));
+        }
+    }
+
+    private static Location resolve(Location location, String name, String[] path) {
+        if (!path[0].equals(name))
+            return null;
+        for (int i = 1; i < path.length; i++) {
+            TypeInfo type = location.getType();
+            while (type.isOptional())
+                type = type.getItemType();
+            if (type.isCollection() && path[i].chars().allMatch(Character::isDigit)) {
+                location = new Location(type.getItemType(), location.getDescription() + "[" + path[i] + "]");
+            } else {
+                FieldInfo field = findField(type, path[i]);
+                if (field == null)
+                    return null;
+                location = new Location(field.getType(), location.getDescription() + "." + field.getName());
+            }
+        }
+        return location;
     }
 
-    static Object readJson(Location location, TypeInfo type, JsonValue value) {
-        return new JsonReader(type, location, value).read();
+    private static FieldInfo findField(TypeInfo type, String name) {
+        if (type.isCollection() || type.isScalar())
+            return null;
+        return type.fields().filter(field -> field.getName().equals(name)).findFirst().orElse(null);
     }
 
-    private JsonReader(TypeInfo type, Location location, JsonValue value) {
-        super(type, location, value);
+    private final Event event;
+
+    private JsonReader(TypeInfo type, Location location, JsonParser parser, Event event) {
+        super(type, location, parser);
+        this.event = event;
     }
 
     @Override
     Object read() {
         if (type.isOptional())
-            return Optional.ofNullable(readJson(location, type.getItemType(), value));
+            return Optional.ofNullable(readJson(location, type.getItemType(), value, event));
+        List<JsonObject> errors = location.getErrors();
         if (type.isErrorOr())
-            return readErrorOr();
-        if (isListOfErrors(value) && !isGraphQlErrorsType())
-            throw cantApplyErrors(readGraphQlClientErrors());
+            return readErrorOr(errors);
+        if (!errors.isEmpty() && !isGraphQlErrorsType()) {
+            skipValue(value, event);
+            throw cantApplyErrors(location, readGraphQlClientErrors(location, errors));
+        }
         return reader(location).read();
     }
 
-    private ErrorOr<Object> readErrorOr() {
-        if (isListOfErrors(value))
-            return ErrorOr.ofErrors(readGraphQlClientErrors());
-        return ErrorOr.of(readJson(location, type.getItemType(), value));
+    private ErrorOr<Object> readErrorOr(List<JsonObject> errors) {
+        if (!errors.isEmpty()) {
+            skipValue(value, event);
+            return ErrorOr.ofErrors(readGraphQlClientErrors(location, errors));
+        }
+        return ErrorOr.of(readJson(location, type.getItemType(), value, event));
     }
 
-    private List<GraphQlClientError> readGraphQlClientErrors() {
-        return value.asJsonArray().stream()
-                .map(item -> (GraphQlClientError) readJson(location, TypeInfo.of(GraphQlClientErrorImpl.class), item))
+    private static List<GraphQlClientError> readGraphQlClientErrors(Location location, List<JsonObject> errors) {
+        TypeInfo errorType = TypeInfo.of(GraphQlClientErrorImpl.class);
+        Location errorLocation = new Location(errorType, location.getDescription());
+        return errors.stream()
+                .map(error -> {
+                    JsonParser parser = PARSER_FACTORY.createParser(new StringReader(error.toString()));
+                    return (GraphQlClientError) readJson(errorLocation, errorType, parser, parser.next());
+                })
                 .collect(toList());
     }
 
-    private boolean isListOfErrors(JsonValue jsonValue) {
-        return isListOf(jsonValue, ErrorOr.class.getSimpleName());
-    }
-
     private boolean isGraphQlErrorsType() {
         return GraphQlClientError.class.isAssignableFrom(type.getRawType());
     }
 
-    private GraphQlClientException cantApplyErrors(List<GraphQlClientError> errors) {
+    private static GraphQlClientException cantApplyErrors(Location location, List<GraphQlClientError> errors) {
         return new GraphQlClientException("errors from service (and we can't apply them to a " + location + "; see ErrorOr)",
                 errors);
     }
 
     private Reader<?> reader(Location location) {
-        switch (value.getValueType()) {
-            case ARRAY:
-                return new JsonArrayReader(type, location, (JsonArray) value);
-            case OBJECT:
-                return new JsonObjectReader(type, location, (JsonObject) value);
-            case STRING:
-                return new JsonStringReader(type, location, (JsonString) value);
-            case NUMBER:
-                return new JsonNumberReader(type, location, (JsonNumber) value);
-            case TRUE:
-            case FALSE:
-                return new JsonBooleanReader(type, location, value);
-            case NULL:
-                return new JsonNullReader(type, location, value);
+        switch (event) {
+            case START_ARRAY:
+                return new JsonArrayReader(type, location, value);
+            case START_OBJECT:
+                return new JsonObjectReader(type, location, value);
+            case VALUE_STRING:
+                return new JsonStringReader(type, location, (JsonString) value.getValue());
+            case VALUE_NUMBER:
+                return new JsonNumberReader(type, location, (JsonNumber) value.getValue());
+            case VALUE_TRUE:
+                return new JsonBooleanReader(type, location, JsonValue.TRUE);
+            case VALUE_FALSE:
+                return new JsonBooleanReader(type, location, JsonValue.FALSE);
+            case VALUE_NULL:
+                return new JsonNullReader(type, location, JsonValue.NULL);
+            default:
+                throw new GraphQlClientException("unexpected " + event + " for " + location);
         }
-        throw new GraphQlClientException("unreachable code");
     }
 }
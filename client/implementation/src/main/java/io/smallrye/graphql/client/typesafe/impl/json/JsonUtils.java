@@ -1,7 +1,6 @@
 package io.smallrye.graphql.client.typesafe.impl.json;
 
-import static javax.json.JsonValue.ValueType.ARRAY;
-import static javax.json.JsonValue.ValueType.OBJECT;
+import static java.util.stream.Collectors.joining;
 
 import java.util.LinkedHashMap;
 import java.util.Map;
@@ -13,6 +12,8 @@ import javax.json.JsonNumber;
 import javax.json.JsonObject;
 import javax.json.JsonString;
 import javax.json.JsonValue;
+import javax.json.stream.JsonParser;
+import javax.json.stream.JsonParser.Event;
 
 public class JsonUtils {
     public static Object toValue(JsonValue value) {
@@ -46,10 +47,18 @@ public class JsonUtils {
         return map;
     }
 
-    public static boolean isListOf(JsonValue jsonValue, String typename) {
-        return jsonValue.getValueType() == ARRAY &&
-                jsonValue.asJsonArray().size() > 0 &&
-                jsonValue.asJsonArray().get(0).getValueType() == OBJECT &&
-                typename.equals(jsonValue.asJsonArray().get(0).asJsonObject().getString("__typename", null));
+    /** The key of an error <code>path</code> (like <code>["teams", 1, "name"]</code>) to look up the errors of a location */
+    public static String pathKey(JsonArray path) {
+        return path.stream()
+                .map(element -> (element instanceof JsonString) ? ((JsonString) element).getString() : element.toString())
+                .collect(joining("/"));
+    }
+
+    /** Skip the value that starts with the <code>event</code> the parser is at */
+    public static void skipValue(JsonParser parser, Event event) {
+        if (event == Event.START_OBJECT)
+            parser.skipObject();
+        else if (event == Event.START_ARRAY)
+            parser.skipArray();
     }
 }
@@ -1,14 +1,43 @@
 package io.smallrye.graphql.client.typesafe.impl.json;
 
+import static java.util.Collections.emptyList;
+import static java.util.Collections.emptyMap;
+
+import java.util.List;
+import java.util.Map;
+
+import javax.json.JsonObject;
+
 import io.smallrye.graphql.client.typesafe.impl.reflection.TypeInfo;
 
 class Location {
     private final TypeInfo type;
     private final String description;
+    private final Location parent;
+    private final Object pathElement;
+    /** The errors from the service by path (see {@link JsonUtils#pathKey}), shared by all locations of a response */
+    private final Map<String, List<JsonObject>> errors;
 
     public Location(TypeInfo type, String description) {
+        this(type, description, null, null, emptyMap());
+    }
+
+    Location(TypeInfo type, String description, Object pathElement, Map<String, List<JsonObject>> errors) {
+        this(type, description, null, pathElement, errors);
+    }
+
+    private Location(TypeInfo type, String description, Location parent, Object pathElement,
+            Map<String, List<JsonObject>> errors) {
         this.type = type;
         this.description = description;
+        this.parent = parent;
+        this.pathElement = pathElement;
+        this.errors = errors;
+    }
+
+    /** The location of a field or item (<code>pathElement</code> is the name or index) in this location */
+    Location child(TypeInfo type, String description, Object pathElement) {
+        return new Location(type, description, this, pathElement, errors);
     }
 
     @Override
@@ -23,4 +52,15 @@ class Location {
     public String getDescription() {
         return this.description;
     }
+
+    /** The errors from the service for exactly this location */
+    List<JsonObject> getErrors() {
+        if (errors.isEmpty() || pathElement == null)
+            return emptyList();
+        return errors.getOrDefault(getPath(), emptyList());
+    }
+
+    private String getPath() {
+        return (parent == null) ? String.valueOf(pathElement) : parent.getPath() + "/" + pathElement;
+    }
 }
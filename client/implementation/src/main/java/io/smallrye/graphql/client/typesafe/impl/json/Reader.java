@@ -2,11 +2,13 @@ package io.smallrye.graphql.client.typesafe.impl.json;
 
 import static java.util.Objects.requireNonNull;
 
-import javax.json.JsonValue;
-
 import io.smallrye.graphql.client.typesafe.impl.reflection.TypeInfo;
 
-abstract class Reader<T extends JsonValue> {
+/**
+ * Reads a value of the response. Scalars get their <code>JsonValue</code>, objects and arrays the
+ * <code>JsonParser</code> at their start, so they are read without building a tree.
+ */
+abstract class Reader<T> {
     protected final TypeInfo type;
     protected final Location location;
     protected final T value;
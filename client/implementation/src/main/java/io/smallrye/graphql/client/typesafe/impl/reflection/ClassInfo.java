@@ -0,0 +1,218 @@
+package io.smallrye.graphql.client.typesafe.impl.reflection;
+
+import static java.lang.invoke.MethodType.methodType;
+import static java.lang.reflect.Modifier.isStatic;
+import static java.lang.reflect.Modifier.isTransient;
+import static java.util.Collections.unmodifiableList;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.security.AccessController;
+import java.security.PrivilegedAction;
+import java.security.PrivilegedActionException;
+import java.security.PrivilegedExceptionAction;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+import org.eclipse.microprofile.graphql.Name;
+import org.eclipse.microprofile.graphql.NonNull;
+
+/**
+ * The reflective metadata of a class, that doesn't depend on where the class is used.
+ * It's resolved once and cached with a {@link ClassValue}, so we don't keep classes or their class loaders alive.
+ */
+class ClassInfo {
+    private static final ClassValue<ClassInfo> CLASS_INFOS = new ClassValue<ClassInfo>() {
+        @Override
+        protected ClassInfo computeValue(Class<?> type) {
+            return new ClassInfo(type);
+        }
+    };
+
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+    static ClassInfo of(Class<?> type) {
+        return CLASS_INFOS.get(type);
+    }
+
+    private final Class<?> type;
+    private final TypeInfo typeInfo;
+    private final Map<Method, String> keys = new ConcurrentHashMap<>();
+    private final Map<Method, TypeInfo> returnTypes = new ConcurrentHashMap<>();
+    private volatile List<FieldAccessor> fields;
+    private volatile Optional<ConstructionInfo> scalarConstructor;
+    private volatile MethodHandle noArgsConstructor;
+
+    private ClassInfo(Class<?> type) {
+        this.type = type;
+        this.typeInfo = new TypeInfo(null, type);
+    }
+
+    /** The {@link TypeInfo} of the class itself, i.e. not in a container */
+    TypeInfo getTypeInfo() {
+        return typeInfo;
+    }
+
+    /** The key of a method declared in this class, e.g. to cache the query it maps to */
+    String getKey(Method method) {
+        return keys.computeIfAbsent(method, Method::toGenericString);
+    }
+
+    /** The return type of a method declared in this class */
+    TypeInfo getReturnType(Method method) {
+        return returnTypes.computeIfAbsent(method,
+                m -> new TypeInfo(typeInfo, m.getGenericReturnType(), m.getAnnotatedReturnType()));
+    }
+
+    /** The GraphQL fields, including those of the super classes */
+    List<FieldAccessor> getFields() {
+        if (fields == null) {
+            List<FieldAccessor> list = new ArrayList<>();
+            collectFields(type, list);
+            fields = unmodifiableList(list);
+        }
+        return fields;
+    }
+
+    private static void collectFields(Class<?> type, List<FieldAccessor> list) {
+        if (type == null)
+            return;
+        collectFields(type.getSuperclass(), list);
+        for (Field field : getDeclaredFields(type))
+            if (isGraphQlField(field))
+                list.add(new FieldAccessor(field));
+    }
+
+    private static Field[] getDeclaredFields(Class<?> type) {
+        if (System.getSecurityManager() == null)
+            return type.getDeclaredFields();
+        return AccessController.doPrivileged((PrivilegedAction<Field[]>) type::getDeclaredFields);
+    }
+
+    private static boolean isGraphQlField(Field field) {
+        return !isStatic(field.getModifiers()) && !isSynthetic(field.getModifiers()) && !isTransient(field.getModifiers());
+    }
+
+    /** Modifier.isSynthetic is package private */
+    private static boolean isSynthetic(int mod) {
+        return (mod & 0x00001000) != 0;
+    }
+
+    /** A static <code>of</code>, <code>valueOf</code>, or <code>parse</code> method taking a String */
+    Optional<ConstructionInfo> getScalarConstructor() {
+        if (scalarConstructor == null) {
+            scalarConstructor = Stream.of(type.getMethods())
+                    .filter(this::isStaticStringConstructor)
+                    .findFirst()
+                    .map(ConstructionInfo::new);
+        }
+        return scalarConstructor;
+    }
+
+    private boolean isStaticStringConstructor(Method method) {
+        return isStaticConstructorMethodNamed(method, "of")
+                || isStaticConstructorMethodNamed(method, "valueOf")
+                || isStaticConstructorMethodNamed(method, "parse");
+    }
+
+    private boolean isStaticConstructorMethodNamed(Method method, String name) {
+        return method.getName().equals(name)
+                && Modifier.isStatic(method.getModifiers())
+                && method.getReturnType().equals(type)
+                && method.getParameterCount() == 1
+                && CharSequence.class.isAssignableFrom(method.getParameterTypes()[0]);
+    }
+
+    Object newInstance() throws ReflectiveOperationException {
+        if (noArgsConstructor == null) {
+            Constructor<?> constructor = getDeclaredConstructor();
+            constructor.setAccessible(true);
+            noArgsConstructor = LOOKUP.unreflectConstructor(constructor).asType(methodType(Object.class));
+        }
+        try {
+            return noArgsConstructor.invokeExact();
+        } catch (RuntimeException | Error | ReflectiveOperationException e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new ReflectiveOperationException(e);
+        }
+    }
+
+    private Constructor<?> getDeclaredConstructor() throws NoSuchMethodException {
+        if (System.getSecurityManager() == null) {
+            return type.getDeclaredConstructor();
+        }
+        try {
+            return AccessController.doPrivileged((PrivilegedExceptionAction<Constructor<?>>) type::getDeclaredConstructor);
+        } catch (PrivilegedActionException pae) {
+            if (pae.getCause() instanceof NoSuchMethodException) {
+                throw (NoSuchMethodException) pae.getCause();
+            }
+            throw new RuntimeException(pae.getCause());
+        }
+    }
+
+    /** A field with method handles to get and set it */
+    static class FieldAccessor {
+        private static final MethodHandle FIELD_SET;
+
+        static {
+            try {
+                FIELD_SET = LOOKUP.findVirtual(Field.class, "set", methodType(void.class, Object.class, Object.class));
+            } catch (ReflectiveOperationException e) {
+                throw new ExceptionInInitializerError(e);
+            }
+        }
+
+        private final Field field;
+        private final String name;
+        private final boolean nonNull;
+        private MethodHandle getter;
+        private MethodHandle setter;
+
+        private FieldAccessor(Field field) {
+            this.field = field;
+            this.name = field.isAnnotationPresent(Name.class) ? field.getAnnotation(Name.class).value() : field.getName();
+            this.nonNull = field.isAnnotationPresent(NonNull.class);
+        }
+
+        Field getField() {
+            return field;
+        }
+
+        String getName() {
+            return name;
+        }
+
+        boolean isNonNullAnnotated() {
+            return nonNull;
+        }
+
+        Object get(Object instance) throws Throwable {
+            if (getter == null) {
+                field.setAccessible(true);
+                getter = LOOKUP.unreflectGetter(field).asType(methodType(Object.class, Object.class));
+            }
+            return getter.invokeExact(instance);
+        }
+
+        void set(Object instance, Object value) throws Throwable {
+            if (setter == null) {
+                field.setAccessible(true);
+                setter = Modifier.isFinal(field.getModifiers())
+                        // method handles can't set final fields, but reflection can
+                        ? FIELD_SET.bindTo(field)
+                        : LOOKUP.unreflectSetter(field).asType(methodType(void.class, Object.class, Object.class));
+            }
+            setter.invokeExact(instance, value);
+        }
+    }
+}
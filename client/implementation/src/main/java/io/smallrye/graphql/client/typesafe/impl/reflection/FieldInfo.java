@@ -1,56 +1,55 @@
 package io.smallrye.graphql.client.typesafe.impl.reflection;
 
-import java.lang.reflect.Field;
-
-import org.eclipse.microprofile.graphql.Name;
-import org.eclipse.microprofile.graphql.NonNull;
-
 import io.smallrye.graphql.client.typesafe.api.GraphQlClientException;
+import io.smallrye.graphql.client.typesafe.impl.reflection.ClassInfo.FieldAccessor;
 
 public class FieldInfo {
     private final TypeInfo container;
-    private final Field field;
+    private final FieldAccessor field;
+    private TypeInfo type;
 
-    FieldInfo(TypeInfo container, Field field) {
+    FieldInfo(TypeInfo container, FieldAccessor field) {
         this.container = container;
         this.field = field;
     }
 
     @Override
     public String toString() {
-        return "field '" + field.getName() + "' in " + container;
+        return "field '" + field.getField().getName() + "' in " + container;
     }
 
     public TypeInfo getType() {
-        return new TypeInfo(container, field.getGenericType());
+        if (type == null)
+            type = new TypeInfo(container, field.getField().getGenericType());
+        return type;
     }
 
     public String getName() {
-        if (field.isAnnotationPresent(Name.class))
-            return field.getAnnotation(Name.class).value();
         return field.getName();
     }
 
     public Object get(Object instance) {
         try {
-            field.setAccessible(true);
             return field.get(instance);
-        } catch (ReflectiveOperationException e) {
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
             throw new GraphQlClientException("can't get field " + this, e); // TODO test with static?
         }
     }
 
     public void set(Object instance, Object value) {
         try {
-            field.setAccessible(true);
             field.set(instance, value);
-        } catch (ReflectiveOperationException e) {
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
             // this code is unreachable: setAccessible also allows to change `final` fields
             throw new GraphQlClientException("can't set field " + this + " to " + value, e); // TODO test with static
         }
     }
 
     public boolean isNonNull() {
-        return field.isAnnotationPresent(NonNull.class) || getType().isPrimitive();
+        return field.isNonNullAnnotated() || getType().isPrimitive();
     }
 }
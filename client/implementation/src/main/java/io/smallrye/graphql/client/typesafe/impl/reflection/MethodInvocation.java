@@ -24,7 +24,7 @@ import io.smallrye.graphql.client.typesafe.impl.CollectionUtils;
 
 public class MethodInvocation {
     public static MethodInvocation of(Method method, Object... args) {
-        return new MethodInvocation(new TypeInfo(null, method.getDeclaringClass()), method, args);
+        return new MethodInvocation(TypeInfo.of(method.getDeclaringClass()), method, args);
     }
 
     private final TypeInfo type;
@@ -43,7 +43,7 @@ public class MethodInvocation {
     }
 
     public String getKey() {
-        return method.toGenericString();
+        return ClassInfo.of(method.getDeclaringClass()).getKey(method);
     }
 
     public boolean isQuery() {
@@ -79,8 +79,22 @@ public class MethodInvocation {
         return Optional.ofNullable(method.getAnnotation(type));
     }
 
+    /** The type of the result, i.e. without the <code>CompletionStage</code> or <code>Uni</code> of async methods */
     public TypeInfo getReturnType() {
-        return new TypeInfo(type, method.getGenericReturnType(), method.getAnnotatedReturnType());
+        TypeInfo returnType = getDeclaredReturnType();
+        return returnType.isAsync() ? returnType.getItemType() : returnType;
+    }
+
+    public boolean isAsync() {
+        return getDeclaredReturnType().isAsync();
+    }
+
+    public boolean returnsUni() {
+        return getDeclaredReturnType().isUni();
+    }
+
+    private TypeInfo getDeclaredReturnType() {
+        return ClassInfo.of(method.getDeclaringClass()).getReturnType(method);
     }
 
     public boolean hasValueParameters() {
@@ -1,26 +1,25 @@
 package io.smallrye.graphql.client.typesafe.impl.reflection;
 
-import static java.lang.reflect.Modifier.isStatic;
-import static java.lang.reflect.Modifier.isTransient;
 import static java.util.Objects.requireNonNull;
+import static java.util.stream.Collectors.toList;
 
 import java.lang.annotation.Annotation;
 import java.lang.reflect.AnnotatedParameterizedType;
 import java.lang.reflect.AnnotatedType;
-import java.lang.reflect.Constructor;
-import java.lang.reflect.Executable;
-import java.lang.reflect.Field;
 import java.lang.reflect.Method;
-import java.lang.reflect.Modifier;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
 import java.lang.reflect.TypeVariable;
 import java.security.AccessController;
-import java.security.PrivilegedAction;
 import java.security.PrivilegedActionException;
 import java.security.PrivilegedExceptionAction;
 import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletionStage;
 import java.util.function.Predicate;
 import java.util.stream.Stream;
 import java.util.stream.Stream.Builder;
@@ -31,14 +30,21 @@ import io.smallrye.graphql.client.typesafe.api.ErrorOr;
 import io.smallrye.graphql.client.typesafe.api.GraphQlClientException;
 
 public class TypeInfo {
+    private static final String UNI = "io.smallrye.mutiny.Uni";
+
     private final TypeInfo container;
     private final Type type; // TODO only use annotatedType
     private final AnnotatedType annotatedType;
 
     private TypeInfo itemType;
     private Class<?> rawType;
+    private volatile List<FieldInfo> fields;
+    private Boolean containsErrorOr;
 
+    /** The type info of plain classes is cached, so their fields, constructors, etc. are only looked up once */
     public static TypeInfo of(Type type) {
+        if (type instanceof Class)
+            return ClassInfo.of((Class<?>) type).getTypeInfo();
         return new TypeInfo(null, type);
     }
 
@@ -107,40 +113,48 @@ public class TypeInfo {
     }
 
     public Stream<FieldInfo> fields() {
-        return fields(getRawType());
+        if (fields == null)
+            fields = ClassInfo.of(getRawType()).getFields().stream()
+                    .map(field -> new FieldInfo(this, field))
+                    .collect(toList());
+        return fields.stream();
     }
 
-    private Stream<FieldInfo> fields(Class<?> rawType) {
-        return (rawType == null) ? Stream.of()
-                : Stream.concat(
-                        fields(rawType.getSuperclass()),
-                        Stream.of(getDeclaredFields(rawType))
-                                .filter(this::isGraphQlField)
-                                .map(field -> new FieldInfo(this, field)));
+    public boolean isOptional() {
+        return Optional.class.equals(getRawType());
     }
 
-    private Field[] getDeclaredFields(Class<?> type) {
-        if (System.getSecurityManager() == null)
-            return type.getDeclaredFields();
-        return AccessController.doPrivileged((PrivilegedAction<Field[]>) type::getDeclaredFields);
+    /** A <code>CompletionStage</code> or Mutiny <code>Uni</code> of the actual result */
+    public boolean isAsync() {
+        return CompletionStage.class.equals(getRawType()) || isUni();
     }
 
-    private boolean isGraphQlField(Field field) {
-        return !isStatic(field.getModifiers()) && !isSynthetic(field.getModifiers()) && !isTransient(field.getModifiers());
+    public boolean isUni() {
+        return UNI.equals(getRawType().getName());
     }
 
-    /** Modifier.isSynthetic is package private */
-    private static boolean isSynthetic(int mod) {
-        return (mod & 0x00001000) != 0;
+    // this will be generalized to isUnionType or so
+    public boolean isErrorOr() {
+        return ErrorOr.class.equals(getRawType());
     }
 
-    public boolean isOptional() {
-        return Optional.class.equals(getRawType());
+    /** This type or (recursively) one of its items or fields is an <code>ErrorOr</code> */
+    public boolean containsErrorOr() {
+        if (containsErrorOr == null)
+            containsErrorOr = containsErrorOr(new HashSet<>());
+        return containsErrorOr;
     }
 
-    // this will be generalized to isUnionType or so
-    public boolean isErrorOr() {
-        return ErrorOr.class.equals(getRawType());
+    private boolean containsErrorOr(Set<Type> visited) {
+        if (isErrorOr())
+            return true;
+        if (!visited.add(type))
+            return false;
+        if (isOptional() || isCollection())
+            return getItemType().containsErrorOr(visited);
+        if (isScalar() || Map.class.isAssignableFrom(getRawType()))
+            return false;
+        return fields().anyMatch(field -> field.getType().containsErrorOr(visited));
     }
 
     public boolean isScalar() {
@@ -164,53 +178,20 @@ public class TypeInfo {
     }
 
     public Optional<ConstructionInfo> scalarConstructor() {
-        return Stream.of(getRawType().getMethods())
-                .filter(this::isStaticStringConstructor)
-                .findFirst()
-                .map(ConstructionInfo::new);
-    }
-
-    private boolean isStaticStringConstructor(Method method) {
-        return isStaticConstructorMethodNamed(method, "of")
-                || isStaticConstructorMethodNamed(method, "valueOf")
-                || isStaticConstructorMethodNamed(method, "parse");
-    }
-
-    private boolean isStaticConstructorMethodNamed(Method method, String name) {
-        return method.getName().equals(name)
-                && Modifier.isStatic(method.getModifiers())
-                && method.getReturnType().equals(type)
-                && hasOneStringParameter(method);
-    }
-
-    private boolean hasOneStringParameter(Executable executable) {
-        return executable.getParameterCount() == 1 && CharSequence.class.isAssignableFrom(executable.getParameterTypes()[0]);
+        // the static constructor method has to return exactly this type, so generic types never have one
+        if (!(type instanceof Class))
+            return Optional.empty();
+        return ClassInfo.of((Class<?>) type).getScalarConstructor();
     }
 
     public Object newInstance() {
         try {
-            Constructor<?> noArgsConstructor = getDeclaredConstructor(getRawType());
-            noArgsConstructor.setAccessible(true);
-            return noArgsConstructor.newInstance();
+            return ClassInfo.of(getRawType()).newInstance();
         } catch (ReflectiveOperationException e) {
             throw new RuntimeException("can't instantiate " + type, e);
         }
     }
 
-    private Constructor<?> getDeclaredConstructor(Class<?> type) throws NoSuchMethodException {
-        if (System.getSecurityManager() == null) {
-            return type.getDeclaredConstructor();
-        }
-        try {
-            return AccessController.doPrivileged((PrivilegedExceptionAction<Constructor<?>>) type::getDeclaredConstructor);
-        } catch (PrivilegedActionException pae) {
-            if (pae.getCause() instanceof NoSuchMethodException) {
-                throw (NoSuchMethodException) pae.getCause();
-            }
-            throw new RuntimeException(pae.getCause());
-        }
-    }
-
     public String getSimpleName() {
         if (type instanceof Class)
             return ((Class<?>) type).getSimpleName();
@@ -234,7 +215,7 @@ public class TypeInfo {
     }
 
     public TypeInfo getItemType() {
-        assert isCollection() || isOptional() || isErrorOr();
+        assert isCollection() || isOptional() || isErrorOr() || isAsync();
         if (itemType == null)
             itemType = new TypeInfo(this, computeItemType(), computeAnnotatedItemType());
         return this.itemType;
@@ -0,0 +1,99 @@
+package test.unit;
+
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.assertj.core.api.BDDAssertions.then;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+
+import javax.ws.rs.core.Response;
+
+import org.junit.jupiter.api.Test;
+
+import io.smallrye.graphql.client.typesafe.api.GraphQlClientApi;
+import io.smallrye.graphql.client.typesafe.api.GraphQlClientException;
+import io.smallrye.mutiny.Uni;
+
+class AsyncBehavior {
+    private final GraphQlClientFixture fixture = new GraphQlClientFixture();
+
+    @GraphQlClientApi
+    interface CompletionStageApi {
+        CompletionStage<String> greeting();
+
+        CompletionStage<List<Greeting>> greetings();
+    }
+
+    private static class Greeting {
+        String text;
+    }
+
+    @GraphQlClientApi
+    interface UniApi {
+        Uni<String> greeting();
+    }
+
+    @Test
+    void shouldCallCompletionStageQuery() {
+        fixture.holdAsyncCalls();
+        fixture.returnsData("'greeting':'dummy-greeting'");
+        CompletionStageApi api = fixture.build(CompletionStageApi.class);
+
+        CompletableFuture<String> greeting = api.greeting().toCompletableFuture();
+
+        then(greeting).isNotDone();
+        fixture.completeAsyncCall();
+        then(fixture.query()).isEqualTo("query greeting { greeting }");
+        then(greeting).isCompletedWithValue("dummy-greeting");
+    }
+
+    @Test
+    void shouldCallCompletionStageOfObjectsQuery() {
+        fixture.returnsData("'greetings':[{'text':'a'},{'text':'b'}]");
+        CompletionStageApi api = fixture.build(CompletionStageApi.class);
+
+        List<Greeting> greetings = api.greetings().toCompletableFuture().join();
+
+        then(fixture.query()).isEqualTo("query greetings { greetings {text} }");
+        then(greetings).extracting(greeting -> greeting.text).containsExactly("a", "b");
+    }
+
+    @Test
+    void shouldFailCompletionStageOnError() {
+        fixture.returns(Response.status(Response.Status.INTERNAL_SERVER_ERROR).entity("failed"));
+        CompletionStageApi api = fixture.build(CompletionStageApi.class);
+
+        Throwable thrown = catchThrowable(() -> api.greeting().toCompletableFuture().join());
+
+        then(thrown).isInstanceOf(CompletionException.class)
+                .hasCauseInstanceOf(GraphQlClientException.class);
+    }
+
+    @Test
+    void shouldFailCompletionStageWhenRequestFails() {
+        fixture.holdAsyncCalls();
+        CompletionStageApi api = fixture.build(CompletionStageApi.class);
+
+        CompletableFuture<String> greeting = api.greeting().toCompletableFuture();
+        fixture.failAsyncCall(new IOException("connection refused"));
+
+        then(greeting).isCompletedExceptionally();
+        then(catchThrowable(greeting::join)).hasCauseInstanceOf(IOException.class);
+    }
+
+    @Test
+    void shouldCallUniQueryOnSubscription() {
+        fixture.returnsData("'greeting':'dummy-greeting'");
+        UniApi api = fixture.build(UniApi.class);
+
+        Uni<String> greeting = api.greeting();
+
+        then(fixture.asyncCallSent()).isFalse();
+        then(greeting.await().atMost(Duration.ofSeconds(5))).isEqualTo("dummy-greeting");
+        then(fixture.query()).isEqualTo("query greeting { greeting }");
+    }
+}
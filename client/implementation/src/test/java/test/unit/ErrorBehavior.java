@@ -386,4 +386,48 @@ class ErrorBehavior {
         then(error.getPath()).containsExactly("find", "findTeams");
         then(error.getErrorCode()).isEqualTo("team-search-disabled");
     }
+
+    @Test
+    void shouldFetchErrorOrAbsentWhenErrorsComeFirst() {
+        fixture.returns(Response.ok("{" +
+                "\"errors\":[{" +
+                /**/"\"message\":\"currently can't search for teams\"," +
+                /**/"\"path\": [\"find\",\"findTeams\"]," +
+                /**/"\"extensions\":{\"code\":\"team-search-disabled\"}" +
+                "}]," +
+                "\"data\":{\"find\":{\"findHeroes\":[{\"name\":\"Wolverine\"}],\"findTeams\":null}}}"));
+        SuperHeroWrappedApi api = fixture.build(SuperHeroWrappedApi.class);
+
+        Wrapper response = api.find();
+
+        then(response.superHeroes.get(0).get().name).isEqualTo("Wolverine");
+        then(response.teams.isError()).isTrue();
+        then(response.teams.getErrors()).hasSize(1);
+        GraphQlClientError error = response.teams.getErrors().get(0);
+        then(error.getMessage()).isEqualTo("currently can't search for teams");
+        then(error.getPath()).containsExactly("find", "findTeams");
+        then(error.getErrorCode()).isEqualTo("team-search-disabled");
+    }
+
+    @Test
+    void shouldFetchErrorOrOfListItem() {
+        fixture.returns(Response.ok("{" +
+                "\"errors\":[{" +
+                /**/"\"message\":\"can't find that hero\"," +
+                /**/"\"path\": [\"find\",\"findHeroes\",1]," +
+                /**/"\"extensions\":{\"code\":\"hero-missing\"}" +
+                "}]," +
+                "\"data\":{\"find\":{\"findHeroes\":[{\"name\":\"Wolverine\"},null,{\"name\":\"Storm\"}]," +
+                "\"findTeams\":[]}}}"));
+        SuperHeroWrappedApi api = fixture.build(SuperHeroWrappedApi.class);
+
+        Wrapper response = api.find();
+
+        then(response.superHeroes).hasSize(3);
+        then(response.superHeroes.get(0).get().name).isEqualTo("Wolverine");
+        then(response.superHeroes.get(1).isError()).isTrue();
+        then(response.superHeroes.get(1).getErrors().get(0).getErrorCode()).isEqualTo("hero-missing");
+        then(response.superHeroes.get(2).get().name).isEqualTo("Storm");
+        then(response.teams.get()).isEmpty();
+    }
 }
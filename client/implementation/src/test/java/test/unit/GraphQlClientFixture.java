@@ -1,17 +1,24 @@
 package test.unit;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
 
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
 import java.io.StringReader;
 import java.net.URI;
 
 import javax.json.Json;
 import javax.json.JsonObject;
+import javax.ws.rs.client.AsyncInvoker;
 import javax.ws.rs.client.Client;
 import javax.ws.rs.client.Entity;
 import javax.ws.rs.client.Invocation;
+import javax.ws.rs.client.InvocationCallback;
 import javax.ws.rs.client.WebTarget;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.MultivaluedHashMap;
@@ -29,14 +36,26 @@ class GraphQlClientFixture {
     private final Client mockClient = mock(Client.class);
     private final WebTarget mockWebTarget = mock(WebTarget.class);
     private final Invocation.Builder mockInvocationBuilder = mock(Invocation.Builder.class);
+    private final AsyncInvoker mockAsyncInvoker = mock(AsyncInvoker.class);
     private Response response;
     private Entity<JsonObject> entitySent;
+    private Entity<String> asyncEntitySent;
+    private InvocationCallback<Response> pendingCallback;
+    private boolean completeAsync = true;
 
     GraphQlClientFixture() {
         given(mockClient.target(any(URI.class))).willReturn(mockWebTarget);
         given(mockWebTarget.request(any(MediaType.class))).willReturn(mockInvocationBuilder);
         given(mockInvocationBuilder.headers(any())).willReturn(mockInvocationBuilder);
         given(mockInvocationBuilder.post(any())).will(i -> response);
+        given(mockInvocationBuilder.async()).willReturn(mockAsyncInvoker);
+        given(mockAsyncInvoker.post(any(), any(InvocationCallback.class))).will(i -> {
+            asyncEntitySent = i.getArgument(0);
+            pendingCallback = i.getArgument(1);
+            if (completeAsync)
+                completeAsyncCall();
+            return null;
+        });
     }
 
     public <T> T build(Class<T> apiClass) {
@@ -58,7 +77,31 @@ class GraphQlClientFixture {
     }
 
     void returns(ResponseBuilder response) {
-        this.response = response.build();
+        Response built = response.build();
+        if (built.getEntity() instanceof String) {
+            // a real client reads the entity from the stream
+            byte[] bytes = ((String) built.getEntity()).getBytes(UTF_8);
+            built = spy(built);
+            willAnswer(i -> new ByteArrayInputStream(bytes)).given(built).readEntity(InputStream.class);
+        }
+        this.response = built;
+    }
+
+    /** Don't answer async requests before {@link #completeAsyncCall()} is called */
+    void holdAsyncCalls() {
+        this.completeAsync = false;
+    }
+
+    void completeAsyncCall() {
+        pendingCallback.completed(response);
+    }
+
+    void failAsyncCall(Throwable throwable) {
+        pendingCallback.failed(throwable);
+    }
+
+    boolean asyncCallSent() {
+        return pendingCallback != null;
     }
 
     String variables() {
@@ -79,6 +122,10 @@ class GraphQlClientFixture {
     }
 
     private Entity<JsonObject> entitySent() {
+        if (entitySent == null && asyncEntitySent != null) {
+            JsonObject jsonObject = Json.createReader(new StringReader(asyncEntitySent.getEntity())).readObject();
+            entitySent = Entity.entity(jsonObject, asyncEntitySent.getMediaType());
+        }
         if (entitySent == null) {
             @SuppressWarnings("unchecked")
             ArgumentCaptor<Entity<String>> captor = ArgumentCaptor.forClass(Entity.class);
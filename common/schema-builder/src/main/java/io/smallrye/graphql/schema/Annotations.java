@@ -455,6 +455,9 @@ public class Annotations {
     // SmallRye GraphQL Annotations (Experimental)
     public static final DotName TO_SCALAR = DotName.createSimple("io.smallrye.graphql.api.ToScalar");
     public static final DotName ERROR_CODE = DotName.createSimple("io.smallrye.graphql.api.ErrorCode");
+    public static final DotName COST = DotName.createSimple("io.smallrye.graphql.api.Cost");
+    public static final DotName SEQUENTIAL = DotName.createSimple("io.smallrye.graphql.api.Sequential");
+    public static final DotName SUBSCRIPTION = DotName.createSimple("io.smallrye.graphql.api.Subscription");
 
     // MicroProfile GraphQL Annotations
     public static final DotName GRAPHQL_API = DotName.createSimple("org.eclipse.microprofile.graphql.GraphQLApi");
@@ -134,7 +134,8 @@ public class Classes {
 
     @Deprecated
     private static boolean isAsyncType(Type type) {
-        return type.name().equals(COMPLETABLE_FUTURE) || type.name().equals(COMPLETION_STAGE) || type.name().equals(UNI);
+        return type.name().equals(COMPLETABLE_FUTURE) || type.name().equals(COMPLETION_STAGE) || type.name().equals(UNI)
+                || type.name().equals(MULTI) || type.name().equals(PUBLISHER);
     }
 
     /**
@@ -202,7 +203,7 @@ public class Classes {
     @Deprecated
     public static boolean isUnwrappedType(Type type) {
         return isParameterized(type) && (isOptional(type) // Optional<>
-                || isAsyncType(type)) // CompletableFuture or CompletionStage
+                || isAsyncType(type)) // CompletableFuture, CompletionStage, Uni, Multi or Publisher
         ;
     }
 
@@ -213,6 +214,10 @@ public class Classes {
     public static final DotName COMPLETION_STAGE = DotName.createSimple(CompletionStage.class.getName());
     @Deprecated
     public static final DotName UNI = DotName.createSimple("io.smallrye.mutiny.Uni");
+    @Deprecated
+    public static final DotName MULTI = DotName.createSimple("io.smallrye.mutiny.Multi");
+    @Deprecated
+    public static final DotName PUBLISHER = DotName.createSimple("org.reactivestreams.Publisher");
 
     public static final DotName COLLECTION = DotName.createSimple(Collection.class.getName());
     public static final DotName LIST = DotName.createSimple(List.class.getName());
@@ -216,7 +216,7 @@ public class SchemaBuilder {
     }
 
     /**
-     * This inspect all method, looking for Query and Mutation annotations,
+     * This inspect all method, looking for Query, Mutation and Subscription annotations,
      * to create those Operations.
      * 
      * @param schema the schema to add the operation to.
@@ -239,6 +239,10 @@ public class SchemaBuilder {
                 } else {
                     schema.addMutation(mutation);
                 }
+            } else if (annotationsForMethod.containsOneOfTheseAnnotations(Annotations.SUBSCRIPTION)) {
+                // A subscription can only have one root field, so subscriptions are never grouped
+                Operation subscription = operationCreator.createOperation(methodInfo, OperationType.SUBSCRIPTION, null);
+                schema.addSubscription(subscription);
             }
         }
     }
@@ -0,0 +1,234 @@
+package io.smallrye.graphql.schema;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InvalidClassException;
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamClass;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import io.smallrye.graphql.schema.model.Schema;
+
+/**
+ * A snapshot of the schema model, created at build time so the classes do not have to be scanned on startup.
+ *
+ * The snapshot holds a checksum of the classes and the jars it was built from. When the classes and jars found at
+ * runtime (like in WEB-INF/classes and WEB-INF/lib) have another checksum, the snapshot is stale and they should be
+ * scanned again.
+ *
+ * The format is a small header (with the checksum) followed by the gzipped, serialized {@link Schema}.
+ * Reading it only resolves the classes of the schema model and the JDK classes the model is made of.
+ */
+public class SchemaSnapshot {
+
+    /**
+     * Where the snapshot is in the artifact (relative to the classes)
+     */
+    public static final String LOCATION = "META-INF/smallrye-graphql/schema.snapshot";
+
+    static final int MAGIC = 0x53524751; // SRGQ
+    static final int VERSION = 1;
+
+    private SchemaSnapshot() {
+    }
+
+    /**
+     * Write the snapshot
+     *
+     * @param schema the schema model
+     * @param checksum the checksum of the classes the schema was built from
+     * @param outputStream where to write to (not closed)
+     * @throws IOException when writing fails
+     */
+    public static void write(Schema schema, String checksum, OutputStream outputStream) throws IOException {
+        DataOutputStream header = new DataOutputStream(outputStream);
+        header.writeInt(MAGIC);
+        header.writeInt(VERSION);
+        header.writeUTF(checksum);
+        header.flush();
+
+        GZIPOutputStream gzip = new GZIPOutputStream(outputStream);
+        ObjectOutputStream objects = new ObjectOutputStream(gzip);
+        objects.writeObject(schema);
+        objects.flush();
+        gzip.finish();
+    }
+
+    /**
+     * Read the snapshot, if it is still up to date
+     *
+     * @param inputStream the snapshot (not closed)
+     * @param checksum the checksum of the classes as they are now
+     * @return the schema model, or empty if the snapshot is stale or was written by another version
+     * @throws IOException when reading fails, or the snapshot holds classes that are not part of the model
+     */
+    public static Optional<Schema> read(InputStream inputStream, String checksum) throws IOException {
+        DataInputStream header = new DataInputStream(inputStream);
+        if (header.readInt() != MAGIC) {
+            throw new IOException("Not a schema snapshot");
+        }
+        if (header.readInt() != VERSION || !header.readUTF().equals(checksum)) {
+            return Optional.empty();
+        }
+
+        ObjectInputStream objects = new ModelObjectInputStream(new GZIPInputStream(inputStream));
+        try {
+            return Optional.of((Schema) objects.readObject());
+        } catch (ClassNotFoundException | InvalidClassException | ClassCastException ex) {
+            // The model changed since the snapshot was written
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Create the checksum of the classes in a folder. Only the class files (their path and content) count.
+     *
+     * @param classesDir the folder with the classes (like target/classes or WEB-INF/classes)
+     * @return the checksum
+     * @throws IOException when a class file can not be read
+     */
+    public static String checksum(Path classesDir) throws IOException {
+        return checksum(classesDir, Collections.emptyList());
+    }
+
+    /**
+     * Create the checksum of the classes in a folder and of jars. For the classes, their path and content count.
+     * For the jars, only their size and content count: jars are renamed when they are packaged (like in WEB-INF/lib).
+     *
+     * @param classesDir the folder with the classes (like target/classes or WEB-INF/classes)
+     * @param jars the jars (like the runtime dependencies or the jars in WEB-INF/lib)
+     * @return the checksum
+     * @throws IOException when a class file or a jar can not be read
+     */
+    public static String checksum(Path classesDir, Collection<Path> jars) throws IOException {
+        MessageDigest digest = newDigest();
+        List<String> classFiles;
+        try (Stream<Path> walk = Files.walk(classesDir)) {
+            classFiles = walk
+                    .filter(path -> path.toString().endsWith(DOT_CLASS))
+                    // The same on every platform
+                    .map(path -> classesDir.relativize(path).toString().replace('\\', '/'))
+                    .sorted()
+                    .collect(Collectors.toList());
+        }
+        for (String classFile : classFiles) {
+            digest.update(classFile.getBytes(StandardCharsets.UTF_8));
+            digest.update(Files.readAllBytes(classesDir.resolve(classFile)));
+        }
+        List<String> jarChecksums = new ArrayList<>(jars.size());
+        for (Path jar : jars) {
+            jarChecksums.add(Files.size(jar) + ":" + checksumOfFile(jar));
+        }
+        Collections.sort(jarChecksums);
+        for (String jarChecksum : jarChecksums) {
+            digest.update(jarChecksum.getBytes(StandardCharsets.UTF_8));
+        }
+        return toHex(digest.digest());
+    }
+
+    private static String checksumOfFile(Path file) throws IOException {
+        MessageDigest digest = newDigest();
+        byte[] buffer = new byte[8192];
+        try (InputStream in = Files.newInputStream(file)) {
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                digest.update(buffer, 0, read);
+            }
+        }
+        return toHex(digest.digest());
+    }
+
+    /**
+     * Deserializes the model only. Java 8 has no ObjectInputFilter, so the classes are checked when they are resolved.
+     */
+    private static class ModelObjectInputStream extends ObjectInputStream {
+
+        ModelObjectInputStream(InputStream in) throws IOException {
+            super(in);
+        }
+
+        @Override
+        protected Class<?> resolveClass(ObjectStreamClass desc) throws IOException, ClassNotFoundException {
+            if (!isAllowed(desc.getName())) {
+                throw new InvalidObjectException("Class [" + desc.getName() + "] is not allowed in a schema snapshot");
+            }
+            return super.resolveClass(desc);
+        }
+
+        @Override
+        protected Class<?> resolveProxyClass(String[] interfaces) throws IOException {
+            throw new InvalidObjectException("Proxies are not allowed in a schema snapshot");
+        }
+
+        private static boolean isAllowed(String className) {
+            if (className.startsWith("[")) {
+                // Arrays: [I, [[Ljava.lang.String; ...
+                String componentName = className.substring(className.lastIndexOf('[') + 1);
+                return componentName.length() == 1
+                        || (componentName.startsWith("L") && componentName.endsWith(";")
+                                && isAllowed(componentName.substring(1, componentName.length() - 1)));
+            }
+            return className.startsWith(MODEL_PACKAGE)
+                    || className.startsWith(UNMODIFIABLE_COLLECTIONS)
+                    || ALLOWED_JDK_CLASSES.contains(className);
+        }
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException ex) {
+            // Every JVM has SHA-256
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    private static String toHex(byte[] bytes) {
+        StringBuilder hex = new StringBuilder(bytes.length * 2);
+        for (byte b : bytes) {
+            hex.append(Character.forDigit((b >> 4) & 0xF, 16));
+            hex.append(Character.forDigit(b & 0xF, 16));
+        }
+        return hex.toString();
+    }
+
+    private static final String DOT_CLASS = ".class";
+    private static final String MODEL_PACKAGE = Schema.class.getPackage().getName() + ".";
+    private static final String UNMODIFIABLE_COLLECTIONS = "java.util.Collections$";
+    private static final Set<String> ALLOWED_JDK_CLASSES = new HashSet<>(Arrays.asList(
+            "java.lang.Boolean",
+            "java.lang.Enum",
+            "java.lang.Integer",
+            "java.lang.Long",
+            "java.lang.Number",
+            "java.lang.String",
+            "java.util.ArrayList",
+            "java.util.HashMap",
+            "java.util.HashSet",
+            "java.util.LinkedHashMap",
+            "java.util.LinkedHashSet",
+            "java.util.LinkedList",
+            "java.util.TreeMap",
+            "java.util.TreeSet"));
+}
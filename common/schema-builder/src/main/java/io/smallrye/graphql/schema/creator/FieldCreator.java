@@ -9,6 +9,7 @@ import org.jboss.jandex.Type;
 
 import io.smallrye.graphql.schema.Annotations;
 import io.smallrye.graphql.schema.SchemaBuilderException;
+import io.smallrye.graphql.schema.helper.CostHelper;
 import io.smallrye.graphql.schema.helper.DefaultValueHelper;
 import io.smallrye.graphql.schema.helper.DescriptionHelper;
 import io.smallrye.graphql.schema.helper.Direction;
@@ -80,6 +81,9 @@ public class FieldCreator {
             // Default Value
             field.setDefaultValue(DefaultValueHelper.getDefaultValue(annotationsForMethod).orElse(null));
 
+            // Cost
+            field.setCost(CostHelper.getCost(annotationsForMethod).orElse(null));
+
             return Optional.of(field);
         }
         return Optional.empty();
@@ -137,6 +141,9 @@ public class FieldCreator {
             // Default Value
             field.setDefaultValue(DefaultValueHelper.getDefaultValue(annotationsForPojo).orElse(null));
 
+            // Cost
+            field.setCost(CostHelper.getCost(annotationsForPojo).orElse(null));
+
             return Optional.of(field);
         }
         return Optional.empty();
@@ -191,6 +198,9 @@ public class FieldCreator {
                 // Default Value
                 field.setDefaultValue(DefaultValueHelper.getDefaultValue(annotationsForPojo).orElse(null));
 
+                // Cost
+                field.setCost(CostHelper.getCost(annotationsForPojo).orElse(null));
+
                 return Optional.of(field);
             }
             return Optional.empty();
@@ -9,7 +9,9 @@ import org.jboss.jandex.MethodInfo;
 import org.jboss.jandex.Type;
 
 import io.smallrye.graphql.schema.Annotations;
+import io.smallrye.graphql.schema.Classes;
 import io.smallrye.graphql.schema.SchemaBuilderException;
+import io.smallrye.graphql.schema.helper.CostHelper;
 import io.smallrye.graphql.schema.helper.DefaultValueHelper;
 import io.smallrye.graphql.schema.helper.DescriptionHelper;
 import io.smallrye.graphql.schema.helper.Direction;
@@ -97,6 +99,12 @@ public class OperationCreator {
         // Default Value
         operation.setDefaultValue(DefaultValueHelper.getDefaultValue(annotationsForMethod).orElse(null));
 
+        // Cost
+        operation.setCost(CostHelper.getCost(annotationsForMethod).orElse(null));
+
+        // Sequential
+        operation.setSequential(annotationsForMethod.containsOneOfTheseAnnotations(Annotations.SEQUENTIAL));
+
         // Arguments
         List<Type> parameters = methodInfo.parameters();
         for (short i = 0; i < parameters.size(); i++) {
@@ -114,14 +122,21 @@ public class OperationCreator {
                     "Can not have a void return for [" + operationType.name()
                             + "] on method [" + methodInfo.name() + "]");
         }
+        // A stream of results can only be sent over a subscription
+        if (!operationType.equals(OperationType.SUBSCRIPTION)
+                && (returnType.name().equals(Classes.MULTI) || returnType.name().equals(Classes.PUBLISHER))) {
+            throw new SchemaBuilderException(
+                    "Can not return a [" + returnType.name() + "] for [" + operationType.name()
+                            + "] on method [" + methodInfo.name() + "], only a subscription can");
+        }
     }
 
     /**
      * Get the name from annotation(s) or default.
-     * This is for operations (query, mutation and source)
+     * This is for operations (query, mutation, subscription and source)
      * 
      * @param methodInfo the java method
-     * @param operationType the type (query, mutation)
+     * @param operationType the type (query, mutation, subscription)
      * @param annotations the annotations on this method
      * @return the operation name
      */
@@ -142,6 +157,8 @@ public class OperationCreator {
             return Annotations.QUERY;
         } else if (operationType.equals(OperationType.MUTATION)) {
             return Annotations.MUTATION;
+        } else if (operationType.equals(OperationType.SUBSCRIPTION)) {
+            return Annotations.SUBSCRIPTION;
         }
         return null;
     }
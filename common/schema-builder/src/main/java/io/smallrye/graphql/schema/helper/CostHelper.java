@@ -0,0 +1,26 @@
+package io.smallrye.graphql.schema.helper;
+
+import java.util.Optional;
+
+import io.smallrye.graphql.schema.Annotations;
+
+/**
+ * Helping to figure out if the field declares a cost.
+ * Looking for the @Cost annotation.
+ */
+public class CostHelper {
+
+    /**
+     * Find the cost in the annotation, or empty if nothing
+     * 
+     * @param annotations the annotations to search in
+     * @return a optional cost
+     */
+    public static Optional<Integer> getCost(Annotations annotations) {
+        if (annotations.containsKeyAndValidValue(Annotations.COST)) {
+            return Optional.of(annotations.getAnnotationValue(Annotations.COST).asInt());
+        }
+        return Optional.empty();
+    }
+
+}
@@ -126,7 +126,7 @@ public class SchemaBuilderTest {
         return jsonb.toJson(schema);
     }
 
-    static IndexView getTCKIndex() {
+    public static IndexView getTCKIndex() {
         Indexer indexer = new Indexer();
         indexDirectory(indexer, "org/eclipse/microprofile/graphql/tck/apps/basic/api");
         indexDirectory(indexer, "org/eclipse/microprofile/graphql/tck/apps/superhero/api");
@@ -0,0 +1,125 @@
+package io.smallrye.graphql.schema;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InvalidObjectException;
+import java.io.ObjectOutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.zip.GZIPOutputStream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import io.smallrye.graphql.index.SchemaBuilderTest;
+import io.smallrye.graphql.schema.model.Operation;
+import io.smallrye.graphql.schema.model.Schema;
+
+/**
+ * Test writing and reading the schema snapshot
+ */
+public class SchemaSnapshotTest {
+
+    @Test
+    public void testRoundTrip() throws IOException {
+        Schema schema = SchemaBuilder.build(SchemaBuilderTest.getTCKIndex());
+
+        Optional<Schema> read = SchemaSnapshot.read(write(schema, "abc"), "abc");
+
+        assertTrue(read.isPresent());
+        Schema snapshot = read.get();
+        // The operations are in hash sets, so only compare what is in them
+        assertEquals(names(schema.getQueries()), names(snapshot.getQueries()));
+        assertEquals(names(schema.getMutations()), names(snapshot.getMutations()));
+        assertEquals(names(schema.getSubscriptions()), names(snapshot.getSubscriptions()));
+        assertEquals(schema.getTypes().keySet(), snapshot.getTypes().keySet());
+        assertEquals(schema.getInputs().keySet(), snapshot.getInputs().keySet());
+        assertEquals(schema.getInterfaces().keySet(), snapshot.getInterfaces().keySet());
+        assertEquals(schema.getEnums().keySet(), snapshot.getEnums().keySet());
+        assertEquals(schema.getTypes().get("SuperHero").getFields().keySet(),
+                snapshot.getTypes().get("SuperHero").getFields().keySet());
+    }
+
+    @Test
+    public void testStaleSnapshot() throws IOException {
+        Schema schema = SchemaBuilder.build(SchemaBuilderTest.getTCKIndex());
+
+        assertFalse(SchemaSnapshot.read(write(schema, "abc"), "def").isPresent());
+    }
+
+    @Test
+    public void testOnlyModelClassesAreRead() throws IOException {
+        // A snapshot with something else than a schema
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        DataOutputStream header = new DataOutputStream(out);
+        header.writeInt(SchemaSnapshot.MAGIC);
+        header.writeInt(SchemaSnapshot.VERSION);
+        header.writeUTF("abc");
+        header.flush();
+        GZIPOutputStream gzip = new GZIPOutputStream(out);
+        ObjectOutputStream objects = new ObjectOutputStream(gzip);
+        objects.writeObject(new Date());
+        objects.flush();
+        gzip.finish();
+
+        assertThrows(InvalidObjectException.class,
+                () -> SchemaSnapshot.read(new ByteArrayInputStream(out.toByteArray()), "abc"));
+    }
+
+    @Test
+    public void testChecksumOnlyCountsClasses(@TempDir Path classesDir) throws IOException {
+        Files.createDirectories(classesDir.resolve("com/example"));
+        Files.write(classesDir.resolve("com/example/Hero.class"), new byte[] { 1, 2, 3 });
+        String checksum = SchemaSnapshot.checksum(classesDir);
+
+        Files.write(classesDir.resolve("com/example/application.properties"), new byte[] { 4 });
+        assertEquals(checksum, SchemaSnapshot.checksum(classesDir));
+
+        Files.write(classesDir.resolve("com/example/Hero.class"), new byte[] { 1, 2, 4 });
+        assertNotEquals(checksum, SchemaSnapshot.checksum(classesDir));
+    }
+
+    @Test
+    public void testChecksumCountsJars(@TempDir Path dir) throws IOException {
+        Path classesDir = Files.createDirectories(dir.resolve("classes"));
+        Files.write(classesDir.resolve("Hero.class"), new byte[] { 1, 2, 3 });
+        Path model = Files.write(dir.resolve("model-1.0.jar"), new byte[] { 5, 6 });
+        Path api = Files.write(dir.resolve("api-1.0.jar"), new byte[] { 7 });
+        String checksum = SchemaSnapshot.checksum(classesDir, Arrays.asList(model, api));
+
+        assertNotEquals(SchemaSnapshot.checksum(classesDir), checksum, "the jars should count");
+
+        // Packaged with other names, in another order
+        Path packagedModel = Files.copy(model, dir.resolve("model.jar"));
+        Path packagedApi = Files.copy(api, dir.resolve("api.jar"));
+        assertEquals(checksum, SchemaSnapshot.checksum(classesDir, Arrays.asList(packagedApi, packagedModel)));
+
+        Files.write(packagedModel, new byte[] { 5, 7 });
+        assertNotEquals(checksum, SchemaSnapshot.checksum(classesDir, Arrays.asList(packagedApi, packagedModel)));
+        assertNotEquals(checksum, SchemaSnapshot.checksum(classesDir, Collections.singletonList(packagedApi)));
+    }
+
+    private static Set<String> names(Set<Operation> operations) {
+        return operations.stream().map(Operation::getName).collect(Collectors.toSet());
+    }
+
+    private static ByteArrayInputStream write(Schema schema, String checksum) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        SchemaSnapshot.write(schema, checksum, out);
+        return new ByteArrayInputStream(out.toByteArray());
+    }
+}
@@ -1,6 +1,7 @@
 package io.smallrye.graphql.schema.creator;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.fail;
 
 import org.jboss.jandex.ClassInfo;
@@ -46,6 +47,19 @@ public class OperationCreatorTest {
         final Operation operation = operationCreator().createOperation(method, OperationType.QUERY, null);
 
         assertEquals("publicQuery", operation.getName());
+        assertFalse(operation.hasCost());
+    }
+
+    @Test
+    public void testOperationWithCost() throws Exception {
+        Index complete = IndexCreator.index(TestApi.class);
+
+        ClassInfo classByName = complete.getClassByName(DotName.createSimple(TestApi.class.getName()));
+        MethodInfo method = classByName.method("expensiveQuery");
+
+        final Operation operation = operationCreator().createOperation(method, OperationType.QUERY, null);
+
+        assertEquals(5, operation.getCost());
     }
 
 }
@@ -2,6 +2,8 @@ package io.smallrye.graphql.schema.creator;
 
 import org.eclipse.microprofile.graphql.Query;
 
+import io.smallrye.graphql.api.Cost;
+
 public class TestApi {
 
     @Query
@@ -14,4 +16,10 @@ public class TestApi {
         return null;
     }
 
+    @Query
+    @Cost(5)
+    public String expensiveQuery() {
+        return null;
+    }
+
 }
@@ -54,6 +54,11 @@ public class Field implements Serializable {
      */
     private Mapping mapping = null;
 
+    /**
+     * The cost of this field when calculating the query complexity, null for the default cost
+     */
+    private Integer cost = null;
+
     private String defaultValue = null;
     private boolean notNull = false;
 
@@ -164,4 +169,16 @@ public class Field implements Serializable {
         return this.defaultValue != null;
     }
 
+    public Integer getCost() {
+        return cost;
+    }
+
+    public void setCost(Integer cost) {
+        this.cost = cost;
+    }
+
+    public boolean hasCost() {
+        return this.cost != null;
+    }
+
 }
@@ -34,6 +34,11 @@ public final class Operation extends Field {
      */
     private Reference sourceFieldOn = null;
 
+    /**
+     * If this operation always runs on the thread that fetches it, also when blocking operations run in parallel
+     */
+    private boolean sequential = false;
+
     public Operation() {
     }
 
@@ -87,4 +92,12 @@ public final class Operation extends Field {
     public boolean isSourceField() {
         return this.sourceFieldOn != null;
     }
+
+    public boolean isSequential() {
+        return sequential;
+    }
+
+    public void setSequential(boolean sequential) {
+        this.sequential = sequential;
+    }
 }
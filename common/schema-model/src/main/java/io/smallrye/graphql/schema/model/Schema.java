@@ -19,6 +19,7 @@ import java.util.Set;
 public final class Schema implements Serializable {
     private Set<Operation> queries = new HashSet<>();
     private Set<Operation> mutations = new HashSet<>();
+    private Set<Operation> subscriptions = new HashSet<>();
 
     private Map<Group, Set<Operation>> groupedQueries = new HashMap<>();
     private Map<Group, Set<Operation>> groupedMutations = new HashMap<>();
@@ -69,6 +70,22 @@ public final class Schema implements Serializable {
         return !this.mutations.isEmpty();
     }
 
+    public Set<Operation> getSubscriptions() {
+        return subscriptions;
+    }
+
+    public void setSubscriptions(Set<Operation> subscriptions) {
+        this.subscriptions = subscriptions;
+    }
+
+    public void addSubscription(Operation subscription) {
+        this.subscriptions.add(subscription);
+    }
+
+    public boolean hasSubscriptions() {
+        return !this.subscriptions.isEmpty();
+    }
+
     public Map<Group, Set<Operation>> getGroupedQueries() {
         return groupedQueries;
     }
@@ -0,0 +1,53 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.smallrye.graphql.api;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import io.smallrye.common.annotation.Experimental;
+
+/**
+ * Declare the cost of a field, used when calculating the complexity of a query
+ * (see smallrye.graphql.maxQueryComplexity). Fields without this annotation cost 1.
+ * <br>
+ * Example:
+ * 
+ * <pre>
+ * public class Profile {
+ *     // Expensive to fetch
+ *     {@literal @}Cost(10)
+ *     public List&lt;Order&gt; getOrders() {
+ *         ...
+ *     }
+ * }
+ * </pre>
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ ElementType.FIELD, ElementType.METHOD })
+@Documented
+@Experimental("Allow you to declare the cost of a field for query complexity. Not covered by the specification. " +
+        "Subject to change.")
+public @interface Cost {
+    /**
+     * @return the cost of this field, not counting the fields selected below it.
+     */
+    int value();
+}
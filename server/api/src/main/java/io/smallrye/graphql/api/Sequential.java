@@ -0,0 +1,48 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.smallrye.graphql.api;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import io.smallrye.common.annotation.Experimental;
+
+/**
+ * Always run this operation on the thread that fetches the field, also when blocking operations run in parallel
+ * (see smallrye.graphql.parallel.enabled). Use this for operations that depend on thread-bound state
+ * that is not propagated, or that are not thread safe.
+ * <br>
+ * Example:
+ * 
+ * <pre>
+ * {@literal @}Query
+ * {@literal @}Sequential
+ * public Report getReport() {
+ *     ...
+ * }
+ * </pre>
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+@Documented
+@Experimental("Allow you to opt out of parallel execution for an operation. Not covered by the specification. " +
+        "Subject to change.")
+public @interface Sequential {
+}
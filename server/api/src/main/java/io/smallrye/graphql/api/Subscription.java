@@ -0,0 +1,54 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.smallrye.graphql.api;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import io.smallrye.common.annotation.Experimental;
+
+/**
+ * Specifies that the annotated method provides the implementation (ie. the
+ * resolver) for a GraphQL subscription. The method has to return a
+ * {@code io.smallrye.mutiny.Multi} or a {@code org.reactivestreams.Publisher}.
+ * <br>
+ * Example:
+ * 
+ * <pre>
+ * {@literal @}GraphQLApi
+ * public class PriceApi {
+ *     {@literal @}Subscription
+ *     public Multi&lt;Price&gt; prices(String symbol) {
+ *         ...
+ *     }
+ * }
+ * </pre>
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+@Documented
+@Experimental("Subscriptions are not covered by the specification yet. Subject to change.")
+public @interface Subscription {
+
+    /**
+     * @return the name of the GraphQL subscription.
+     */
+    String value() default "";
+}
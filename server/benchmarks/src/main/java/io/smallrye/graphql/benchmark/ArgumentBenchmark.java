@@ -0,0 +1,146 @@
+package io.smallrye.graphql.benchmark;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import javax.json.bind.Jsonb;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import graphql.schema.DataFetchingEnvironment;
+import graphql.schema.DataFetchingEnvironmentImpl;
+import io.smallrye.graphql.benchmark.api.Order;
+import io.smallrye.graphql.execution.datafetcher.helper.ArgumentHelper;
+import io.smallrye.graphql.json.JsonBCreator;
+import io.smallrye.graphql.schema.model.Operation;
+import io.smallrye.graphql.schema.model.Schema;
+import io.smallrye.graphql.transformation.AbstractDataFetcherException;
+
+/**
+ * ArgumentHelper.getArguments with a complex input (an order with line items), and with nested lists and
+ * a primitive array, as graphql-java would give them to us.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ArgumentBenchmark {
+
+    @Param({ "10", "1000" })
+    public int lineItems;
+
+    private ArgumentHelper argumentHelper;
+    private DataFetchingEnvironment dfe;
+    private ArgumentHelper listArgumentHelper;
+    private DataFetchingEnvironment listDfe;
+
+    private Map<String, Object> transformedOrder;
+    private Jsonb jsonb;
+
+    @Setup
+    public void setup() {
+        Schema model = Schemas.libraryModel();
+        // This registers the input types
+        Schemas.library(model);
+
+        Operation importOrder = getMutation(model, "importOrder");
+        argumentHelper = new ArgumentHelper(importOrder.getArguments());
+        dfe = DataFetchingEnvironmentImpl.newDataFetchingEnvironment()
+                .arguments(Collections.singletonMap("order", createOrder("17/10/2020")))
+                .build();
+
+        Operation importShelves = getMutation(model, "importShelves");
+        listArgumentHelper = new ArgumentHelper(importShelves.getArguments());
+        Map<String, Object> listArguments = new HashMap<>();
+        listArguments.put("shelves", createShelves());
+        listArguments.put("ids", createIds());
+        listDfe = DataFetchingEnvironmentImpl.newDataFetchingEnvironment()
+                .arguments(listArguments)
+                .build();
+
+        transformedOrder = createOrder(LocalDate.of(2020, 10, 17));
+        jsonb = JsonBCreator.getJsonB(Order.class.getName());
+    }
+
+    @Benchmark
+    public Object[] getArguments() throws AbstractDataFetcherException {
+        return argumentHelper.getArguments(dfe);
+    }
+
+    @Benchmark
+    public Object[] getListArguments() throws AbstractDataFetcherException {
+        return listArgumentHelper.getArguments(listDfe);
+    }
+
+    /**
+     * For comparison, the Map to JSON String to object round trip, that we used before binding straight from the map
+     */
+    @Benchmark
+    public Order jsonbRoundTrip() {
+        String json = JsonBCreator.getJsonB().toJson(transformedOrder);
+        return jsonb.fromJson(json, Order.class);
+    }
+
+    private Map<String, Object> createOrder(Object orderDate) {
+        List<Map<String, Object>> items = new ArrayList<>(lineItems);
+        for (int i = 0; i < lineItems; i++) {
+            Map<String, Object> item = new HashMap<>();
+            item.put("product", "product-" + i);
+            item.put("quantity", i % 10 + 1);
+            item.put("price", BigDecimal.valueOf(1999 + i, 2));
+            items.add(item);
+        }
+        Map<String, Object> order = new HashMap<>();
+        order.put("customer", "Phillip");
+        order.put("orderDate", orderDate);
+        order.put("lineItems", items);
+        return order;
+    }
+
+    private List<List<String>> createShelves() {
+        List<List<String>> shelves = new ArrayList<>();
+        for (int i = 0; i < lineItems; i++) {
+            List<String> shelf = new ArrayList<>();
+            for (int j = 0; j < 10; j++) {
+                shelf.add("isbn-" + i + "-" + j);
+            }
+            shelves.add(shelf);
+        }
+        return shelves;
+    }
+
+    private List<Object> createIds() {
+        List<Object> ids = new ArrayList<>(lineItems);
+        for (int i = 0; i < lineItems; i++) {
+            ids.add((long) i);
+        }
+        return ids;
+    }
+
+    private static Operation getMutation(Schema model, String name) {
+        for (Operation operation : model.getMutations()) {
+            if (operation.getName().equals(name)) {
+                return operation;
+            }
+        }
+        throw new IllegalStateException("No mutation " + name);
+    }
+}
@@ -0,0 +1,71 @@
+package io.smallrye.graphql.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.dataloader.BatchLoaderWithContext;
+import org.dataloader.DataLoader;
+import org.dataloader.DataLoaderRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.smallrye.graphql.bootstrap.DataFetcherFactory;
+import io.smallrye.graphql.schema.model.Operation;
+import io.smallrye.graphql.schema.model.Schema;
+
+/**
+ * The per request cost of the DataLoaderRegistry: creating the batch loaders for every request
+ * (that does the reflection lookups every time) against only creating the DataLoaders around batch loaders
+ * that were created once.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BatchLoaderBenchmark {
+
+    private DataFetcherFactory dataFetcherFactory;
+    private List<Operation> batchOperations;
+    private List<BatchLoaderWithContext<Object, Object>> batchLoaders;
+
+    @Setup
+    public void setup() {
+        Schema model = Schemas.libraryModel();
+        dataFetcherFactory = new DataFetcherFactory(Schemas.CONFIG);
+        batchOperations = model.getBatchOperations();
+        batchLoaders = new ArrayList<>();
+        for (Operation operation : batchOperations) {
+            batchLoaders.add(dataFetcherFactory.getSourceBatchLoader(operation));
+        }
+    }
+
+    @Benchmark
+    public DataLoaderRegistry createBatchLoadersPerRequest() {
+        DataLoaderRegistry registry = new DataLoaderRegistry();
+        for (Operation operation : batchOperations) {
+            BatchLoaderWithContext<Object, Object> batchLoader = dataFetcherFactory.getSourceBatchLoader(operation);
+            registry.register(operation.getName(), DataLoader.newDataLoader(batchLoader));
+        }
+        return registry;
+    }
+
+    @Benchmark
+    public DataLoaderRegistry reuseBatchLoaders() {
+        DataLoaderRegistry registry = new DataLoaderRegistry();
+        for (int i = 0; i < batchLoaders.size(); i++) {
+            registry.register(batchOperations.get(i).getName(), DataLoader.newDataLoader(batchLoaders.get(i)));
+        }
+        return registry;
+    }
+}
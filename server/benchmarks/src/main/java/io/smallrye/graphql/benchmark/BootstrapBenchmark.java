@@ -0,0 +1,83 @@
+package io.smallrye.graphql.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import graphql.schema.GraphQLSchema;
+import io.smallrye.graphql.bootstrap.Bootstrap;
+import io.smallrye.graphql.schema.model.Field;
+import io.smallrye.graphql.schema.model.Operation;
+import io.smallrye.graphql.schema.model.OperationType;
+import io.smallrye.graphql.schema.model.Reference;
+import io.smallrye.graphql.schema.model.ReferenceType;
+import io.smallrye.graphql.schema.model.Schema;
+import io.smallrye.graphql.schema.model.Type;
+
+/**
+ * Bootstrap.bootstrap of a big schema model.
+ *
+ * We do not have 500 classes to scan, so we create the model: every type has a couple of scalar fields
+ * (copied from the scanned Author type), a field to the next type, and its own query.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 10)
+@Measurement(iterations = 20)
+@Fork(1)
+public class BootstrapBenchmark {
+
+    @Param({ "500" })
+    public int types;
+
+    private Schema schema;
+
+    @Setup
+    public void setup() {
+        Schema library = Schemas.libraryModel();
+        Type author = library.getTypes().get("Author");
+        Operation authorQuery = getQuery(library, "author");
+
+        schema = new Schema();
+        for (int i = 0; i < types; i++) {
+            String name = "Type" + i;
+            Type type = new Type(author.getClassName(), name, "Generated type " + i);
+            for (Field field : author.getFields().values()) {
+                type.addField(field);
+            }
+            String next = "Type" + ((i + 1) % types);
+            type.addField(new Field("getNext", "next", "next", null,
+                    new Reference(author.getClassName(), next, ReferenceType.TYPE)));
+            schema.addType(type);
+
+            schema.addQuery(new Operation(authorQuery.getClassName(), authorQuery.getMethodName(),
+                    authorQuery.getPropertyName(), "type" + i, null,
+                    new Reference(author.getClassName(), name, ReferenceType.TYPE), OperationType.QUERY));
+        }
+    }
+
+    @Benchmark
+    public GraphQLSchema bootstrap() {
+        return Bootstrap.bootstrap(schema, Schemas.CONFIG);
+    }
+
+    private static Operation getQuery(Schema model, String name) {
+        for (Operation operation : model.getQueries()) {
+            if (operation.getName().equals(name)) {
+                return operation;
+            }
+        }
+        throw new IllegalStateException("No query " + name);
+    }
+}
@@ -0,0 +1,55 @@
+package io.smallrye.graphql.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import javax.json.Json;
+import javax.json.JsonObject;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.smallrye.graphql.execution.ExecutionService;
+import io.smallrye.graphql.schema.model.Schema;
+
+/**
+ * A query with many property fields, with and without inheriting the context in new threads.
+ * Run with <code>-prof gc</code> to see the allocations per request.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ContextBenchmark {
+
+    @Param({ "true", "false" })
+    public boolean inheritable;
+
+    private ExecutionService executionService;
+    private JsonObject request;
+
+    @Setup
+    public void setup() {
+        Schema model = Schemas.libraryModel();
+        executionService = new ExecutionService(Schemas.CONFIG, Schemas.library(model), model.getBatchOperations(),
+                inheritable);
+        request = Json.createObjectBuilder().add("query", QUERY).build();
+    }
+
+    @Benchmark
+    public JsonObject execute() {
+        return executionService.execute(request);
+    }
+
+    private static final String QUERY = "{ books(count: 1000) { isbn title published price } }";
+}
@@ -0,0 +1,92 @@
+package io.smallrye.graphql.benchmark;
+
+import java.io.OutputStream;
+import java.util.concurrent.TimeUnit;
+
+import javax.json.Json;
+import javax.json.JsonObject;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.smallrye.graphql.execution.ExecutionService;
+
+/**
+ * ExecutionService.execute on a couple of representative queries
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ExecutionBenchmark {
+
+    @Param({ "flat", "nested", "list", "source" })
+    public String query;
+
+    private ExecutionService executionService;
+    private JsonObject request;
+
+    @Setup
+    public void setup() {
+        executionService = Schemas.libraryExecutionService();
+        request = Json.createObjectBuilder().add("query", getQuery(query)).build();
+    }
+
+    @Benchmark
+    public JsonObject execute() {
+        return executionService.execute(request);
+    }
+
+    /**
+     * How the servlet executes, streaming the response
+     */
+    @Benchmark
+    public void executeToStream() {
+        executionService.execute(request, NULL_OUTPUT_STREAM);
+    }
+
+    private static String getQuery(String query) {
+        switch (query) {
+            case "flat":
+                return FLAT;
+            case "nested":
+                return NESTED;
+            case "list":
+                return LIST;
+            case "source":
+                return SOURCE;
+            default:
+                throw new IllegalArgumentException("Unknown query " + query);
+        }
+    }
+
+    private static final String FLAT = "{ author { id name email born rating books active } }";
+
+    private static final String NESTED = "{ category(depth: 6) { name children { name children { name children { name "
+            + "children { name children { name children { name } } } } } } } }";
+
+    private static final String LIST = "{ books(count: 1000) { isbn title published price } }";
+
+    private static final String SOURCE = "{ books(count: 100) { title reviews { stars text } } }";
+
+    private static final OutputStream NULL_OUTPUT_STREAM = new OutputStream() {
+        @Override
+        public void write(int b) {
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+        }
+    };
+}
@@ -0,0 +1,57 @@
+package io.smallrye.graphql.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.smallrye.graphql.execution.datafetcher.helper.MethodHandleInvoker;
+import io.smallrye.graphql.execution.datafetcher.helper.ReflectionInvoker;
+
+/**
+ * Invoking an operation method with a method handle against plain reflection
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class InvokerBenchmark {
+
+    private final Calculator calculator = new Calculator();
+    private final Object[] arguments = new Object[] { 20, 22 };
+
+    private MethodHandleInvoker methodHandleInvoker;
+    private ReflectionInvoker reflectionInvoker;
+
+    @Setup
+    public void setup() throws ReflectiveOperationException {
+        methodHandleInvoker = new MethodHandleInvoker(Calculator.class.getMethod("add", int.class, int.class));
+        reflectionInvoker = new ReflectionInvoker(Calculator.class.getMethod("add", int.class, int.class));
+    }
+
+    @Benchmark
+    public Object methodHandle() throws Throwable {
+        return methodHandleInvoker.invoke(calculator, arguments);
+    }
+
+    @Benchmark
+    public Object reflection() throws Throwable {
+        return reflectionInvoker.invoke(calculator, arguments);
+    }
+
+    public static class Calculator {
+        public int add(int a, int b) {
+            return a + b;
+        }
+    }
+}
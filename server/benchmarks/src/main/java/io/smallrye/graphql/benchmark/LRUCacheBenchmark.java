@@ -0,0 +1,71 @@
+package io.smallrye.graphql.benchmark;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.smallrye.graphql.execution.LRUCache;
+
+/**
+ * The LRUCache (as used by the query cache) with many threads: only hits, and a mix of hits and
+ * misses that add and evict.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LRUCacheBenchmark {
+
+    private static final int CACHE_SIZE = 2048;
+
+    private LRUCache<String, String> cache;
+    private String[] keys;
+
+    @Setup
+    public void setup() {
+        cache = new LRUCache<>(CACHE_SIZE);
+        // Twice as many keys as the cache can hold, so half of the random lookups miss
+        keys = new String[CACHE_SIZE * 2];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = "{ query" + i + " }";
+        }
+        for (int i = 0; i < CACHE_SIZE; i++) {
+            cache.computeIfAbsent(keys[i], k -> k);
+        }
+    }
+
+    @Benchmark
+    @Threads(8)
+    public String hit() {
+        return cache.get(keys[ThreadLocalRandom.current().nextInt(CACHE_SIZE)]);
+    }
+
+    @Benchmark
+    @Group("mixed")
+    @GroupThreads(6)
+    public String mixedRead() {
+        return cache.get(keys[ThreadLocalRandom.current().nextInt(keys.length)]);
+    }
+
+    @Benchmark
+    @Group("mixed")
+    @GroupThreads(2)
+    public String mixedWrite() {
+        return cache.computeIfAbsent(keys[ThreadLocalRandom.current().nextInt(keys.length)], k -> k);
+    }
+}
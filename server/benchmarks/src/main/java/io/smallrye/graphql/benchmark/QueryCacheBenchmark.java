@@ -0,0 +1,72 @@
+package io.smallrye.graphql.benchmark;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import graphql.ExecutionInput;
+import graphql.ParseAndValidate;
+import graphql.ParseAndValidateResult;
+import graphql.execution.preparsed.PreparsedDocumentEntry;
+import graphql.schema.GraphQLSchema;
+import io.smallrye.graphql.execution.QueryCache;
+
+/**
+ * QueryCache hits, and misses (that parse and validate, like graphql-java would)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class QueryCacheBenchmark {
+
+    private static final String QUERY = "{ books(count: 10) { isbn title published price reviews { stars } } }";
+
+    private QueryCache queryCache;
+    private Function<ExecutionInput, PreparsedDocumentEntry> parseAndValidate;
+    private ExecutionInput cachedQuery;
+    private long missCounter;
+
+    @Setup
+    public void setup() {
+        GraphQLSchema graphQLSchema = Schemas.library(Schemas.libraryModel());
+        parseAndValidate = executionInput -> {
+            ParseAndValidateResult result = ParseAndValidate.parseAndValidate(graphQLSchema, executionInput);
+            if (result.isFailure()) {
+                return new PreparsedDocumentEntry(result.getErrors());
+            }
+            return new PreparsedDocumentEntry(result.getDocument());
+        };
+        queryCache = new QueryCache();
+        cachedQuery = ExecutionInput.newExecutionInput().query(QUERY).build();
+        queryCache.getDocument(cachedQuery, parseAndValidate);
+    }
+
+    @Benchmark
+    public PreparsedDocumentEntry hit() {
+        return queryCache.getDocument(cachedQuery, parseAndValidate);
+    }
+
+    /**
+     * Every query is new (an alias makes it unique), so this also includes adding to (and evicting from) the cache
+     */
+    @Benchmark
+    public PreparsedDocumentEntry miss() {
+        ExecutionInput newQuery = ExecutionInput.newExecutionInput()
+                .query("{ q" + (missCounter++) + ": books(count: 10) { isbn title published price reviews { stars } } }")
+                .build();
+        return queryCache.getDocument(newQuery, parseAndValidate);
+    }
+}
@@ -0,0 +1,61 @@
+package io.smallrye.graphql.benchmark;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+
+import org.jboss.jandex.IndexView;
+import org.jboss.jandex.Indexer;
+
+import graphql.schema.GraphQLSchema;
+import io.smallrye.graphql.benchmark.api.Author;
+import io.smallrye.graphql.benchmark.api.Book;
+import io.smallrye.graphql.benchmark.api.Category;
+import io.smallrye.graphql.benchmark.api.LibraryApi;
+import io.smallrye.graphql.benchmark.api.LineItem;
+import io.smallrye.graphql.benchmark.api.Order;
+import io.smallrye.graphql.benchmark.api.Review;
+import io.smallrye.graphql.bootstrap.Bootstrap;
+import io.smallrye.graphql.bootstrap.Config;
+import io.smallrye.graphql.execution.ExecutionService;
+import io.smallrye.graphql.schema.SchemaBuilder;
+import io.smallrye.graphql.schema.model.Schema;
+
+/**
+ * Creates the schema (and the execution service) for the benchmark api
+ */
+final class Schemas {
+
+    static final Config CONFIG = new Config() {
+    };
+
+    private Schemas() {
+    }
+
+    static Schema libraryModel() {
+        return SchemaBuilder.build(index(LibraryApi.class, Author.class, Book.class, Category.class, Review.class,
+                Order.class, LineItem.class));
+    }
+
+    static GraphQLSchema library(Schema model) {
+        return Bootstrap.bootstrap(model, CONFIG);
+    }
+
+    static ExecutionService libraryExecutionService() {
+        Schema model = libraryModel();
+        return new ExecutionService(CONFIG, library(model), model.getBatchOperations());
+    }
+
+    private static IndexView index(Class<?>... classes) {
+        Indexer indexer = new Indexer();
+        for (Class<?> c : classes) {
+            String resource = c.getName().replace('.', '/') + ".class";
+            try (InputStream stream = c.getClassLoader().getResourceAsStream(resource)) {
+                indexer.index(stream);
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        }
+        return indexer.complete();
+    }
+}
@@ -0,0 +1,121 @@
+package io.smallrye.graphql.benchmark;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.smallrye.graphql.execution.datafetcher.helper.FieldHelper;
+import io.smallrye.graphql.schema.model.Field;
+import io.smallrye.graphql.schema.model.Schema;
+import io.smallrye.graphql.schema.model.Wrapper;
+import io.smallrye.graphql.schema.model.WrapperType;
+import io.smallrye.graphql.transformation.AbstractDataFetcherException;
+import io.smallrye.graphql.transformation.Transformer;
+
+/**
+ * The Transformer date and number paths, in and out, with and without a format.
+ * The fields come from the scanned benchmark api.
+ *
+ * The single value benchmarks create the transformer every time. The list benchmarks go through the FieldHelper
+ * (like a data fetcher does), that creates the transformer once.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TransformerBenchmark {
+
+    private static final LocalDate DATE = LocalDate.of(1954, 9, 17);
+    private static final BigDecimal NUMBER = new BigDecimal("1234.5");
+
+    private Field formattedDate;
+    private Field date;
+    private Field formattedNumber;
+
+    private FieldHelper formattedDateList;
+    private FieldHelper formattedNumberList;
+    private List<LocalDate> dates;
+    private List<BigDecimal> numbers;
+
+    @Setup
+    public void setup() {
+        Schema model = Schemas.libraryModel();
+        formattedDate = model.getTypes().get("Book").getFields().get("published");
+        formattedNumber = model.getTypes().get("Book").getFields().get("price");
+        date = model.getTypes().get("Author").getFields().get("born");
+
+        formattedDateList = new FieldHelper(listOf(formattedDate));
+        formattedNumberList = new FieldHelper(listOf(formattedNumber));
+        dates = new ArrayList<>();
+        numbers = new ArrayList<>();
+        for (int i = 0; i < LIST_SIZE; i++) {
+            dates.add(DATE.plusDays(i));
+            numbers.add(NUMBER.add(BigDecimal.valueOf(i)));
+        }
+    }
+
+    private static Field listOf(Field field) {
+        Field list = new Field(field.getMethodName(), field.getPropertyName(), field.getName(), field.getDescription(),
+                field.getReference());
+        list.setTransformation(field.getTransformation());
+        list.setWrapper(new Wrapper(WrapperType.COLLECTION, List.class.getName()));
+        return list;
+    }
+
+    @Benchmark
+    public Object dateOut() throws AbstractDataFetcherException {
+        return Transformer.out(date, DATE);
+    }
+
+    @Benchmark
+    public Object dateIn() throws AbstractDataFetcherException {
+        return Transformer.in(date, "1954-09-17");
+    }
+
+    @Benchmark
+    public Object formattedDateOut() throws AbstractDataFetcherException {
+        return Transformer.out(formattedDate, DATE);
+    }
+
+    @Benchmark
+    public Object formattedDateIn() throws AbstractDataFetcherException {
+        return Transformer.in(formattedDate, "17/09/1954");
+    }
+
+    @Benchmark
+    public Object formattedNumberOut() throws AbstractDataFetcherException {
+        return Transformer.out(formattedNumber, NUMBER);
+    }
+
+    @Benchmark
+    public Object formattedNumberIn() throws AbstractDataFetcherException {
+        return Transformer.in(formattedNumber, "1,234.50");
+    }
+
+    @Benchmark
+    public Object formattedDateListOut() throws AbstractDataFetcherException {
+        return formattedDateList.transformResponse(dates);
+    }
+
+    @Benchmark
+    public Object formattedNumberListOut() throws AbstractDataFetcherException {
+        return formattedNumberList.transformResponse(numbers);
+    }
+
+    private static final int LIST_SIZE = 10_000;
+}
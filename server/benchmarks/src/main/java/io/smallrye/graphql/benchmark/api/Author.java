@@ -0,0 +1,29 @@
+package io.smallrye.graphql.benchmark.api;
+
+import java.time.LocalDate;
+
+/**
+ * Flat type, only scalars
+ */
+public class Author {
+    public String id;
+    public String name;
+    public String email;
+    public LocalDate born;
+    public double rating;
+    public int books;
+    public boolean active;
+
+    public Author() {
+    }
+
+    public Author(String id, String name, String email, LocalDate born, double rating, int books, boolean active) {
+        this.id = id;
+        this.name = name;
+        this.email = email;
+        this.born = born;
+        this.rating = rating;
+        this.books = books;
+        this.active = active;
+    }
+}
@@ -0,0 +1,29 @@
+package io.smallrye.graphql.benchmark.api;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import org.eclipse.microprofile.graphql.DateFormat;
+import org.eclipse.microprofile.graphql.NumberFormat;
+
+/**
+ * Type that we return in (large) lists
+ */
+public class Book {
+    public String isbn;
+    public String title;
+    @DateFormat("dd/MM/yyyy")
+    public LocalDate published;
+    @NumberFormat("#,##0.00")
+    public BigDecimal price;
+
+    public Book() {
+    }
+
+    public Book(String isbn, String title, LocalDate published, BigDecimal price) {
+        this.isbn = isbn;
+        this.title = title;
+        this.published = published;
+        this.price = price;
+    }
+}
@@ -0,0 +1,19 @@
+package io.smallrye.graphql.benchmark.api;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Recursive type, for deeply nested queries
+ */
+public class Category {
+    public String name;
+    public List<Category> children = new ArrayList<>();
+
+    public Category() {
+    }
+
+    public Category(String name) {
+        this.name = name;
+    }
+}
@@ -0,0 +1,67 @@
+package io.smallrye.graphql.benchmark.api;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.microprofile.graphql.GraphQLApi;
+import org.eclipse.microprofile.graphql.Mutation;
+import org.eclipse.microprofile.graphql.Query;
+import org.eclipse.microprofile.graphql.Source;
+
+/**
+ * The API we benchmark against. Everything is in memory, so we only measure our own overhead
+ */
+@GraphQLApi
+public class LibraryApi {
+
+    private static final Author AUTHOR = new Author("1", "William Golding", "william@example.com",
+            LocalDate.of(1911, 9, 19), 4.5, 13, false);
+
+    @Query
+    public Author getAuthor() {
+        return AUTHOR;
+    }
+
+    @Query
+    public List<Book> getBooks(int count) {
+        List<Book> books = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            books.add(new Book("isbn-" + i, "Book " + i, LocalDate.of(1954, 9, 17), BigDecimal.valueOf(1999 + i, 2)));
+        }
+        return books;
+    }
+
+    @Query
+    public Category getCategory(int depth) {
+        return createCategory("root", depth);
+    }
+
+    public List<Review> getReviews(@Source List<Book> books) {
+        List<Review> reviews = new ArrayList<>(books.size());
+        for (Book book : books) {
+            reviews.add(new Review(4, "About " + book.title));
+        }
+        return reviews;
+    }
+
+    @Mutation
+    public int importOrder(Order order) {
+        return order.getLineItems().size();
+    }
+
+    @Mutation
+    public int importShelves(List<List<String>> shelves, long[] ids) {
+        return shelves.size() + ids.length;
+    }
+
+    private static Category createCategory(String name, int depth) {
+        Category category = new Category(name);
+        if (depth > 0) {
+            category.children.add(createCategory(name + ".a", depth - 1));
+            category.children.add(createCategory(name + ".b", depth - 1));
+        }
+        return category;
+    }
+}
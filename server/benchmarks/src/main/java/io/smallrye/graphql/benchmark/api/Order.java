@@ -0,0 +1,40 @@
+package io.smallrye.graphql.benchmark.api;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.eclipse.microprofile.graphql.DateFormat;
+
+/**
+ * Complex input, like a bulk order import
+ */
+public class Order {
+    private String customer;
+    @DateFormat("dd/MM/yyyy")
+    private LocalDate orderDate;
+    private List<LineItem> lineItems;
+
+    public String getCustomer() {
+        return customer;
+    }
+
+    public void setCustomer(String customer) {
+        this.customer = customer;
+    }
+
+    public LocalDate getOrderDate() {
+        return orderDate;
+    }
+
+    public void setOrderDate(LocalDate orderDate) {
+        this.orderDate = orderDate;
+    }
+
+    public List<LineItem> getLineItems() {
+        return lineItems;
+    }
+
+    public void setLineItems(List<LineItem> lineItems) {
+        this.lineItems = lineItems;
+    }
+}
@@ -0,0 +1,17 @@
+package io.smallrye.graphql.benchmark.api;
+
+/**
+ * Type that is added to Book with a batched @Source field
+ */
+public class Review {
+    public int stars;
+    public String text;
+
+    public Review() {
+    }
+
+    public Review(int stars, String text) {
+        this.stars = stars;
+        this.text = text;
+    }
+}
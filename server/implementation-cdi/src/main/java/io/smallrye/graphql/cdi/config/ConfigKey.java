@@ -9,8 +9,13 @@ public interface ConfigKey extends org.eclipse.microprofile.graphql.ConfigKey {
 
     public static final String PRINT_DATAFETCHER_EXCEPTION = "smallrye.graphql.printDataFetcherException";
     public static final String ALLOW_GET = "smallrye.graphql.allowGet";
+    public static final String NON_BLOCKING = "smallrye.graphql.nonBlocking";
     public static final String ENABLE_METRICS = "smallrye.graphql.metrics.enabled";
+    public static final String ENABLE_METRICS_HISTOGRAMS = "smallrye.graphql.metrics.histograms.enabled";
     public static final String ENABLE_TRACING = "smallrye.graphql.tracing.enabled";
+    public static final String TRACING_ROOT_FIELDS_ONLY = "smallrye.graphql.tracing.rootFieldsOnly";
+    public static final String TRACING_SOURCE_FIELD_SAMPLING = "smallrye.graphql.tracing.sourceFieldSampling";
+    public static final String TRACING_SOURCE_FIELD_THRESHOLD = "smallrye.graphql.tracing.sourceFieldThreshold";
     public static final String ENABLE_VALIDATION = "smallrye.graphql.validation.enabled";
     public static final String ENABLE_EVENTS = "smallrye.graphql.events.enabled";
     public static final String SCHEMA_INCLUDE_SCALARS = "smallrye.graphql.schema.includeScalars";
@@ -20,4 +25,10 @@ public interface ConfigKey extends org.eclipse.microprofile.graphql.ConfigKey {
     public static final String LOG_PAYLOAD = "smallrye.graphql.logPayload";
     public static final String FIELD_VISIBILITY = "smallrye.graphql.fieldVisibility";
     public static final String UNWRAP_EXCEPTIONS = "smallrye.graphql.unwrapExceptions";
+    public static final String OPERATION_INVOKER = "smallrye.graphql.operationInvoker";
+    public static final String MAX_QUERY_DEPTH = "smallrye.graphql.maxQueryDepth";
+    public static final String MAX_QUERY_COMPLEXITY = "smallrye.graphql.maxQueryComplexity";
+    public static final String ENABLE_PARALLEL_EXECUTION = "smallrye.graphql.parallel.enabled";
+    public static final String PARALLEL_MAX_THREADS = "smallrye.graphql.parallel.maxThreads";
+    public static final String PARALLEL_MAX_CONCURRENCY = "smallrye.graphql.parallel.maxConcurrency";
 }
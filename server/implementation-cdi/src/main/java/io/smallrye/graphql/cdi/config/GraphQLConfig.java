@@ -54,6 +54,10 @@ public class GraphQLConfig implements Config {
     @ConfigProperty(name = ConfigKey.ALLOW_GET, defaultValue = "false")
     private boolean allowGet;
 
+    @Inject
+    @ConfigProperty(name = ConfigKey.NON_BLOCKING, defaultValue = "false")
+    private boolean nonBlocking;
+
     @Inject
     @ConfigProperty(name = ConfigKey.ENABLE_METRICS, defaultValue = "false")
     private boolean metricsEnabled;
@@ -98,6 +102,30 @@ public class GraphQLConfig implements Config {
     @ConfigProperty(name = ConfigKey.UNWRAP_EXCEPTIONS, defaultValue = "")
     private Optional<List<String>> unwrapExceptions;
 
+    @Inject
+    @ConfigProperty(name = ConfigKey.OPERATION_INVOKER, defaultValue = Config.OPERATION_INVOKER_DEFAULT)
+    private String operationInvoker;
+
+    @Inject
+    @ConfigProperty(name = ConfigKey.MAX_QUERY_DEPTH)
+    private Optional<Integer> maxQueryDepth;
+
+    @Inject
+    @ConfigProperty(name = ConfigKey.MAX_QUERY_COMPLEXITY)
+    private Optional<Integer> maxQueryComplexity;
+
+    @Inject
+    @ConfigProperty(name = ConfigKey.ENABLE_PARALLEL_EXECUTION, defaultValue = "false")
+    private boolean parallelExecutionEnabled;
+
+    @Inject
+    @ConfigProperty(name = ConfigKey.PARALLEL_MAX_THREADS, defaultValue = "" + Config.PARALLEL_MAX_THREADS_DEFAULT)
+    private int parallelExecutionMaxThreads;
+
+    @Inject
+    @ConfigProperty(name = ConfigKey.PARALLEL_MAX_CONCURRENCY, defaultValue = "" + Config.PARALLEL_MAX_CONCURRENCY_DEFAULT)
+    private int parallelExecutionMaxConcurrency;
+
     public void init(@Observes @Initialized(ApplicationScoped.class) Object init) {
         hideList = mergeList(hideList, blackList);
         showList = mergeList(showList, whiteList);
@@ -128,6 +156,11 @@ public class GraphQLConfig implements Config {
         return allowGet;
     }
 
+    @Override
+    public boolean isNonBlocking() {
+        return nonBlocking;
+    }
+
     @Override
     public boolean isMetricsEnabled() {
         return metricsEnabled;
@@ -188,6 +221,36 @@ public class GraphQLConfig implements Config {
         return unwrapExceptions;
     }
 
+    @Override
+    public String getOperationInvoker() {
+        return operationInvoker;
+    }
+
+    @Override
+    public Optional<Integer> getMaxQueryDepth() {
+        return maxQueryDepth;
+    }
+
+    @Override
+    public Optional<Integer> getMaxQueryComplexity() {
+        return maxQueryComplexity;
+    }
+
+    @Override
+    public boolean isParallelExecutionEnabled() {
+        return parallelExecutionEnabled;
+    }
+
+    @Override
+    public int getParallelExecutionMaxThreads() {
+        return parallelExecutionMaxThreads;
+    }
+
+    @Override
+    public int getParallelExecutionMaxConcurrency() {
+        return parallelExecutionMaxConcurrency;
+    }
+
     public void setHideErrorMessageList(Optional<List<String>> hideList) {
         this.hideList = hideList;
     }
@@ -208,6 +271,10 @@ public class GraphQLConfig implements Config {
         this.allowGet = allowGet;
     }
 
+    public void setNonBlocking(boolean nonBlocking) {
+        this.nonBlocking = nonBlocking;
+    }
+
     public void setMetricsEnabled(boolean metricsEnabled) {
         this.metricsEnabled = metricsEnabled;
     }
@@ -244,6 +311,30 @@ public class GraphQLConfig implements Config {
         this.unwrapExceptions = unwrapExceptions;
     }
 
+    public void setOperationInvoker(String operationInvoker) {
+        this.operationInvoker = operationInvoker;
+    }
+
+    public void setMaxQueryDepth(Optional<Integer> maxQueryDepth) {
+        this.maxQueryDepth = maxQueryDepth;
+    }
+
+    public void setMaxQueryComplexity(Optional<Integer> maxQueryComplexity) {
+        this.maxQueryComplexity = maxQueryComplexity;
+    }
+
+    public void setParallelExecutionEnabled(boolean parallelExecutionEnabled) {
+        this.parallelExecutionEnabled = parallelExecutionEnabled;
+    }
+
+    public void setParallelExecutionMaxThreads(int parallelExecutionMaxThreads) {
+        this.parallelExecutionMaxThreads = parallelExecutionMaxThreads;
+    }
+
+    public void setParallelExecutionMaxConcurrency(int parallelExecutionMaxConcurrency) {
+        this.parallelExecutionMaxConcurrency = parallelExecutionMaxConcurrency;
+    }
+
     private Optional<List<String>> mergeList(Optional<List<String>> currentList, Optional<List<String>> deprecatedList) {
 
         List<String> combined = new ArrayList<>();
@@ -1,26 +1,34 @@
 package io.smallrye.graphql.cdi.metrics;
 
 import java.time.Duration;
-import java.util.Collections;
-import java.util.IdentityHashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import javax.enterprise.inject.spi.CDI;
 import javax.enterprise.util.AnnotationLiteral;
 
+import org.eclipse.microprofile.config.ConfigProvider;
 import org.eclipse.microprofile.metrics.Metadata;
 import org.eclipse.microprofile.metrics.MetricRegistry;
 import org.eclipse.microprofile.metrics.MetricType;
+import org.eclipse.microprofile.metrics.SimpleTimer;
 import org.eclipse.microprofile.metrics.Tag;
+import org.eclipse.microprofile.metrics.Timer;
 import org.eclipse.microprofile.metrics.annotation.RegistryType;
 
 import io.smallrye.graphql.api.Context;
 import io.smallrye.graphql.cdi.config.ConfigKey;
+import io.smallrye.graphql.execution.context.SmallRyeContext;
+import io.smallrye.graphql.schema.model.Field;
 import io.smallrye.graphql.schema.model.Operation;
 import io.smallrye.graphql.spi.EventingService;
 
 /**
- * Listening for event and create metrics from it
+ * Listening for event and create metrics from it.
+ * 
+ * The metrics of an operation are registered once, when the operation is created, and the start time of a data fetch
+ * is kept in the context of that fetch, so timing a fetch doesn't need any lookups or locks.
+ * The only allocation per fetch is the Duration that the metrics API takes.
  * 
  * @author Jan Martiska (jmartisk@redhat.com)
  * @author Phillip Kruger (phillip.kruger@redhat.com)
@@ -28,9 +36,22 @@ import io.smallrye.graphql.spi.EventingService;
 public class MetricsService implements EventingService {
 
     private MetricRegistry metricRegistry;
-    private final Map<Context, Long> startTimes = Collections.synchronizedMap(new IdentityHashMap<>());
+    private Boolean histogramsEnabled;
+    private final Map<Operation, OperationMetrics> operationMetrics = new ConcurrentHashMap<>();
     private static final String METRIC_NAME = "mp_graphql";
+    private static final String HISTOGRAM_NAME = "mp_graphql_latency";
     private final String DESCRIPTION = "Call statistics for the operation denoted by the 'name' tag";
+    private final String HISTOGRAM_DESCRIPTION = "Latency distribution for the operation denoted by the 'name' tag";
+
+    public MetricsService() {
+    }
+
+    /**
+     * @param metricRegistry the (vendor) registry to use, instead of the one from CDI
+     */
+    public MetricsService(MetricRegistry metricRegistry) {
+        this.metricRegistry = metricRegistry;
+    }
 
     @Override
     public Operation createOperation(Operation operation) {
@@ -41,22 +62,34 @@ public class MetricsService implements EventingService {
                 .withType(MetricType.SIMPLE_TIMER)
                 .withDescription(DESCRIPTION)
                 .build();
-        getMetricRegistry().simpleTimer(metadata, tags);
+        SimpleTimer simpleTimer = getMetricRegistry().simpleTimer(metadata, tags);
+
+        Timer histogram = null;
+        if (isHistogramsEnabled()) {
+            Metadata histogramMetadata = Metadata.builder()
+                    .withName(HISTOGRAM_NAME)
+                    .withType(MetricType.TIMER)
+                    .withDescription(HISTOGRAM_DESCRIPTION)
+                    .build();
+            histogram = getMetricRegistry().timer(histogramMetadata, tags);
+        }
+        operationMetrics.put(operation, new OperationMetrics(simpleTimer, histogram));
         return operation;
     }
 
     @Override
     public void beforeDataFetch(Context context) {
-        startTimes.put(context, System.nanoTime());
+        if (context instanceof SmallRyeContext) {
+            ((SmallRyeContext) context).setFetchStartNanos(System.nanoTime());
+        }
     }
 
     @Override
     public void afterDataFetch(Context context) {
-        Long startTime = startTimes.remove(context);
-        if (startTime != null) {
-            long duration = System.nanoTime() - startTime;
-            getMetricRegistry().simpleTimer(METRIC_NAME, getTags(context))
-                    .update(Duration.ofNanos(duration));
+        if (context instanceof SmallRyeContext) {
+            SmallRyeContext smallRyeContext = (SmallRyeContext) context;
+            long nanos = System.nanoTime() - smallRyeContext.getFetchStartNanos();
+            getOperationMetrics(smallRyeContext).update(nanos);
         }
     }
 
@@ -65,6 +98,16 @@ public class MetricsService implements EventingService {
         return ConfigKey.ENABLE_METRICS;
     }
 
+    private OperationMetrics getOperationMetrics(SmallRyeContext context) {
+        Field field = context.getField();
+        OperationMetrics metrics = (field instanceof Operation) ? operationMetrics.get(field) : null;
+        if (metrics == null) {
+            // The operation was not created through this service
+            metrics = new OperationMetrics(getMetricRegistry().simpleTimer(METRIC_NAME, getTags(context)), null);
+        }
+        return metrics;
+    }
+
     private MetricRegistry getMetricRegistry() {
         if (metricRegistry == null) {
             this.metricRegistry = CDI.current().select(MetricRegistry.class, new VendorType()).get();
@@ -72,6 +115,15 @@ public class MetricsService implements EventingService {
         return metricRegistry;
     }
 
+    private boolean isHistogramsEnabled() {
+        if (histogramsEnabled == null) {
+            histogramsEnabled = ConfigProvider.getConfig()
+                    .getOptionalValue(ConfigKey.ENABLE_METRICS_HISTOGRAMS, Boolean.class)
+                    .orElse(false);
+        }
+        return histogramsEnabled;
+    }
+
     private Tag[] getTags(Context context) {
         return new Tag[] {
                 new Tag("name", context.getFieldName()),
@@ -88,6 +140,28 @@ public class MetricsService implements EventingService {
         };
     }
 
+    /**
+     * The metrics of one operation
+     */
+    private static class OperationMetrics {
+        private final SimpleTimer simpleTimer;
+        private final Timer histogram;
+
+        OperationMetrics(SimpleTimer simpleTimer, Timer histogram) {
+            this.simpleTimer = simpleTimer;
+            this.histogram = histogram;
+        }
+
+        void update(long nanos) {
+            // SimpleTimer and Timer only take a Duration
+            Duration duration = Duration.ofNanos(nanos);
+            simpleTimer.update(duration);
+            if (histogram != null) {
+                histogram.update(duration);
+            }
+        }
+    }
+
     class VendorType extends AnnotationLiteral<RegistryType> implements RegistryType {
         @Override
         public MetricRegistry.Type type() {
@@ -2,15 +2,18 @@ package io.smallrye.graphql.cdi.tracing;
 
 import java.lang.reflect.InvocationTargetException;
 import java.util.Arrays;
-import java.util.Collections;
 import java.util.HashMap;
-import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
 
 import javax.enterprise.inject.spi.CDI;
 
+import org.eclipse.microprofile.config.Config;
+import org.eclipse.microprofile.config.ConfigProvider;
+
 import graphql.ExecutionInput;
 import graphql.GraphQLContext;
 import graphql.schema.DataFetchingEnvironment;
@@ -18,14 +21,24 @@ import graphql.schema.GraphQLList;
 import graphql.schema.GraphQLNamedType;
 import graphql.schema.GraphQLNonNull;
 import graphql.schema.GraphQLType;
+import io.opentracing.Scope;
 import io.opentracing.Span;
 import io.opentracing.Tracer;
 import io.smallrye.graphql.api.Context;
 import io.smallrye.graphql.cdi.config.ConfigKey;
+import io.smallrye.graphql.execution.context.SmallRyeContext;
+import io.smallrye.graphql.execution.event.InvokeInfo;
+import io.smallrye.graphql.schema.model.Field;
+import io.smallrye.graphql.schema.model.Operation;
 import io.smallrye.graphql.spi.EventingService;
 
 /**
- * Listening for event and create traces from it
+ * Listening for event and create traces from it.
+ *
+ * The span of a data fetch is kept in the context of that fetch, so concurrent fetches of the same execution
+ * don't get in each other's way. It ends when the fetch is done, which, for asynchronous results, is after the data fetcher
+ * returned. Source fields can be sampled, and the spans of fast source fields can be skipped:
+ * they are only created after the fetch, when it took long enough (or failed).
  *
  * @author Jan Martiska (jmartisk@redhat.com)
  * @author Phillip Kruger (phillip.kruger@redhat.com)
@@ -33,9 +46,10 @@ import io.smallrye.graphql.spi.EventingService;
 public class TracingService implements EventingService {
 
     private final String SPAN_CLASS = "io.opentracing.Span";
-    private final Map<String, Span> spans = Collections.synchronizedMap(new IdentityHashMap<>());
+    private static final String FETCH_SPAN = TracingService.class.getName() + ".fetchSpan";
 
     private Tracer tracer;
+    private Sampling sampling;
 
     @Override
     public void beforeExecute(Context context) {
@@ -55,38 +69,60 @@ public class TracingService implements EventingService {
 
     @Override
     public void beforeDataFetch(Context context) {
-        final DataFetchingEnvironment env = context.unwrap(DataFetchingEnvironment.class);
-
-        Span parentSpan = getParentSpan(getTracer(), env);
+        if (!(context instanceof SmallRyeContext)) {
+            return;
+        }
+        SmallRyeContext smallRyeContext = (SmallRyeContext) context;
+        if (isSourceField(smallRyeContext)) {
+            Sampling sampling = getSampling();
+            if (sampling.rootFieldsOnly || !sampling.sampleSourceField()) {
+                return;
+            }
+            if (sampling.sourceFieldThresholdMicros > 0) {
+                smallRyeContext.putFetchData(FETCH_SPAN, new FetchSpan(null));
+                return;
+            }
+        }
 
-        Span span = getTracer().buildSpan(getOperationName(env))
-                .asChildOf(parentSpan)
-                .withTag("graphql.executionId", context.getExecutionId())
-                .withTag("graphql.operationType", getOperationNameString(context.getOperationType()))
-                .withTag("graphql.operationName", context.getOperationName().orElse(EMPTY))
-                .withTag("graphql.parent", context.getParentTypeName().orElse(EMPTY))
-                .withTag("graphql.field", context.getFieldName())
-                .withTag("graphql.path", context.getPath())
-                .start();
-        tracer.activateSpan(span);
+        final DataFetchingEnvironment env = context.unwrap(DataFetchingEnvironment.class);
+        Span span = buildSpan(context, env).start();
+        smallRyeContext.putFetchData(FETCH_SPAN, new FetchSpan(span));
+    }
 
-        GraphQLContext graphQLContext = env.getContext();
-        graphQLContext.put(SPAN_CLASS, span);
+    /**
+     * The span is only active while the operation method runs, on the thread that runs it.
+     * The fetch might be done later, on another thread.
+     */
+    @Override
+    public void beforeInvoke(InvokeInfo invokeInfo) {
+        FetchSpan fetchSpan = getInvokedFetchSpan();
+        if (fetchSpan != null) {
+            fetchSpan.activate();
+        }
+    }
 
-        spans.put(context.getExecutionId(), span);
+    @Override
+    public void afterInvoke(InvokeInfo invokeInfo) {
+        FetchSpan fetchSpan = getInvokedFetchSpan();
+        if (fetchSpan != null) {
+            fetchSpan.deactivate();
+        }
     }
 
     @Override
-    public void errorDataFetch(String executionId, Throwable t) {
-        Span span = spans.get(executionId);
-        if (span != null) {
-            logError(span, t);
+    public void errorDataFetch(Context context, Throwable t) {
+        if (!(context instanceof SmallRyeContext)) {
+            return;
+        }
+        FetchSpan fetchSpan = ((SmallRyeContext) context).getFetchData(FETCH_SPAN);
+        if (fetchSpan != null) {
+            fetchSpan.error(t);
         }
     }
 
     @Override
     public void errorExecute(String executionId, Throwable t) {
-        Span span = spans.remove(executionId);
+        Span span = getTracer().activeSpan();
         if (span != null) {
             Map<String, Object> error = new HashMap<>();
             error.put("event.object", t);
@@ -97,8 +133,13 @@ public class TracingService implements EventingService {
 
     @Override
     public void afterDataFetch(Context context) {
-        Span span = spans.remove(context.getExecutionId());
-        span.finish();
+        if (!(context instanceof SmallRyeContext)) {
+            return;
+        }
+        FetchSpan fetchSpan = ((SmallRyeContext) context).getFetchData(FETCH_SPAN);
+        if (fetchSpan != null) {
+            fetchSpan.finish(context);
+        }
     }
 
     @Override
@@ -113,6 +154,34 @@ public class TracingService implements EventingService {
         return tracer;
     }
 
+    private Tracer.SpanBuilder buildSpan(Context context, DataFetchingEnvironment env) {
+        return getTracer().buildSpan(getOperationName(env))
+                .asChildOf(getParentSpan(getTracer(), env))
+                .withTag("graphql.executionId", context.getExecutionId())
+                .withTag("graphql.operationType", getOperationNameString(context.getOperationType()))
+                .withTag("graphql.operationName", context.getOperationName().orElse(EMPTY))
+                .withTag("graphql.parent", context.getParentTypeName().orElse(EMPTY))
+                .withTag("graphql.field", context.getFieldName())
+                .withTag("graphql.path", context.getPath());
+    }
+
+    private static FetchSpan getInvokedFetchSpan() {
+        SmallRyeContext context = SmallRyeContext.getContext();
+        return (context != null) ? context.getFetchData(FETCH_SPAN) : null;
+    }
+
+    private static boolean isSourceField(SmallRyeContext context) {
+        Field field = context.getField();
+        return (field instanceof Operation) && ((Operation) field).isSourceField();
+    }
+
+    private Sampling getSampling() {
+        if (sampling == null) {
+            sampling = new Sampling(ConfigProvider.getConfig());
+        }
+        return sampling;
+    }
+
     private Span getParentSpan(Tracer tracer, final DataFetchingEnvironment env) {
         final GraphQLContext localContext = env.getLocalContext();
         if (localContext != null && localContext.hasKey(Span.class)) {
@@ -176,6 +245,90 @@ public class TracingService implements EventingService {
         return getOperationNameString(Arrays.asList(types));
     }
 
+    /**
+     * Which source fields are traced
+     */
+    private static class Sampling {
+        private final boolean rootFieldsOnly;
+        private final int sourceFieldPercentage;
+        private final long sourceFieldThresholdMicros;
+
+        Sampling(Config config) {
+            this.rootFieldsOnly = config.getOptionalValue(ConfigKey.TRACING_ROOT_FIELDS_ONLY, Boolean.class)
+                    .orElse(false);
+            this.sourceFieldPercentage = config.getOptionalValue(ConfigKey.TRACING_SOURCE_FIELD_SAMPLING, Integer.class)
+                    .orElse(100);
+            this.sourceFieldThresholdMicros = TimeUnit.MILLISECONDS.toMicros(
+                    config.getOptionalValue(ConfigKey.TRACING_SOURCE_FIELD_THRESHOLD, Long.class).orElse(0L));
+        }
+
+        boolean sampleSourceField() {
+            return sourceFieldPercentage >= 100
+                    || sourceFieldPercentage > 0 && ThreadLocalRandom.current().nextInt(100) < sourceFieldPercentage;
+        }
+    }
+
+    /**
+     * The span of one data fetch. Without a span, it is only created when the fetch is done,
+     * if it took long enough or failed.
+     * Errors that come after the fetch is done are not logged on the finished span.
+     */
+    private class FetchSpan {
+        private final Span span;
+        private Scope scope;
+        private final long startMicros = TimeUnit.MILLISECONDS.toMicros(System.currentTimeMillis());
+        private final long startNanos = System.nanoTime();
+        private Throwable error;
+        private boolean finished;
+
+        FetchSpan(Span span) {
+            this.span = span;
+        }
+
+        void activate() {
+            if (span != null && scope == null) {
+                scope = getTracer().activateSpan(span);
+            }
+        }
+
+        void deactivate() {
+            if (scope != null) {
+                scope.close();
+                scope = null;
+            }
+        }
+
+        synchronized void error(Throwable throwable) {
+            if (finished) {
+                return;
+            }
+            if (span != null) {
+                logError(span, throwable);
+            } else {
+                error = throwable;
+            }
+        }
+
+        synchronized void finish(Context context) {
+            finished = true;
+            if (span != null) {
+                span.finish();
+                return;
+            }
+            long durationMicros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - startNanos);
+            if (error == null && durationMicros < getSampling().sourceFieldThresholdMicros) {
+                return;
+            }
+            Span deferredSpan = buildSpan(context, context.unwrap(DataFetchingEnvironment.class))
+                    .withStartTimestamp(startMicros)
+                    .start();
+            if (error != null) {
+                logError(deferredSpan, error);
+            }
+            deferredSpan.finish(startMicros + durationMicros);
+        }
+    }
+
     private static final String UNDERSCORE = "_";
     private static final String EMPTY = "";
     private static final String PREFIX = "GraphQL";
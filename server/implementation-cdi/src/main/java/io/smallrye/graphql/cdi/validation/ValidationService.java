@@ -1,11 +1,15 @@
 package io.smallrye.graphql.cdi.validation;
 
 import java.lang.reflect.Method;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import javax.validation.ConstraintViolation;
 import javax.validation.Validation;
 import javax.validation.ValidatorFactory;
+import javax.validation.executable.ExecutableValidator;
+import javax.validation.metadata.MethodDescriptor;
 
 import io.smallrye.graphql.cdi.config.ConfigKey;
 import io.smallrye.graphql.execution.event.InvokeInfo;
@@ -13,11 +17,16 @@ import io.smallrye.graphql.spi.EventingService;
 import io.smallrye.graphql.spi.LookupService;
 
 /**
- * Validate input before execution
+ * Validate input before execution.
+ *
+ * Most operations have no constraints on their parameters, so we look at the constraint metadata only once per method
+ * and skip the validation of the methods that don't need it.
  */
 public class ValidationService implements EventingService {
     private static ValidatorFactory VALIDATOR_FACTORY = null;
     private final LookupService lookupService;
+    private final Map<Method, Boolean> constrainedMethods = new ConcurrentHashMap<>();
+    private volatile ExecutableValidator executableValidator;
 
     public ValidationService() {
         this.lookupService = LookupService.get();
@@ -25,16 +34,16 @@ public class ValidationService implements EventingService {
 
     @Override
     public void beforeInvoke(InvokeInfo invokeInfo) throws Exception {
-        Object declaringObject = invokeInfo.getOperationInstance();
         Method method = invokeInfo.getOperationMethod();
+        if (!constrainedMethods.computeIfAbsent(method, this::hasConstrainedParameters)) {
+            return;
+        }
 
+        Object declaringObject = invokeInfo.getOperationInstance();
         Object[] arguments = invokeInfo.getOperationTransformedArguments();
 
-        if (VALIDATOR_FACTORY == null) {
-            VALIDATOR_FACTORY = getValidatorFactory();
-        }
-        Set<ConstraintViolation<Object>> violations = VALIDATOR_FACTORY.getValidator()
-                .forExecutables().validateParameters(declaringObject, method, arguments);
+        Set<ConstraintViolation<Object>> violations = getExecutableValidator()
+                .validateParameters(declaringObject, method, arguments);
 
         if (!violations.isEmpty()) {
             throw new BeanValidationException(violations, method);
@@ -46,7 +55,29 @@ public class ValidationService implements EventingService {
         return ConfigKey.ENABLE_VALIDATION;
     }
 
+    private boolean hasConstrainedParameters(Method method) {
+        MethodDescriptor descriptor = getValidatorFactory().getValidator()
+                .getConstraintsForClass(method.getDeclaringClass())
+                .getConstraintsForMethod(method.getName(), method.getParameterTypes());
+        // The descriptor is null, if the method is not constrained at all
+        return descriptor != null && descriptor.hasConstrainedParameters();
+    }
+
+    private ExecutableValidator getExecutableValidator() {
+        if (executableValidator == null) {
+            executableValidator = getValidatorFactory().getValidator().forExecutables();
+        }
+        return executableValidator;
+    }
+
     private ValidatorFactory getValidatorFactory() {
+        if (VALIDATOR_FACTORY == null) {
+            VALIDATOR_FACTORY = lookupValidatorFactory();
+        }
+        return VALIDATOR_FACTORY;
+    }
+
+    private ValidatorFactory lookupValidatorFactory() {
         try {
             ValidatorFactory validatorFactory = (ValidatorFactory) lookupService.getInstance(ValidatorFactory.class);
             return validatorFactory;
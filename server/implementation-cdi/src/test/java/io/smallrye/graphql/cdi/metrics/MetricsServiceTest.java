@@ -0,0 +1,78 @@
+package io.smallrye.graphql.cdi.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.microprofile.metrics.MetricRegistry;
+import org.eclipse.microprofile.metrics.SimpleTimer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.smallrye.graphql.execution.Indexer;
+import io.smallrye.graphql.execution.context.SmallRyeContext;
+import io.smallrye.graphql.schema.SchemaBuilder;
+import io.smallrye.graphql.schema.model.Operation;
+import io.smallrye.graphql.schema.model.Schema;
+import io.smallrye.metrics.MetricRegistries;
+
+/**
+ * Test timing data fetches
+ */
+public class MetricsServiceTest {
+
+    private MetricRegistry registry;
+    private MetricsService metricsService;
+    private Operation slow;
+
+    @BeforeEach
+    public void init() {
+        registry = MetricRegistries.get(MetricRegistry.Type.VENDOR);
+        metricsService = new MetricsService(registry);
+        Schema schema = SchemaBuilder.build(Indexer.getTestIndex("io/smallrye/graphql/test/events"));
+        slow = schema.getQueries().stream()
+                .filter(operation -> operation.getName().equals("slow"))
+                .findFirst().get();
+    }
+
+    @AfterEach
+    public void cleanUp() {
+        MetricRegistries.dropAll();
+    }
+
+    @Test
+    public void testFetchIsTimed() throws InterruptedException {
+        metricsService.createOperation(slow);
+
+        fetch(new SmallRyeContext(null, null, null, slow), 10);
+        fetch(new SmallRyeContext(null, null, null, slow), 10);
+
+        SimpleTimer timer = getSimpleTimer();
+        assertEquals(2, timer.getCount());
+        assertTrue(timer.getElapsedTime().toMillis() >= 20, "Both fetches should be timed");
+    }
+
+    @Test
+    public void testOperationIsRegisteredOnce() {
+        metricsService.createOperation(slow);
+        metricsService.createOperation(slow);
+
+        assertEquals(1, registry.getSimpleTimers().size());
+        assertEquals(0, getSimpleTimer().getCount());
+    }
+
+    private void fetch(SmallRyeContext context, long millis) throws InterruptedException {
+        metricsService.beforeDataFetch(context);
+        TimeUnit.MILLISECONDS.sleep(millis);
+        metricsService.afterDataFetch(context);
+    }
+
+    private SimpleTimer getSimpleTimer() {
+        Collection<SimpleTimer> timers = registry.getSimpleTimers().values();
+        assertEquals(1, timers.size());
+        return timers.iterator().next();
+    }
+}
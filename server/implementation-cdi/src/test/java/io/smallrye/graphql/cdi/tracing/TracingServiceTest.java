@@ -0,0 +1,156 @@
+package io.smallrye.graphql.cdi.tracing;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.concurrent.TimeUnit;
+
+import javax.json.Json;
+import javax.json.JsonObject;
+
+import org.jboss.weld.junit.MockBean;
+import org.jboss.weld.junit5.WeldInitiator;
+import org.jboss.weld.junit5.WeldJunit5Extension;
+import org.jboss.weld.junit5.WeldSetup;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import graphql.schema.GraphQLSchema;
+import io.opentracing.Tracer;
+import io.opentracing.mock.MockSpan;
+import io.opentracing.mock.MockTracer;
+import io.smallrye.graphql.bootstrap.Bootstrap;
+import io.smallrye.graphql.bootstrap.Config;
+import io.smallrye.graphql.cdi.CdiLookupService;
+import io.smallrye.graphql.cdi.config.ConfigKey;
+import io.smallrye.graphql.execution.ExecutionService;
+import io.smallrye.graphql.execution.Indexer;
+import io.smallrye.graphql.schema.SchemaBuilder;
+import io.smallrye.graphql.schema.model.Schema;
+import io.smallrye.graphql.test.events.HeroApi;
+
+/**
+ * Test which data fetches are traced
+ */
+@ExtendWith(WeldJunit5Extension.class)
+public class TracingServiceTest {
+
+    private final MockTracer tracer = new MockTracer();
+
+    @WeldSetup
+    public WeldInitiator weld = WeldInitiator.from(HeroApi.class, CdiLookupService.class)
+            .addBeans(MockBean.of(tracer, Tracer.class))
+            .build();
+
+    @AfterEach
+    public void cleanUp() {
+        System.clearProperty(ConfigKey.TRACING_ROOT_FIELDS_ONLY);
+        System.clearProperty(ConfigKey.TRACING_SOURCE_FIELD_SAMPLING);
+        System.clearProperty(ConfigKey.TRACING_SOURCE_FIELD_THRESHOLD);
+    }
+
+    @Test
+    public void testAllFieldsAreTracedByDefault() {
+        execute("{ heroes { fastPower } }");
+
+        assertEquals(1, countSpans("GraphQL:Query.heroes"));
+        assertEquals(3, countSpans("GraphQL:Hero.fastPower"));
+    }
+
+    @Test
+    public void testRootFieldsOnly() {
+        System.setProperty(ConfigKey.TRACING_ROOT_FIELDS_ONLY, "true");
+
+        execute("{ heroes { fastPower } }");
+
+        assertEquals(1, countSpans("GraphQL:Query.heroes"));
+        assertEquals(0, countSpans("GraphQL:Hero.fastPower"));
+    }
+
+    @Test
+    public void testNoSourceFieldIsSampled() {
+        System.setProperty(ConfigKey.TRACING_SOURCE_FIELD_SAMPLING, "0");
+
+        execute("{ heroes { fastPower } }");
+
+        assertEquals(1, countSpans("GraphQL:Query.heroes"));
+        assertEquals(0, countSpans("GraphQL:Hero.fastPower"));
+    }
+
+    @Test
+    public void testSomeSourceFieldsAreSampled() {
+        System.setProperty(ConfigKey.TRACING_SOURCE_FIELD_SAMPLING, "50");
+
+        for (int i = 0; i < 20; i++) {
+            execute("{ heroes { fastPower } }");
+        }
+
+        assertEquals(20, countSpans("GraphQL:Query.heroes"));
+        // 60 source fields, about half of them sampled
+        long sampled = countSpans("GraphQL:Hero.fastPower");
+        assertEquals(true, sampled > 0 && sampled < 60, sampled + " source fields were sampled");
+    }
+
+    @Test
+    public void testOnlySlowOrFailingSourceFieldsAreTracedAboveThreshold() {
+        System.setProperty(ConfigKey.TRACING_SOURCE_FIELD_THRESHOLD, String.valueOf(HeroApi.SLOW_MILLIS / 2));
+
+        execute("{ heroes { fastPower slowPower failingPower } }");
+
+        assertEquals(1, countSpans("GraphQL:Query.heroes"));
+        assertEquals(0, countSpans("GraphQL:Hero.fastPower"));
+        assertEquals(3, countSpans("GraphQL:Hero.slowPower"));
+        for (MockSpan span : tracer.finishedSpans()) {
+            if (span.operationName().equals("GraphQL:Hero.slowPower")) {
+                long durationMillis = TimeUnit.MICROSECONDS.toMillis(span.finishMicros() - span.startMicros());
+                assertEquals(true, durationMillis >= HeroApi.SLOW_MILLIS, "Span took " + durationMillis + " ms");
+            }
+        }
+        assertEquals(3, countSpans("GraphQL:Hero.failingPower"));
+        for (MockSpan span : tracer.finishedSpans()) {
+            if (span.operationName().equals("GraphQL:Hero.failingPower")) {
+                assertEquals(true, span.tags().get("error"));
+            }
+        }
+    }
+
+    @Test
+    public void testBatchedSourceFieldsAreFinished() {
+        execute("{ heroes { batchPower } }");
+
+        assertEquals(3, countSpans("GraphQL:Hero.batchPower"));
+    }
+
+    private long countSpans(String operationName) {
+        return tracer.finishedSpans().stream()
+                .filter(span -> span.operationName().equals(operationName))
+                .count();
+    }
+
+    private void execute(String query) {
+        Config config = getGraphQLConfig();
+        Schema schema = SchemaBuilder.build(Indexer.getTestIndex("io/smallrye/graphql/test/events"));
+        GraphQLSchema graphQLSchema = Bootstrap.bootstrap(schema, config);
+        ExecutionService executionService = new ExecutionService(config, graphQLSchema, schema.getBatchOperations());
+
+        JsonObject input = Json.createObjectBuilder().add("query", query).build();
+        executionService.execute(input);
+    }
+
+    private Config getGraphQLConfig() {
+        return new Config() {
+            @Override
+            public boolean isTracingEnabled() {
+                return true;
+            }
+
+            @Override
+            public <T> T getConfigValue(String key, Class<T> type, T defaultValue) {
+                if (key.equals(ConfigKey.ENABLE_TRACING)) {
+                    return (T) Boolean.TRUE;
+                }
+                return defaultValue;
+            }
+        };
+    }
+}
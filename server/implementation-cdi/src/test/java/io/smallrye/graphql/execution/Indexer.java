@@ -24,6 +24,12 @@ public class Indexer {
         return indexer.complete();
     }
 
+    public static IndexView getTestIndex(String packageName) {
+        org.jboss.jandex.Indexer indexer = new org.jboss.jandex.Indexer();
+        indexDirectory(indexer, packageName);
+        return indexer.complete();
+    }
+
     private static void indexDirectory(org.jboss.jandex.Indexer indexer, String baseDir) {
         InputStream directoryStream = getResourceAsStream(baseDir);
         BufferedReader reader = new BufferedReader(new InputStreamReader(directoryStream));
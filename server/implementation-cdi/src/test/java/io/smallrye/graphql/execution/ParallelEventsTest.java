@@ -0,0 +1,153 @@
+package io.smallrye.graphql.execution;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import javax.json.Json;
+import javax.json.JsonObject;
+
+import org.eclipse.microprofile.metrics.MetricRegistry;
+import org.eclipse.microprofile.metrics.SimpleTimer;
+import org.jboss.weld.junit.MockBean;
+import org.jboss.weld.junit5.WeldInitiator;
+import org.jboss.weld.junit5.WeldJunit5Extension;
+import org.jboss.weld.junit5.WeldSetup;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import graphql.schema.GraphQLSchema;
+import io.opentracing.Tracer;
+import io.opentracing.mock.MockSpan;
+import io.opentracing.mock.MockTracer;
+import io.smallrye.graphql.bootstrap.Bootstrap;
+import io.smallrye.graphql.bootstrap.Config;
+import io.smallrye.graphql.cdi.CdiLookupService;
+import io.smallrye.graphql.cdi.config.ConfigKey;
+import io.smallrye.graphql.schema.SchemaBuilder;
+import io.smallrye.graphql.schema.model.Schema;
+import io.smallrye.graphql.test.events.SlowApi;
+import io.smallrye.metrics.MetricRegistries;
+
+/**
+ * Test that metrics and tracing measure the whole operation when it runs in parallel
+ */
+@ExtendWith(WeldJunit5Extension.class)
+public class ParallelEventsTest {
+
+    private static final long SLEEP_MICROS = TimeUnit.MILLISECONDS.toMicros(SlowApi.SLEEP_MILLIS);
+
+    private final MockTracer tracer = new MockTracer();
+
+    private ExecutionService executionService;
+
+    @WeldSetup
+    public WeldInitiator weld = WeldInitiator.from(SlowApi.class, CdiLookupService.class, MetricRegistries.class)
+            .addBeans(MockBean.of(tracer, Tracer.class))
+            .build();
+
+    @BeforeEach
+    public void init() {
+        Config config = getGraphQLConfig();
+        Schema schema = SchemaBuilder.build(Indexer.getTestIndex("io/smallrye/graphql/test/events"));
+        GraphQLSchema graphQLSchema = Bootstrap.bootstrap(schema, config);
+        this.executionService = new ExecutionService(config, graphQLSchema, schema.getBatchOperations());
+    }
+
+    @AfterEach
+    public void cleanUp() {
+        MetricRegistries.dropAll();
+    }
+
+    @Test
+    public void testMetricsTimeTheWholeOperation() {
+        execute("{ slow }");
+
+        SimpleTimer timer = getSimpleTimer("slow");
+        assertEquals(1, timer.getCount());
+        assertTrue(timer.getElapsedTime().toMillis() >= SlowApi.SLEEP_MILLIS,
+                "The timer should include the operation, but was " + timer.getElapsedTime());
+    }
+
+    @Test
+    public void testSpanEndsWithTheOperation() {
+        execute("{ slow }");
+
+        MockSpan span = getFinishedSpan("GraphQL:Query.slow");
+        assertTrue(span.finishMicros() - span.startMicros() >= SLEEP_MICROS,
+                "The span should include the operation");
+        assertNull(span.tags().get("error"));
+        assertNotEquals(span, tracer.activeSpan(), "The span should not stay active");
+    }
+
+    @Test
+    public void testSpanHasTheErrorOfTheOperation() {
+        execute("{ failing }");
+
+        MockSpan span = getFinishedSpan("GraphQL:Query.failing");
+        assertEquals(true, span.tags().get("error"));
+        assertEquals(1, span.logEntries().size());
+        assertEquals(1, getSimpleTimer("failing").getCount());
+    }
+
+    private void execute(String query) {
+        JsonObject input = Json.createObjectBuilder().add("query", query).build();
+        executionService.execute(input);
+    }
+
+    private SimpleTimer getSimpleTimer(String name) {
+        MetricRegistry registry = MetricRegistries.get(MetricRegistry.Type.VENDOR);
+        List<SimpleTimer> timers = registry
+                .getSimpleTimers((metricID, metric) -> name.equals(metricID.getTags().get("name")))
+                .values().stream().collect(Collectors.toList());
+        assertEquals(1, timers.size());
+        return timers.get(0);
+    }
+
+    private MockSpan getFinishedSpan(String operationName) {
+        List<MockSpan> spans = tracer.finishedSpans().stream()
+                .filter(span -> span.operationName().equals(operationName))
+                .collect(Collectors.toList());
+        assertEquals(1, spans.size(), "Finished spans: " + tracer.finishedSpans());
+        return spans.get(0);
+    }
+
+    private Config getGraphQLConfig() {
+        return new Config() {
+            @Override
+            public boolean isPrintDataFetcherException() {
+                return true;
+            }
+
+            @Override
+            public boolean isParallelExecutionEnabled() {
+                return true;
+            }
+
+            @Override
+            public boolean isMetricsEnabled() {
+                return true;
+            }
+
+            @Override
+            public boolean isTracingEnabled() {
+                return true;
+            }
+
+            @Override
+            public <T> T getConfigValue(String key, Class<T> type, T defaultValue) {
+                if (key.equals(ConfigKey.ENABLE_METRICS) || key.equals(ConfigKey.ENABLE_TRACING)) {
+                    return (T) Boolean.TRUE;
+                }
+                return defaultValue;
+            }
+        };
+    }
+}
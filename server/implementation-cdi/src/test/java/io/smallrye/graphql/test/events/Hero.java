@@ -0,0 +1,24 @@
+package io.smallrye.graphql.test.events;
+
+/**
+ * A type with source fields
+ */
+public class Hero {
+
+    private String name;
+
+    public Hero() {
+    }
+
+    public Hero(String name) {
+        this.name = name;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+}
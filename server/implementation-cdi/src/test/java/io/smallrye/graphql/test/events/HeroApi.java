@@ -0,0 +1,43 @@
+package io.smallrye.graphql.test.events;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import javax.enterprise.context.ApplicationScoped;
+
+import org.eclipse.microprofile.graphql.GraphQLApi;
+import org.eclipse.microprofile.graphql.Query;
+import org.eclipse.microprofile.graphql.Source;
+
+/**
+ * Fast, slow, failing and batched source fields, to test what is traced
+ */
+@GraphQLApi
+@ApplicationScoped
+public class HeroApi {
+
+    public static final long SLOW_MILLIS = 60;
+
+    @Query
+    public List<Hero> heroes() {
+        return Arrays.asList(new Hero("Iron Man"), new Hero("Spider Man"), new Hero("Hulk"));
+    }
+
+    public String fastPower(@Source Hero hero) {
+        return "power of " + hero.getName();
+    }
+
+    public String slowPower(@Source Hero hero) throws InterruptedException {
+        Thread.sleep(SLOW_MILLIS);
+        return "power of " + hero.getName();
+    }
+
+    public String failingPower(@Source Hero hero) {
+        throw new IllegalStateException("no power");
+    }
+
+    public List<String> batchPower(@Source List<Hero> heroes) {
+        return heroes.stream().map(hero -> "power of " + hero.getName()).collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,28 @@
+package io.smallrye.graphql.test.events;
+
+import javax.enterprise.context.ApplicationScoped;
+
+import org.eclipse.microprofile.graphql.GraphQLApi;
+import org.eclipse.microprofile.graphql.Query;
+
+/**
+ * Operations that take a while, to test what the eventing services measure
+ */
+@GraphQLApi
+@ApplicationScoped
+public class SlowApi {
+
+    public static final long SLEEP_MILLIS = 100;
+
+    @Query
+    public String slow() throws InterruptedException {
+        Thread.sleep(SLEEP_MILLIS);
+        return "done";
+    }
+
+    @Query
+    public String failing() throws InterruptedException {
+        Thread.sleep(SLEEP_MILLIS);
+        throw new IllegalStateException("failed slowly");
+    }
+}
@@ -1,20 +1,35 @@
 package io.smallrye.graphql.servlet;
 
 import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.InputStreamReader;
 import java.io.Reader;
 import java.io.StringReader;
 import java.net.URLDecoder;
+import java.nio.charset.Charset;
+import java.nio.charset.IllegalCharsetNameException;
+import java.nio.charset.StandardCharsets;
+import java.nio.charset.UnsupportedCharsetException;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import javax.inject.Inject;
 import javax.json.Json;
+import javax.json.JsonArray;
+import javax.json.JsonException;
 import javax.json.JsonObject;
 import javax.json.JsonObjectBuilder;
 import javax.json.JsonReader;
 import javax.json.JsonReaderFactory;
-import javax.json.JsonWriter;
-import javax.json.JsonWriterFactory;
+import javax.json.JsonValue;
+import javax.servlet.AsyncContext;
+import javax.servlet.AsyncEvent;
+import javax.servlet.AsyncListener;
+import javax.servlet.ReadListener;
+import javax.servlet.ServletInputStream;
 import javax.servlet.ServletOutputStream;
+import javax.servlet.WriteListener;
 import javax.servlet.annotation.WebServlet;
 import javax.servlet.http.HttpServlet;
 import javax.servlet.http.HttpServletRequest;
@@ -28,12 +43,11 @@ import io.smallrye.graphql.execution.ExecutionService;
  *
  * @author Phillip Kruger (phillip.kruger@redhat.com)
  */
-@WebServlet(name = "SmallRyeGraphQLExecutionServlet", urlPatterns = { "/graphql/*" }, loadOnStartup = 1)
+@WebServlet(name = "SmallRyeGraphQLExecutionServlet", urlPatterns = { "/graphql/*" }, loadOnStartup = 1, asyncSupported = true)
 public class ExecutionServlet extends HttpServlet {
     private static final long serialVersionUID = -2859915918802356120L;
 
     private static final JsonReaderFactory jsonReaderFactory = Json.createReaderFactory(null);
-    private static final JsonWriterFactory jsonWriterFactory = Json.createWriterFactory(null);
 
     @Inject
     ExecutionService executionService;
@@ -55,13 +69,21 @@ public class ExecutionServlet extends HttpServlet {
             if (config.isAllowGet()) {
                 String query = request.getParameter(QUERY);
                 String variables = request.getParameter(VARIABLES);
+                String extensions = request.getParameter(EXTENSIONS);
 
                 JsonObjectBuilder input = Json.createObjectBuilder();
-                input.add(QUERY, URLDecoder.decode(query, "UTF8"));
+                // The query can be left out when the client sends a persisted query hash
+                if (query != null) {
+                    input.add(QUERY, URLDecoder.decode(query, "UTF8"));
+                }
                 if (variables != null && !variables.isEmpty()) {
                     JsonObject jsonObject = toJsonObject(URLDecoder.decode(variables, "UTF8"));
                     input.add(VARIABLES, jsonObject);
                 }
+                if (extensions != null && !extensions.isEmpty()) {
+                    JsonObject jsonObject = toJsonObject(URLDecoder.decode(extensions, "UTF8"));
+                    input.add(EXTENSIONS, jsonObject);
+                }
                 handleInput(input.build(), response);
             } else {
                 response.sendError(HttpServletResponse.SC_METHOD_NOT_ALLOWED, "GET Queries is not enabled");
@@ -74,6 +96,25 @@ public class ExecutionServlet extends HttpServlet {
 
     @Override
     protected void doPost(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        if (config.isNonBlocking() && request.isAsyncSupported()) {
+            // Answer a bad encoding before going async, the read listener could only fail with a 500
+            Charset charset;
+            try {
+                charset = getCharset(request);
+            } catch (IllegalCharsetNameException ex) {
+                response.sendError(HttpServletResponse.SC_BAD_REQUEST, "Invalid request encoding");
+                return;
+            } catch (UnsupportedCharsetException ex) {
+                response.sendError(HttpServletResponse.SC_UNSUPPORTED_MEDIA_TYPE, "Unsupported request encoding");
+                return;
+            }
+            AsyncContext asyncContext = request.startAsync();
+            // Like a blocking request, the execution is not timed out by the container
+            asyncContext.setTimeout(0);
+            ServletInputStream in = request.getInputStream();
+            in.setReadListener(new NonBlockingExecution(asyncContext, in, charset));
+            return;
+        }
         try (BufferedReader reader = request.getReader()) {
             handleInput(reader, response);
         } catch (IOException ex) {
@@ -83,25 +124,188 @@ public class ExecutionServlet extends HttpServlet {
     }
 
     private void handleInput(Reader inputReader, HttpServletResponse response) throws IOException {
+        JsonValue jsonInput;
         try (JsonReader jsonReader = jsonReaderFactory.createReader(inputReader)) {
-            JsonObject jsonInput = jsonReader.readObject();
-            handleInput(jsonInput, response);
+            jsonInput = jsonReader.readValue();
+        } catch (JsonException ex) {
+            // An empty or malformed body is the client's fault
+            response.sendError(HttpServletResponse.SC_BAD_REQUEST, "Invalid JSON request");
+            return;
+        }
+        if (jsonInput.getValueType().equals(JsonValue.ValueType.OBJECT)) {
+            handleInput(jsonInput.asJsonObject(), response);
+        } else if (jsonInput.getValueType().equals(JsonValue.ValueType.ARRAY)) {
+            handleBatchInput(jsonInput.asJsonArray(), response);
+        } else {
+            response.sendError(HttpServletResponse.SC_BAD_REQUEST, "Expected a request object or an array of requests");
         }
     }
 
     private void handleInput(JsonObject jsonInput, HttpServletResponse response) throws IOException {
-        JsonObject outputJson = executionService.execute(jsonInput);
-        if (outputJson != null) {
-            ServletOutputStream out = response.getOutputStream();
-            response.setContentType(APPLICATION_JSON_UTF8);
-
-            try (JsonWriter jsonWriter = jsonWriterFactory.createWriter(out)) {
-                jsonWriter.writeObject(outputJson);
-                out.flush();
+        response.setContentType(APPLICATION_JSON_UTF8);
+        ServletOutputStream out = response.getOutputStream();
+        // Stream the response, rather than creating it in memory first
+        executionService.execute(jsonInput, out);
+    }
+
+    private void handleBatchInput(JsonArray jsonInputs, HttpServletResponse response) throws IOException {
+        response.setContentType(APPLICATION_JSON_UTF8);
+        ServletOutputStream out = response.getOutputStream();
+        // Every response is written as soon as it is done (in order)
+        executionService.execute(jsonInputs, out);
+    }
+
+    /**
+     * Reads the request, executes it and writes the response without blocking a container thread.
+     *
+     * The body is read as it arrives, the execution completes on the threads of the data fetchers, and the
+     * response is written as the client accepts it. Batches of requests (an array body) are still executed
+     * blocking, on the container thread that reads the end of the body.
+     *
+     * The async context is completed at most once: the container can complete it too (on an error or a
+     * timeout), so every completion goes through {@link #complete()}.
+     */
+    private class NonBlockingExecution implements ReadListener {
+        private final AsyncContext asyncContext;
+        private final ServletInputStream in;
+        private final Charset charset;
+        private final ByteArrayOutputStream body = new ByteArrayOutputStream();
+        private final byte[] buffer = new byte[BUFFER_SIZE];
+        private final AtomicBoolean completed = new AtomicBoolean();
+
+        NonBlockingExecution(AsyncContext asyncContext, ServletInputStream in, Charset charset) {
+            this.asyncContext = asyncContext;
+            this.in = in;
+            this.charset = charset;
+            asyncContext.addListener(new AsyncListener() {
+                @Override
+                public void onComplete(AsyncEvent event) {
+                    completed.set(true);
+                }
+
+                @Override
+                public void onTimeout(AsyncEvent event) {
+                    NonBlockingExecution.this.onError(event.getThrowable());
+                }
+
+                @Override
+                public void onError(AsyncEvent event) {
+                    NonBlockingExecution.this.onError(event.getThrowable());
+                }
+
+                @Override
+                public void onStartAsync(AsyncEvent event) {
+                }
+            });
+        }
+
+        @Override
+        public void onDataAvailable() throws IOException {
+            int length;
+            while (in.isReady() && (length = in.read(buffer)) != -1) {
+                body.write(buffer, 0, length);
+            }
+        }
+
+        @Override
+        public void onAllDataRead() {
+            HttpServletResponse response = (HttpServletResponse) asyncContext.getResponse();
+            try {
+                JsonValue jsonInput;
+                try (JsonReader jsonReader = jsonReaderFactory.createReader(
+                        new InputStreamReader(new ByteArrayInputStream(body.toByteArray()), charset))) {
+                    jsonInput = jsonReader.readValue();
+                } catch (JsonException ex) {
+                    // An empty or malformed body is the client's fault
+                    response.sendError(HttpServletResponse.SC_BAD_REQUEST, "Invalid JSON request");
+                    complete();
+                    return;
+                }
+                if (jsonInput.getValueType().equals(JsonValue.ValueType.OBJECT)) {
+                    ByteArrayOutputStream out = new ByteArrayOutputStream();
+                    executionService.executeAsync(jsonInput.asJsonObject(), out).whenComplete((v, throwable) -> {
+                        if (throwable != null) {
+                            onError(throwable);
+                        } else {
+                            write(out.toByteArray());
+                        }
+                    });
+                } else if (jsonInput.getValueType().equals(JsonValue.ValueType.ARRAY)) {
+                    handleBatchInput(jsonInput.asJsonArray(), response);
+                    complete();
+                } else {
+                    response.sendError(HttpServletResponse.SC_BAD_REQUEST,
+                            "Expected a request object or an array of requests");
+                    complete();
+                }
+            } catch (IOException | RuntimeException ex) {
+                onError(ex);
+            }
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            SmallRyeGraphQLServletLogging.log.nonBlockingExecutionFailed(throwable);
+            if (completed.get()) {
+                return;
+            }
+            HttpServletResponse response = (HttpServletResponse) asyncContext.getResponse();
+            if (!response.isCommitted()) {
+                response.setStatus(HttpServletResponse.SC_INTERNAL_SERVER_ERROR);
+            }
+            complete();
+        }
+
+        private void complete() {
+            if (completed.compareAndSet(false, true)) {
+                asyncContext.complete();
+            }
+        }
+
+        private void write(byte[] bytes) {
+            if (completed.get()) {
+                return;
+            }
+            try {
+                HttpServletResponse response = (HttpServletResponse) asyncContext.getResponse();
+                response.setContentType(APPLICATION_JSON_UTF8);
+                response.setContentLength(bytes.length);
+                ServletOutputStream out = response.getOutputStream();
+                out.setWriteListener(new WriteListener() {
+                    private int offset = 0;
+
+                    @Override
+                    public void onWritePossible() throws IOException {
+                        while (out.isReady()) {
+                            if (offset == bytes.length) {
+                                complete();
+                                return;
+                            }
+                            int length = Math.min(BUFFER_SIZE, bytes.length - offset);
+                            out.write(bytes, offset, length);
+                            offset += length;
+                        }
+                    }
+
+                    @Override
+                    public void onError(Throwable throwable) {
+                        NonBlockingExecution.this.onError(throwable);
+                    }
+                });
+            } catch (IOException | RuntimeException ex) {
+                onError(ex);
             }
         }
     }
 
+    private static Charset getCharset(HttpServletRequest request) {
+        String encoding = request.getCharacterEncoding();
+        if (encoding == null) {
+            return StandardCharsets.UTF_8;
+        }
+        return Charset.forName(encoding);
+    }
+
     private static JsonObject toJsonObject(String jsonString) {
         if (jsonString == null || jsonString.isEmpty()) {
             return null;
@@ -112,7 +316,9 @@ public class ExecutionServlet extends HttpServlet {
     }
 
     private static final String APPLICATION_JSON_UTF8 = "application/json;charset=UTF-8";
+    private static final int BUFFER_SIZE = 8192;
 
     private static final String QUERY = "query";
     private static final String VARIABLES = "variables";
+    private static final String EXTENSIONS = "extensions";
 }
@@ -13,14 +13,20 @@ import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
 import java.util.zip.ZipInputStream;
 
+import org.jboss.jandex.ClassInfo;
 import org.jboss.jandex.CompositeIndex;
 import org.jboss.jandex.IndexReader;
 import org.jboss.jandex.IndexView;
@@ -28,55 +34,134 @@ import org.jboss.jandex.Indexer;
 
 /**
  * This creates an index from the classpath.
+ *
+ * Jars and folders that contain a (readable) {@code META-INF/jandex.idx} use that index, the others are indexed
+ * in parallel, each with its own {@link Indexer}. All indexes are merged with a {@link CompositeIndex}.
+ * The classes of an index found by the class loader outside of these jars and folders are not indexed again.
  * 
  * @author Phillip Kruger (phillip.kruger@redhat.com)
  */
 public class IndexInitializer {
 
     public IndexView createIndex(Set<URL> urls) {
-        List<IndexView> indexes = new ArrayList<>();
+        return createIndex(urls, getClass().getClassLoader());
+    }
 
-        // TODO: Read all jandex.idx in the classpath: 
-        // something like Enumeration<URL> systemResources = ClassLoader.getSystemResources(JANDEX_IDX);
+    IndexView createIndex(Set<URL> urls, ClassLoader classLoader) {
+        List<IndexView> indexes = new ArrayList<>();
+        Set<String> covered = Collections.emptySet();
 
-        // Check in this war
-        try (InputStream stream = getClass().getClassLoader().getResourceAsStream(JANDEX_IDX)) {
-            IndexReader reader = new IndexReader(stream);
-            IndexView i = reader.read();
-            SmallRyeGraphQLServletLogging.log.loadedIndexFrom(JANDEX_IDX);
-            indexes.add(i);
-        } catch (IOException ex) {
+        // Check in this war. An index of one of the urls is read with that url, and not merged twice
+        URL jandexIdx = classLoader.getResource(JANDEX_IDX);
+        if (jandexIdx == null) {
             SmallRyeGraphQLServletLogging.log.generatingIndex();
+        } else if (!isIn(jandexIdx, urls)) {
+            try (InputStream stream = jandexIdx.openStream()) {
+                IndexReader reader = new IndexReader(stream);
+                IndexView i = reader.read();
+                SmallRyeGraphQLServletLogging.log.loadedIndexFrom(jandexIdx.toString());
+                indexes.add(i);
+                covered = toClassFiles(i);
+            } catch (IOException | IllegalArgumentException ex) {
+                SmallRyeGraphQLServletLogging.log.cannotReadIndex(jandexIdx.toString(), ex);
+            }
         }
 
         // Classes in this artifact
-        IndexView i = createIndexView(urls);
-        indexes.add(i);
+        indexes.addAll(createIndexViews(urls, covered));
 
         return merge(indexes);
     }
 
     public IndexView createIndex() {
         Set<URL> urls = getUrlFromClassPath();
-        return createIndexView(urls);
+        return merge(createIndexViews(urls, Collections.emptySet()));
     }
 
-    private IndexView createIndexView(Set<URL> urls) {
-        Indexer indexer = new Indexer();
-        for (URL url : urls) {
-            try {
-                if (url.toString().endsWith(DOT_JAR) || url.toString().endsWith(DOT_WAR)) {
-                    SmallRyeGraphQLServletLogging.log.processingFile(url.toString());
-                    processJar(url.openStream(), indexer);
-                } else {
-                    processFolder(url, indexer);
+    /**
+     * Index every url on its own, in parallel
+     *
+     * @param covered the class files that are already in an index, and do not have to be indexed again
+     */
+    private List<IndexView> createIndexViews(Set<URL> urls, Set<String> covered) {
+        long start = System.nanoTime();
+        ForkJoinPool pool = new ForkJoinPool(Math.max(1, Math.min(urls.size(), PARALLELISM)));
+        try {
+            List<CompletableFuture<IndexView>> futures = new ArrayList<>();
+            for (URL url : urls) {
+                futures.add(CompletableFuture.supplyAsync(() -> createIndexView(url, covered), pool));
+            }
+            List<IndexView> indexes = new ArrayList<>();
+            for (CompletableFuture<IndexView> future : futures) {
+                indexes.add(future.join());
+            }
+            SmallRyeGraphQLServletLogging.log.indexedUrls(urls.size(), toMillis(start));
+            return indexes;
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    private IndexView createIndexView(URL url, Set<String> covered) {
+        long start = System.nanoTime();
+        try {
+            IndexView prebuilt = readIndex(url);
+            if (prebuilt != null) {
+                SmallRyeGraphQLServletLogging.log.loadedIndexOf(url.toString(), toMillis(start));
+                return prebuilt;
+            }
+        } catch (IOException | IllegalArgumentException ex) {
+            // Like an index of another jandex version, or not an index at all
+            SmallRyeGraphQLServletLogging.log.cannotReadIndex(url.toString(), ex);
+        }
+
+        try {
+            Indexer indexer = new Indexer();
+            if (url.toString().endsWith(DOT_JAR) || url.toString().endsWith(DOT_WAR)) {
+                SmallRyeGraphQLServletLogging.log.processingFile(url.toString());
+                try (InputStream stream = url.openStream()) {
+                    processJar(stream, indexer, covered);
                 }
-            } catch (IOException ex) {
-                SmallRyeGraphQLServletLogging.log.cannotProcessFile(url.toString(), ex);
+            } else {
+                processFolder(url, indexer, covered);
             }
+            IndexView index = indexer.complete();
+            SmallRyeGraphQLServletLogging.log.indexedUrl(url.toString(), toMillis(start), index.getKnownClasses().size());
+            return index;
+        } catch (IOException ex) {
+            SmallRyeGraphQLServletLogging.log.cannotProcessFile(url.toString(), ex);
+            return new Indexer().complete();
         }
+    }
 
-        return indexer.complete();
+    /**
+     * Read the jandex.idx that was shipped in a jar or folder
+     *
+     * @return the index, or null if there is none
+     */
+    private IndexView readIndex(URL url) throws IOException {
+        Path path = toPath(url);
+        if (path == null) {
+            return null;
+        }
+        if (Files.isDirectory(path)) {
+            Path idx = path.resolve(JANDEX_IDX);
+            if (Files.isRegularFile(idx)) {
+                try (InputStream stream = Files.newInputStream(idx)) {
+                    return new IndexReader(stream).read();
+                }
+            }
+        } else if (Files.isRegularFile(path) && path.toString().endsWith(DOT_JAR)) {
+            try (ZipFile jar = new ZipFile(path.toFile())) {
+                ZipEntry idx = jar.getEntry(JANDEX_IDX);
+                if (idx != null) {
+                    try (InputStream stream = jar.getInputStream(idx)) {
+                        return new IndexReader(stream).read();
+                    }
+                }
+            }
+        }
+        return null;
     }
 
     private Set<URL> collectURLsFromClassPath() {
@@ -92,7 +177,7 @@ public class IndexInitializer {
         return urls;
     }
 
-    private void processFolder(URL url, Indexer indexer) throws IOException {
+    private void processFolder(URL url, Indexer indexer, Set<String> covered) throws IOException {
         try {
             Path folderPath = Paths.get(url.toURI());
             if (Files.isDirectory(folderPath)) {
@@ -103,8 +188,12 @@ public class IndexInitializer {
                             .collect(Collectors.toList());
 
                     for (Path c : collected) {
-                        String entryName = c.getFileName().toString();
-                        processFile(entryName, Files.newInputStream(c), indexer);
+                        String entryName = folderPath.relativize(c).toString().replace('\\', '/');
+                        if (!covered.contains(entryName)) {
+                            try (InputStream stream = Files.newInputStream(c)) {
+                                processFile(entryName, stream, indexer, covered);
+                            }
+                        }
                     }
                 }
             } else {
@@ -116,24 +205,29 @@ public class IndexInitializer {
         }
     }
 
-    private void processJar(InputStream inputStream, Indexer indexer) throws IOException {
+    private void processJar(InputStream inputStream, Indexer indexer, Set<String> covered) throws IOException {
 
         ZipInputStream zis = new ZipInputStream(inputStream, StandardCharsets.UTF_8);
         ZipEntry ze;
 
         while ((ze = zis.getNextEntry()) != null) {
             String entryName = ze.getName();
-            processFile(entryName, zis, indexer);
+            if (entryName.startsWith(WEB_INF_CLASSES)) {
+                entryName = entryName.substring(WEB_INF_CLASSES.length());
+            }
+            if (!covered.contains(entryName)) {
+                processFile(entryName, zis, indexer, covered);
+            }
         }
     }
 
-    private void processFile(String fileName, InputStream is, Indexer indexer) throws IOException {
+    private void processFile(String fileName, InputStream is, Indexer indexer, Set<String> covered) throws IOException {
         if (fileName.endsWith(DOT_CLASS)) {
             SmallRyeGraphQLServletLogging.log.processingFile(fileName);
             indexer.index(is);
         } else if (fileName.endsWith(DOT_WAR) || fileName.endsWith(DOT_JAR)) {
             // necessary because of the thorntail arquillian adapter
-            processJar(is, indexer);
+            processJar(is, indexer, covered);
         }
     }
 
@@ -153,6 +247,48 @@ public class IndexInitializer {
         return urls;
     }
 
+    // if the resource is in one of the urls (a folder or a jar)
+    private static boolean isIn(URL resource, Set<URL> urls) {
+        String resourceName = resource.toString();
+        for (URL url : urls) {
+            String location = url.toString();
+            if (resourceName.equals(JAR + location + JAR_SEPARATOR + JANDEX_IDX)
+                    || (location.endsWith("/") && resourceName.equals(location + JANDEX_IDX))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // the class files (like com/example/Hero.class) in an index
+    private static Set<String> toClassFiles(IndexView index) {
+        Set<String> classFiles = new HashSet<>();
+        for (ClassInfo classInfo : index.getKnownClasses()) {
+            classFiles.add(classInfo.name().toString().replace('.', '/') + DOT_CLASS);
+        }
+        return classFiles;
+    }
+
+    private static Path toPath(URL url) {
+        if (!FILE.equals(url.getProtocol())) {
+            return null;
+        }
+        try {
+            return Paths.get(url.toURI());
+        } catch (URISyntaxException | RuntimeException ex) {
+            return null;
+        }
+    }
+
+    private static long toMillis(long start) {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+    }
+
+    private static final int PARALLELISM = Runtime.getRuntime().availableProcessors();
+    private static final String FILE = "file";
+    private static final String JAR = "jar:";
+    private static final String JAR_SEPARATOR = "!/";
+    private static final String WEB_INF_CLASSES = "WEB-INF/classes/";
     private static final String DOT_JAR = ".jar";
     private static final String DOT_WAR = ".war";
     private static final String DOT_CLASS = ".class";
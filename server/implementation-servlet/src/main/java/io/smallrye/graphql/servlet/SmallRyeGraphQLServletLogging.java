@@ -55,6 +55,34 @@ public interface SmallRyeGraphQLServletLogging {
     @Message(id = 20008, value = "SmallRye GraphQL destroyed")
     void destroyed();
 
+    @LogMessage(level = Logger.Level.INFO)
+    @Message(id = 20009, value = "Loaded the schema from snapshot [%s]")
+    void loadedSnapshot(String path);
+
+    @LogMessage(level = Logger.Level.INFO)
+    @Message(id = 20010, value = "Schema snapshot [%s] is stale, scanning the classes")
+    void staleSnapshot(String path);
+
+    @LogMessage(level = Logger.Level.WARN)
+    @Message(id = 20011, value = "Cannot read schema snapshot [%s], scanning the classes")
+    void cannotReadSnapshot(String path, @Cause Exception cause);
+
+    @LogMessage(level = Logger.Level.DEBUG)
+    @Message(id = 20012, value = "Loaded the index of [%s] in %d ms")
+    void loadedIndexOf(String path, long millis);
+
+    @LogMessage(level = Logger.Level.DEBUG)
+    @Message(id = 20013, value = "Indexed [%s] in %d ms (%d classes)")
+    void indexedUrl(String path, long millis, int classes);
+
+    @LogMessage(level = Logger.Level.INFO)
+    @Message(id = 20014, value = "Indexed %d locations in %d ms")
+    void indexedUrls(int locations, long millis);
+
+    @LogMessage(level = Logger.Level.WARN)
+    @Message(id = 20015, value = "Cannot read the index of [%s], indexing its classes instead")
+    void cannotReadIndex(String path, @Cause Exception cause);
+
     /* 21000-21999: query processing related logs */
 
     @LogMessage(level = Logger.Level.ERROR)
@@ -69,4 +97,16 @@ public interface SmallRyeGraphQLServletLogging {
     @Message(id = 21002, value = "Unable to log reader %s")
     void unableToLogReader(Reader reader);
 
+    @LogMessage(level = Logger.Level.WARN)
+    @Message(id = 21003, value = "Error on GraphQL WebSocket [%s]")
+    void webSocketError(String sessionId, @Cause Throwable cause);
+
+    @LogMessage(level = Logger.Level.ERROR)
+    @Message(id = 21004, value = "Operation [%s] on GraphQL WebSocket [%s] failed")
+    void webSocketOperationFailed(String operationId, String sessionId, @Cause Throwable cause);
+
+    @LogMessage(level = Logger.Level.ERROR)
+    @Message(id = 21005, value = "Non-blocking execution of the GraphQL request failed")
+    void nonBlockingExecutionFailed(@Cause Throwable cause);
+
 }
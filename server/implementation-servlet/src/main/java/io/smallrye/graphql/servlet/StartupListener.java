@@ -1,6 +1,8 @@
 package io.smallrye.graphql.servlet;
 
+import java.io.BufferedInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.net.MalformedURLException;
 import java.net.URL;
 import java.nio.file.Files;
@@ -9,6 +11,7 @@ import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -24,6 +27,7 @@ import graphql.schema.GraphQLSchema;
 import io.smallrye.graphql.cdi.config.GraphQLConfig;
 import io.smallrye.graphql.cdi.producer.GraphQLProducer;
 import io.smallrye.graphql.schema.SchemaBuilder;
+import io.smallrye.graphql.schema.SchemaSnapshot;
 import io.smallrye.graphql.schema.model.Schema;
 
 /**
@@ -46,19 +50,17 @@ public class StartupListener implements ServletContextListener {
     public void contextInitialized(ServletContextEvent sce) {
 
         try {
-            Set<URL> warURLs = new HashSet<>();
             // Classes in the war
-            String warClasses = sce.getServletContext().getRealPath("WEB-INF/classes");
-            warURLs.add(Paths.get(warClasses).toUri().toURL());
+            Path warClasses = Paths.get(sce.getServletContext().getRealPath("WEB-INF/classes"));
 
             // Libs in the war
             String libs = sce.getServletContext().getRealPath("WEB-INF/lib");
             List<Path> jarsInLib = getJarsInLib(Paths.get(libs));
-            warURLs.addAll(toURLs(jarsInLib));
 
-            IndexView index = indexInitializer.createIndex(warURLs);
-
-            Schema schema = SchemaBuilder.build(index); // Get the smallrye schema
+            Schema schema = loadSnapshot(warClasses, jarsInLib).orElse(null);
+            if (schema == null) {
+                schema = scan(warClasses, jarsInLib);
+            }
             GraphQLSchema graphQLSchema = graphQLProducer.initialize(schema);
 
             sce.getServletContext().setAttribute(SchemaServlet.SCHEMA_PROP, graphQLSchema);
@@ -68,6 +70,38 @@ public class StartupListener implements ServletContextListener {
         }
     }
 
+    private Schema scan(Path warClasses, List<Path> jarsInLib) throws MalformedURLException {
+        Set<URL> warURLs = new HashSet<>();
+        warURLs.add(warClasses.toUri().toURL());
+        warURLs.addAll(toURLs(jarsInLib));
+
+        IndexView index = indexInitializer.createIndex(warURLs);
+
+        return SchemaBuilder.build(index); // Get the smallrye schema
+    }
+
+    /**
+     * Use the schema snapshot that the build plugin created, if the classes and the libs did not change since
+     */
+    private Optional<Schema> loadSnapshot(Path warClasses, List<Path> jarsInLib) {
+        Path snapshot = warClasses.resolve(SchemaSnapshot.LOCATION);
+        if (!Files.isRegularFile(snapshot)) {
+            return Optional.empty();
+        }
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(snapshot))) {
+            Optional<Schema> schema = SchemaSnapshot.read(in, SchemaSnapshot.checksum(warClasses, jarsInLib));
+            if (schema.isPresent()) {
+                SmallRyeGraphQLServletLogging.log.loadedSnapshot(snapshot.toString());
+            } else {
+                SmallRyeGraphQLServletLogging.log.staleSnapshot(snapshot.toString());
+            }
+            return schema;
+        } catch (IOException ex) {
+            SmallRyeGraphQLServletLogging.log.cannotReadSnapshot(snapshot.toString(), ex);
+            return Optional.empty();
+        }
+    }
+
     @Override
     public void contextDestroyed(ServletContextEvent sce) {
         SmallRyeGraphQLServletLogging.log.destroyed();
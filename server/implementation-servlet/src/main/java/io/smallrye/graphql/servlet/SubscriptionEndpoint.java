@@ -0,0 +1,351 @@
+package io.smallrye.graphql.servlet;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.enterprise.inject.spi.CDI;
+import javax.inject.Inject;
+import javax.json.Json;
+import javax.json.JsonBuilderFactory;
+import javax.json.JsonException;
+import javax.json.JsonObject;
+import javax.json.JsonObjectBuilder;
+import javax.json.JsonReader;
+import javax.json.JsonReaderFactory;
+import javax.json.JsonValue;
+import javax.websocket.CloseReason;
+import javax.websocket.OnClose;
+import javax.websocket.OnError;
+import javax.websocket.OnMessage;
+import javax.websocket.OnOpen;
+import javax.websocket.Session;
+import javax.websocket.server.ServerEndpoint;
+
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import io.smallrye.graphql.cdi.config.GraphQLConfig;
+import io.smallrye.graphql.execution.ExecutionService;
+
+/**
+ * Executing GraphQL operations (mostly subscriptions) over a WebSocket, using the graphql-ws protocol
+ * (as done by subscriptions-transport-ws).
+ *
+ * Nothing is buffered without bounds: every operation only requests the next event once the previous one
+ * has been written to the socket, so a slow client slows down the subscription rather than filling up the memory.
+ * Messages are written one at a time per connection, so at most one event per operation waits in the queue.
+ *
+ * A new instance is created for every connection.
+ */
+@ServerEndpoint(value = "/graphql", subprotocols = { "graphql-ws" })
+public class SubscriptionEndpoint {
+
+    private static final JsonReaderFactory jsonReaderFactory = Json.createReaderFactory(null);
+    private static final JsonBuilderFactory jsonBuilderFactory = Json.createBuilderFactory(null);
+
+    @Inject
+    ExecutionService executionService;
+
+    @Inject
+    GraphQLConfig config;
+
+    private final Map<String, OperationSubscriber> operations = new ConcurrentHashMap<>();
+    private final Deque<Message> queue = new ArrayDeque<>();
+    private boolean sending = false;
+    private Session session;
+
+    public SubscriptionEndpoint() {
+    }
+
+    public SubscriptionEndpoint(ExecutionService executionService, GraphQLConfig config) {
+        this.executionService = executionService;
+        this.config = config;
+    }
+
+    @OnOpen
+    public void onOpen(Session session) {
+        this.session = session;
+        // Not all containers inject into WebSocket endpoints
+        if (executionService == null) {
+            executionService = CDI.current().select(ExecutionService.class).get();
+        }
+        if (config == null) {
+            config = CDI.current().select(GraphQLConfig.class).get();
+        }
+    }
+
+    @OnMessage
+    public void onMessage(String text) {
+        JsonObject message;
+        try (JsonReader jsonReader = jsonReaderFactory.createReader(new StringReader(text))) {
+            message = jsonReader.readObject();
+        } catch (JsonException | IllegalStateException ex) {
+            send(createMessage(GQL_CONNECTION_ERROR, null, errorPayload("Invalid message")), null);
+            return;
+        }
+
+        String type = message.getString(TYPE, "");
+        String id = message.getString(ID, null);
+        switch (type) {
+            case GQL_CONNECTION_INIT:
+                send(createMessage(GQL_CONNECTION_ACK, null, null), null);
+                break;
+            case GQL_START:
+                start(id, message.get(PAYLOAD));
+                break;
+            case GQL_STOP:
+                stop(id);
+                break;
+            case GQL_CONNECTION_TERMINATE:
+                close();
+                break;
+            default:
+                sendError(id, "Unknown message type [" + type + "]");
+        }
+    }
+
+    @OnClose
+    public void onClose() {
+        cancelAll();
+    }
+
+    @OnError
+    public void onError(Throwable throwable) {
+        SmallRyeGraphQLServletLogging.log.webSocketError(getSessionId(), throwable);
+        cancelAll();
+    }
+
+    private void start(String id, JsonValue payload) {
+        if (id == null || payload == null || !payload.getValueType().equals(JsonValue.ValueType.OBJECT)) {
+            sendError(id, "A start message needs an id and a payload");
+            return;
+        }
+
+        OperationSubscriber subscriber = new OperationSubscriber(id);
+        if (operations.putIfAbsent(id, subscriber) != null) {
+            sendError(id, "Operation [" + id + "] is already running");
+            return;
+        }
+
+        Publisher<JsonObject> responses;
+        try {
+            responses = executionService.executeAsStream(payload.asJsonObject());
+        } catch (RuntimeException ex) {
+            operations.remove(id, subscriber);
+            SmallRyeGraphQLServletLogging.log.webSocketOperationFailed(id, getSessionId(), ex);
+            sendError(id, config.getDefaultErrorMessage());
+            return;
+        }
+
+        if (responses == null) {
+            operations.remove(id, subscriber);
+            send(createMessage(GQL_COMPLETE, id, null), null);
+        } else {
+            responses.subscribe(subscriber);
+        }
+    }
+
+    private void stop(String id) {
+        OperationSubscriber subscriber = id != null ? operations.remove(id) : null;
+        if (subscriber != null) {
+            subscriber.cancel();
+            send(createMessage(GQL_COMPLETE, id, null), null);
+        }
+    }
+
+    private void cancelAll() {
+        for (OperationSubscriber subscriber : operations.values()) {
+            subscriber.cancel();
+        }
+        operations.clear();
+        synchronized (queue) {
+            queue.clear();
+        }
+    }
+
+    private void close() {
+        cancelAll();
+        try {
+            session.close(new CloseReason(CloseReason.CloseCodes.NORMAL_CLOSURE, null));
+        } catch (IOException ex) {
+            SmallRyeGraphQLServletLogging.log.webSocketError(getSessionId(), ex);
+        }
+    }
+
+    private void sendError(String id, String errorMessage) {
+        send(createMessage(GQL_ERROR, id, errorPayload(errorMessage)), null);
+    }
+
+    /**
+     * Write the message, or queue it if another message is being written.
+     *
+     * @param message the message
+     * @param onSent called once the message is written
+     */
+    private void send(String message, Runnable onSent) {
+        Message toSend = new Message(message, onSent);
+        synchronized (queue) {
+            if (sending) {
+                queue.add(toSend);
+                return;
+            }
+            sending = true;
+        }
+        sendNow(toSend);
+    }
+
+    private void sendNow(Message message) {
+        try {
+            session.getAsyncRemote().sendText(message.text, result -> {
+                if (!result.isOK()) {
+                    sendFailed(result.getException());
+                    return;
+                }
+                try {
+                    if (message.onSent != null) {
+                        message.onSent.run();
+                    }
+                } finally {
+                    sendNext();
+                }
+            });
+        } catch (RuntimeException ex) {
+            // Like an IllegalStateException when the session is closed
+            sendFailed(ex);
+        }
+    }
+
+    private void sendNext() {
+        Message next;
+        synchronized (queue) {
+            next = queue.poll();
+            if (next == null) {
+                sending = false;
+                return;
+            }
+        }
+        sendNow(next);
+    }
+
+    /**
+     * Nothing more is sent after a failed write, but we stop sending, so a later message is not queued forever.
+     */
+    private void sendFailed(Throwable throwable) {
+        SmallRyeGraphQLServletLogging.log.webSocketError(getSessionId(), throwable);
+        synchronized (queue) {
+            queue.clear();
+            sending = false;
+        }
+        cancelAll();
+    }
+
+    private String getSessionId() {
+        return session != null ? session.getId() : null;
+    }
+
+    private static String createMessage(String type, String id, JsonObject payload) {
+        JsonObjectBuilder builder = jsonBuilderFactory.createObjectBuilder();
+        builder.add(TYPE, type);
+        if (id != null) {
+            builder.add(ID, id);
+        }
+        if (payload != null) {
+            builder.add(PAYLOAD, payload);
+        }
+        return builder.build().toString();
+    }
+
+    private static JsonObject errorPayload(String errorMessage) {
+        return jsonBuilderFactory.createObjectBuilder().add(MESSAGE, errorMessage).build();
+    }
+
+    /**
+     * Sends the responses of one operation, and asks for the next response once the previous is written.
+     */
+    private class OperationSubscriber implements Subscriber<JsonObject> {
+        private final String id;
+        private volatile Subscription subscription;
+        private volatile boolean cancelled = false;
+
+        OperationSubscriber(String id) {
+            this.id = id;
+        }
+
+        @Override
+        public void onSubscribe(Subscription subscription) {
+            this.subscription = subscription;
+            if (cancelled) {
+                subscription.cancel();
+            } else {
+                subscription.request(1);
+            }
+        }
+
+        @Override
+        public void onNext(JsonObject response) {
+            send(createMessage(GQL_DATA, id, response), this::requestNext);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            if (operations.remove(id, this)) {
+                SmallRyeGraphQLServletLogging.log.webSocketOperationFailed(id, getSessionId(), throwable);
+                sendError(id, config.getDefaultErrorMessage());
+            }
+        }
+
+        @Override
+        public void onComplete() {
+            if (operations.remove(id, this)) {
+                send(createMessage(GQL_COMPLETE, id, null), null);
+            }
+        }
+
+        void cancel() {
+            cancelled = true;
+            Subscription s = subscription;
+            if (s != null) {
+                s.cancel();
+            }
+        }
+
+        private void requestNext() {
+            if (!cancelled) {
+                subscription.request(1);
+            }
+        }
+    }
+
+    private static class Message {
+        private final String text;
+        private final Runnable onSent;
+
+        Message(String text, Runnable onSent) {
+            this.text = text;
+            this.onSent = onSent;
+        }
+    }
+
+    private static final String TYPE = "type";
+    private static final String ID = "id";
+    private static final String PAYLOAD = "payload";
+    private static final String MESSAGE = "message";
+
+    // Client to server
+    private static final String GQL_CONNECTION_INIT = "connection_init";
+    private static final String GQL_START = "start";
+    private static final String GQL_STOP = "stop";
+    private static final String GQL_CONNECTION_TERMINATE = "connection_terminate";
+
+    // Server to client
+    private static final String GQL_CONNECTION_ACK = "connection_ack";
+    private static final String GQL_CONNECTION_ERROR = "connection_error";
+    private static final String GQL_DATA = "data";
+    private static final String GQL_ERROR = "error";
+    private static final String GQL_COMPLETE = "complete";
+}
@@ -0,0 +1,236 @@
+package io.smallrye.graphql.servlet;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+
+import javax.json.JsonObject;
+import javax.servlet.AsyncContext;
+import javax.servlet.AsyncEvent;
+import javax.servlet.AsyncListener;
+import javax.servlet.ReadListener;
+import javax.servlet.ServletInputStream;
+import javax.servlet.ServletOutputStream;
+import javax.servlet.WriteListener;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import io.smallrye.graphql.cdi.config.GraphQLConfig;
+import io.smallrye.graphql.execution.ExecutionService;
+
+/**
+ * Test the non-blocking POST execution, driving the read and write listeners like a container would
+ */
+public class ExecutionServletTest {
+
+    private ExecutionService executionService;
+    private ExecutionServlet servlet;
+    private AsyncContext asyncContext;
+    private HttpServletResponse response;
+    private TestOutputStream out;
+
+    @BeforeEach
+    public void init() throws IOException {
+        executionService = mock(ExecutionService.class);
+        GraphQLConfig config = mock(GraphQLConfig.class);
+        when(config.isNonBlocking()).thenReturn(true);
+        servlet = new ExecutionServlet(executionService, config);
+
+        out = new TestOutputStream();
+        response = mock(HttpServletResponse.class);
+        when(response.getOutputStream()).thenReturn(out);
+        asyncContext = mock(AsyncContext.class);
+        when(asyncContext.getResponse()).thenReturn(response);
+    }
+
+    @Test
+    public void testExecute() throws IOException {
+        when(executionService.executeAsync(any(JsonObject.class), any(OutputStream.class))).thenAnswer(invocation -> {
+            OutputStream response = invocation.getArgument(1);
+            response.write(RESPONSE.getBytes(StandardCharsets.UTF_8));
+            return CompletableFuture.completedFuture(null);
+        });
+
+        post("{\"query\":\"{ hello }\"}");
+
+        assertNotNull(out.writeListener, "the response should be written with a write listener");
+        out.writeListener.onWritePossible();
+        assertEquals(RESPONSE, out.toString());
+        verify(response, never()).sendError(any(Integer.class), anyString());
+        verify(asyncContext).setTimeout(0);
+        verify(asyncContext).complete();
+    }
+
+    @Test
+    public void testCompletedByContainer() throws IOException {
+        CompletableFuture<Void> execution = new CompletableFuture<>();
+        when(executionService.executeAsync(any(JsonObject.class), any(OutputStream.class))).thenReturn(execution);
+
+        post("{\"query\":\"{ hello }\"}");
+
+        // The container gives up on the request (e.g. the client went away) before the execution is done
+        ArgumentCaptor<AsyncListener> listener = ArgumentCaptor.forClass(AsyncListener.class);
+        verify(asyncContext).addListener(listener.capture());
+        AsyncEvent event = new AsyncEvent(asyncContext, new IOException("connection reset"));
+        listener.getValue().onError(event);
+        listener.getValue().onComplete(event);
+        execution.complete(null);
+
+        verify(asyncContext, times(1)).complete();
+        assertNull(out.writeListener, "a completed request should not be written");
+    }
+
+    @Test
+    public void testExecutionFailure() throws IOException {
+        CompletableFuture<Void> failed = new CompletableFuture<>();
+        failed.completeExceptionally(new IllegalStateException("boom"));
+        when(executionService.executeAsync(any(JsonObject.class), any(OutputStream.class))).thenReturn(failed);
+
+        post("{\"query\":\"{ hello }\"}");
+
+        verify(response).setStatus(HttpServletResponse.SC_INTERNAL_SERVER_ERROR);
+        verify(asyncContext).complete();
+    }
+
+    @Test
+    public void testMalformedBody() throws IOException {
+        post("{\"query\":");
+
+        verify(response).sendError(eq(HttpServletResponse.SC_BAD_REQUEST), anyString());
+        verify(response, never()).setStatus(HttpServletResponse.SC_INTERNAL_SERVER_ERROR);
+        verify(asyncContext).complete();
+    }
+
+    @Test
+    public void testEmptyBody() throws IOException {
+        post("");
+
+        verify(response).sendError(eq(HttpServletResponse.SC_BAD_REQUEST), anyString());
+        verify(response, never()).setStatus(HttpServletResponse.SC_INTERNAL_SERVER_ERROR);
+        verify(asyncContext).complete();
+    }
+
+    @Test
+    public void testNotAnObject() throws IOException {
+        post("\"hello\"");
+
+        verify(response).sendError(eq(HttpServletResponse.SC_BAD_REQUEST), anyString());
+        verify(asyncContext).complete();
+    }
+
+    @Test
+    public void testUnsupportedEncoding() throws IOException {
+        HttpServletRequest request = request(null);
+        when(request.getCharacterEncoding()).thenReturn("x-no-such-charset");
+
+        servlet.doPost(request, response);
+
+        verify(response).sendError(eq(HttpServletResponse.SC_UNSUPPORTED_MEDIA_TYPE), anyString());
+        verify(request, never()).startAsync();
+    }
+
+    @Test
+    public void testInvalidEncoding() throws IOException {
+        HttpServletRequest request = request(null);
+        when(request.getCharacterEncoding()).thenReturn("not a charset");
+
+        servlet.doPost(request, response);
+
+        verify(response).sendError(eq(HttpServletResponse.SC_BAD_REQUEST), anyString());
+        verify(request, never()).startAsync();
+    }
+
+    private void post(String body) throws IOException {
+        TestInputStream in = new TestInputStream(body.getBytes(StandardCharsets.UTF_8));
+        HttpServletRequest request = request(in);
+
+        servlet.doPost(request, response);
+
+        assertNotNull(in.readListener, "the body should be read with a read listener");
+        in.readListener.onDataAvailable();
+        in.readListener.onAllDataRead();
+    }
+
+    private HttpServletRequest request(ServletInputStream in) throws IOException {
+        HttpServletRequest request = mock(HttpServletRequest.class);
+        when(request.isAsyncSupported()).thenReturn(true);
+        when(request.startAsync()).thenReturn(asyncContext);
+        when(request.getInputStream()).thenReturn(in);
+        return request;
+    }
+
+    private static class TestInputStream extends ServletInputStream {
+        private final ByteArrayInputStream body;
+        private ReadListener readListener;
+
+        TestInputStream(byte[] body) {
+            this.body = new ByteArrayInputStream(body);
+        }
+
+        @Override
+        public boolean isFinished() {
+            return body.available() == 0;
+        }
+
+        @Override
+        public boolean isReady() {
+            return true;
+        }
+
+        @Override
+        public void setReadListener(ReadListener readListener) {
+            this.readListener = readListener;
+        }
+
+        @Override
+        public int read() {
+            return body.read();
+        }
+    }
+
+    private static class TestOutputStream extends ServletOutputStream {
+        private final ByteArrayOutputStream written = new ByteArrayOutputStream();
+        private WriteListener writeListener;
+
+        @Override
+        public boolean isReady() {
+            return true;
+        }
+
+        @Override
+        public void setWriteListener(WriteListener writeListener) {
+            this.writeListener = writeListener;
+        }
+
+        @Override
+        public void write(int b) {
+            written.write(b);
+        }
+
+        @Override
+        public String toString() {
+            return new String(written.toByteArray(), StandardCharsets.UTF_8);
+        }
+    }
+
+    private static final String RESPONSE = "{\"data\":{\"hello\":\"world\"}}";
+}
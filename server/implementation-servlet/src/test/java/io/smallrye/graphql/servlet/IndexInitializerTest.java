@@ -0,0 +1,156 @@
+package io.smallrye.graphql.servlet;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import org.jboss.jandex.IndexView;
+import org.jboss.jandex.IndexWriter;
+import org.jboss.jandex.Indexer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Test creating the index of the classes in a war
+ */
+public class IndexInitializerTest {
+
+    private static final String JANDEX_IDX = "META-INF/jandex.idx";
+
+    private final IndexInitializer indexInitializer = new IndexInitializer();
+
+    @TempDir
+    Path dir;
+
+    @Test
+    public void testPrebuiltIndexOfJar() throws IOException {
+        Map<String, byte[]> entries = new LinkedHashMap<>();
+        entries.put(JANDEX_IDX, indexOf(Hero.class));
+        entries.put(classFile(Villain.class), classBytes(Villain.class));
+        URL jar = jar("lib.jar", entries);
+
+        IndexView index = indexInitializer.createIndex(Collections.singleton(jar), emptyClassLoader());
+
+        // Only what is in the index
+        assertEquals(1, count(index, Hero.class));
+        assertEquals(0, count(index, Villain.class));
+    }
+
+    @Test
+    public void testUnreadableIndexOfJar() throws IOException {
+        Map<String, byte[]> entries = new LinkedHashMap<>();
+        entries.put(JANDEX_IDX, new byte[] { 1, 2, 3, 4, 5, 6, 7, 8 });
+        entries.put(classFile(Hero.class), classBytes(Hero.class));
+        URL jar = jar("lib.jar", entries);
+
+        IndexView index = indexInitializer.createIndex(Collections.singleton(jar), emptyClassLoader());
+
+        assertEquals(1, count(index, Hero.class));
+    }
+
+    @Test
+    public void testClassesInTheIndexOfTheClassLoaderAreNotIndexedAgain() throws IOException {
+        Path indexDir = Files.createDirectories(dir.resolve("index"));
+        write(indexDir.resolve(JANDEX_IDX), indexOf(Hero.class));
+        Path classes = Files.createDirectories(dir.resolve("classes"));
+        write(classes.resolve(classFile(Hero.class)), classBytes(Hero.class));
+        write(classes.resolve(classFile(Villain.class)), classBytes(Villain.class));
+
+        try (URLClassLoader classLoader = new URLClassLoader(new URL[] { indexDir.toUri().toURL() }, null)) {
+            IndexView index = indexInitializer.createIndex(Collections.singleton(classes.toUri().toURL()), classLoader);
+
+            assertEquals(1, count(index, Hero.class));
+            assertEquals(1, count(index, Villain.class));
+        }
+    }
+
+    @Test
+    public void testIndexOfAJarIsOnlyMergedOnce() throws IOException {
+        Map<String, byte[]> entries = new LinkedHashMap<>();
+        entries.put(JANDEX_IDX, indexOf(Hero.class));
+        entries.put(classFile(Hero.class), classBytes(Hero.class));
+        URL jar = jar("lib.jar", entries);
+        Set<URL> urls = Collections.singleton(jar);
+
+        // The class loader of a war also finds the index in its libs
+        try (URLClassLoader classLoader = new URLClassLoader(new URL[] { jar }, null)) {
+            IndexView index = indexInitializer.createIndex(urls, classLoader);
+
+            assertEquals(1, count(index, Hero.class));
+        }
+    }
+
+    private static long count(IndexView index, Class<?> type) {
+        return index.getKnownClasses().stream()
+                .filter(classInfo -> classInfo.name().toString().equals(type.getName()))
+                .count();
+    }
+
+    private URL jar(String name, Map<String, byte[]> entries) throws IOException {
+        Path jar = dir.resolve(name);
+        try (ZipOutputStream zip = new ZipOutputStream(Files.newOutputStream(jar))) {
+            for (Map.Entry<String, byte[]> entry : entries.entrySet()) {
+                zip.putNextEntry(new ZipEntry(entry.getKey()));
+                zip.write(entry.getValue());
+                zip.closeEntry();
+            }
+        }
+        return jar.toUri().toURL();
+    }
+
+    private static void write(Path path, byte[] bytes) throws IOException {
+        Files.createDirectories(path.getParent());
+        try (OutputStream out = Files.newOutputStream(path)) {
+            out.write(bytes);
+        }
+    }
+
+    private static byte[] indexOf(Class<?> type) throws IOException {
+        Indexer indexer = new Indexer();
+        try (InputStream stream = type.getClassLoader().getResourceAsStream(classFile(type))) {
+            indexer.index(stream);
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        new IndexWriter(out).write(indexer.complete());
+        return out.toByteArray();
+    }
+
+    private static byte[] classBytes(Class<?> type) throws IOException {
+        try (InputStream stream = type.getClassLoader().getResourceAsStream(classFile(type))) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            byte[] buffer = new byte[4096];
+            int read;
+            while ((read = stream.read(buffer)) != -1) {
+                out.write(buffer, 0, read);
+            }
+            return out.toByteArray();
+        }
+    }
+
+    private static String classFile(Class<?> type) {
+        return type.getName().replace('.', '/') + ".class";
+    }
+
+    private static ClassLoader emptyClassLoader() {
+        return new URLClassLoader(new URL[0], null);
+    }
+
+    public static class Hero {
+    }
+
+    public static class Villain {
+    }
+}
@@ -0,0 +1,198 @@
+package io.smallrye.graphql.servlet;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.json.Json;
+import javax.json.JsonObject;
+import javax.websocket.RemoteEndpoint;
+import javax.websocket.SendHandler;
+import javax.websocket.SendResult;
+import javax.websocket.Session;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import io.smallrye.graphql.cdi.config.GraphQLConfig;
+import io.smallrye.graphql.execution.ExecutionService;
+
+/**
+ * Test the graphql-ws protocol of the WebSocket endpoint, against a publisher we control
+ */
+public class SubscriptionEndpointTest {
+
+    private final List<String> sent = new ArrayList<>();
+    private final List<SendHandler> sendHandlers = new ArrayList<>();
+    private final TestPublisher publisher = new TestPublisher();
+
+    private SubscriptionEndpoint endpoint;
+
+    @BeforeEach
+    public void init() {
+        ExecutionService executionService = mock(ExecutionService.class);
+        when(executionService.executeAsStream(any())).thenReturn(publisher);
+        GraphQLConfig config = mock(GraphQLConfig.class);
+        when(config.getDefaultErrorMessage()).thenReturn("Server Error");
+
+        RemoteEndpoint.Async remote = mock(RemoteEndpoint.Async.class);
+        doAnswer(invocation -> {
+            sent.add(invocation.getArgument(0));
+            sendHandlers.add(invocation.getArgument(1));
+            return null;
+        }).when(remote).sendText(anyString(), any(SendHandler.class));
+        Session session = mock(Session.class);
+        when(session.getAsyncRemote()).thenReturn(remote);
+        when(session.getId()).thenReturn("test");
+
+        endpoint = new SubscriptionEndpoint(executionService, config);
+        endpoint.onOpen(session);
+    }
+
+    @Test
+    public void testConnectionInit() {
+        endpoint.onMessage("{\"type\":\"connection_init\"}");
+
+        assertEquals("connection_ack", message(0).getString("type"));
+    }
+
+    @Test
+    public void testStartDataComplete() {
+        start("1");
+        assertEquals(1, publisher.requested, "the first event should be requested when subscribed");
+
+        publisher.subscriber.onNext(response("first"));
+        written(0);
+        publisher.subscriber.onComplete();
+        written(1);
+
+        assertEquals(2, sent.size());
+        assertEquals("data", message(0).getString("type"));
+        assertEquals("1", message(0).getString("id"));
+        assertEquals("first", message(0).getJsonObject("payload").getJsonObject("data").getString("value"));
+        assertEquals("complete", message(1).getString("type"));
+        assertEquals("1", message(1).getString("id"));
+    }
+
+    @Test
+    public void testError() {
+        start("1");
+
+        publisher.subscriber.onError(new RuntimeException("boom"));
+
+        assertEquals("error", message(0).getString("type"));
+        assertEquals("1", message(0).getString("id"));
+        assertEquals("Server Error", message(0).getJsonObject("payload").getString("message"));
+    }
+
+    @Test
+    public void testStop() {
+        start("1");
+
+        endpoint.onMessage("{\"type\":\"stop\",\"id\":\"1\"}");
+
+        assertTrue(publisher.cancelled, "the subscription should be cancelled");
+        assertEquals("complete", message(0).getString("type"));
+    }
+
+    @Test
+    public void testBackpressure() {
+        start("1");
+
+        publisher.subscriber.onNext(response("first"));
+        assertEquals(1, publisher.requested, "the next event should only be requested once the previous is written");
+
+        written(0);
+        assertEquals(2, publisher.requested);
+    }
+
+    @Test
+    public void testMessagesAreWrittenOneAtATime() {
+        start("1");
+        start("2");
+
+        TestPublisher.Subscribers subscribers = publisher.all();
+        subscribers.get(0).onNext(response("first"));
+        subscribers.get(1).onNext(response("second"));
+        assertEquals(1, sent.size(), "the second message should wait for the first to be written");
+
+        written(0);
+        assertEquals(2, sent.size());
+        assertEquals("2", message(1).getString("id"));
+    }
+
+    @Test
+    public void testFailedWriteDoesNotStallSending() {
+        endpoint.onMessage("{\"type\":\"connection_init\"}");
+        endpoint.onMessage("{\"type\":\"connection_init\"}");
+        assertEquals(1, sent.size());
+
+        sendHandlers.get(0).onResult(new SendResult(new RuntimeException("broken pipe")));
+        endpoint.onMessage("{\"type\":\"connection_init\"}");
+
+        assertEquals(2, sent.size(), "a message after a failed write should still be sent");
+    }
+
+    private void start(String id) {
+        endpoint.onMessage("{\"type\":\"start\",\"id\":\"" + id + "\",\"payload\":{\"query\":\"subscription { value }\"}}");
+    }
+
+    private void written(int index) {
+        sendHandlers.get(index).onResult(new SendResult());
+    }
+
+    private JsonObject message(int index) {
+        return Json.createReader(new StringReader(sent.get(index))).readObject();
+    }
+
+    private static JsonObject response(String value) {
+        return Json.createObjectBuilder()
+                .add("data", Json.createObjectBuilder().add("value", value))
+                .build();
+    }
+
+    /**
+     * Only emits what the test tells it to, and counts what was requested
+     */
+    private static class TestPublisher implements Publisher<JsonObject> {
+        private final Subscribers subscribers = new Subscribers();
+        private Subscriber<? super JsonObject> subscriber;
+        private long requested;
+        private boolean cancelled;
+
+        @Override
+        public void subscribe(Subscriber<? super JsonObject> subscriber) {
+            this.subscriber = subscriber;
+            subscribers.add(subscriber);
+            subscriber.onSubscribe(new Subscription() {
+                @Override
+                public void request(long n) {
+                    requested += n;
+                }
+
+                @Override
+                public void cancel() {
+                    cancelled = true;
+                }
+            });
+        }
+
+        Subscribers all() {
+            return subscribers;
+        }
+
+        static class Subscribers extends ArrayList<Subscriber<? super JsonObject>> {
+        }
+    }
+}
@@ -28,6 +28,14 @@ public interface SmallRyeGraphQLServerLogging {
     @Message(id = 10002, value = "Operation [%s] also exist as a batch operation - ignoring the non-batch operation")
     void duplicateOperation(String operationName);
 
+    @LogMessage(level = Logger.Level.DEBUG)
+    @Message(id = 10003, value = "Can not create a method handle for [%s], using reflection instead")
+    void usingReflectionInvoker(String method, @Cause Throwable cause);
+
+    @LogMessage(level = Logger.Level.INFO)
+    @Message(id = 10004, value = "Running blocking operations in parallel on %s")
+    void usingParallelExecutor(String executor);
+
     /* 11000-11999: query related logs */
 
     @LogMessage(level = Logger.Level.WARN)
@@ -58,12 +66,24 @@ public interface SmallRyeGraphQLServerLogging {
     @Message(id = 11006, value = "Payload Out [%s]")
     void payloadOut(String payload);
 
+    @LogMessage(level = Logger.Level.DEBUG)
+    @Message(id = 11007, value = "Input type [%s] is bound with JsonB, because it can not be bound directly")
+    void inputBinderNotCreated(String className, @Cause Throwable cause);
+
+    @LogMessage(level = Logger.Level.DEBUG)
+    @Message(id = 11008, value = "Input type [%s] could never be bound directly, it is bound with JsonB from now on")
+    void inputBoundWithJsonB(String className);
+
     /* 12000-12999: data fetching related logs */
 
     @LogMessage(level = Logger.Level.ERROR)
     @Message(id = 12000, value = "Data Fetching Error")
     void dataFetchingError(@Cause Throwable cause);
 
+    @LogMessage(level = Logger.Level.ERROR)
+    @Message(id = 12001, value = "A request in a batch failed")
+    void batchRequestFailed(@Cause Throwable cause);
+
     /* 13000-13999: service related logs (CDI, Tracing, Metrics,...) */
 
     @LogMessage(level = Logger.Level.DEBUG)
@@ -82,6 +102,10 @@ public interface SmallRyeGraphQLServerLogging {
     @Message(id = 13004, value = "Using %s service for class loading")
     void usingClassLoadingService(String name);
 
+    @LogMessage(level = Logger.Level.DEBUG)
+    @Message(id = 13005, value = "Using %s service for persisted queries")
+    void usingPersistedQueryService(String name);
+
     /* 14000-14999: data transforming related logs */
 
     @LogMessage(level = Logger.Level.ERROR)
@@ -120,6 +120,7 @@ public class Bootstrap {
 
         addQueries(schemaBuilder);
         addMutations(schemaBuilder);
+        addSubscriptions(schemaBuilder);
 
         schemaBuilder.additionalTypes(new HashSet<>(enumMap.values()));
         schemaBuilder.additionalTypes(new HashSet<>(interfaceMap.values()));
@@ -172,6 +173,18 @@ public class Bootstrap {
         }
     }
 
+    private void addSubscriptions(GraphQLSchema.Builder schemaBuilder) {
+        if (schema.hasSubscriptions()) {
+            GraphQLObjectType.Builder subscriptionBuilder = GraphQLObjectType.newObject()
+                    .name(SUBSCRIPTION)
+                    .description(SUBSCRIPTION_DESCRIPTION);
+
+            addRootObject(subscriptionBuilder, schema.getSubscriptions(), SUBSCRIPTION);
+
+            schemaBuilder.subscription(subscriptionBuilder.build());
+        }
+    }
+
     private void addRootObject(GraphQLObjectType.Builder rootBuilder, Set<Operation> operations,
             String rootName) {
 
@@ -274,7 +287,7 @@ public class Bootstrap {
         // Fields 
         if (interfaceType.hasFields()) {
             interfaceTypeBuilder = interfaceTypeBuilder
-                    .fields(createGraphQLFieldDefinitionsFromFields(interfaceType.getName(),
+                    .fields(createGraphQLFieldDefinitionsFromFields(interfaceType.getName(), interfaceType.getClassName(),
                             interfaceType.getFields().values()));
         }
 
@@ -333,7 +346,8 @@ public class Bootstrap {
         // Fields
         if (type.hasFields()) {
             objectTypeBuilder = objectTypeBuilder
-                    .fields(createGraphQLFieldDefinitionsFromFields(type.getName(), type.getFields().values()));
+                    .fields(createGraphQLFieldDefinitionsFromFields(type.getName(), type.getClassName(),
+                            type.getFields().values()));
         }
 
         // Operations
@@ -430,15 +444,29 @@ public class Bootstrap {
         return graphQLFieldDefinition;
     }
 
-    private List<GraphQLFieldDefinition> createGraphQLFieldDefinitionsFromFields(String ownerName, Collection<Field> fields) {
+    private List<GraphQLFieldDefinition> createGraphQLFieldDefinitionsFromFields(String ownerName, String ownerClassName,
+            Collection<Field> fields) {
+        Class<?> ownerClass = loadOwnerClass(ownerClassName);
         List<GraphQLFieldDefinition> graphQLFieldDefinitions = new ArrayList<>();
         for (Field field : fields) {
-            graphQLFieldDefinitions.add(createGraphQLFieldDefinitionFromField(ownerName, field));
+            graphQLFieldDefinitions.add(createGraphQLFieldDefinitionFromField(ownerName, ownerClass, field));
         }
         return graphQLFieldDefinitions;
     }
 
-    private GraphQLFieldDefinition createGraphQLFieldDefinitionFromField(String ownerName, Field field) {
+    /**
+     * The class of the properties, so the data fetchers can resolve their getters up front
+     */
+    private Class<?> loadOwnerClass(String ownerClassName) {
+        try {
+            return (ownerClassName == null) ? null : classloadingService.loadClass(ownerClassName);
+        } catch (RuntimeException e) {
+            // The data fetchers find the getters when fetching
+            return null;
+        }
+    }
+
+    private GraphQLFieldDefinition createGraphQLFieldDefinitionFromField(String ownerName, Class<?> ownerClass, Field field) {
         GraphQLFieldDefinition.Builder fieldBuilder = GraphQLFieldDefinition.newFieldDefinition()
                 .name(field.getName())
                 .description(field.getDescription());
@@ -449,7 +477,7 @@ public class Bootstrap {
         GraphQLFieldDefinition graphQLFieldDefinition = fieldBuilder.build();
 
         // DataFetcher
-        PropertyDataFetcher datafetcher = new PropertyDataFetcher(field);
+        PropertyDataFetcher datafetcher = new PropertyDataFetcher(field, ownerClass);
         this.codeRegistryBuilder.dataFetcher(FieldCoordinates.coordinates(ownerName, graphQLFieldDefinition.getName()),
                 datafetcher);
 
@@ -712,6 +740,9 @@ public class Bootstrap {
     private static final String MUTATION = "Mutation";
     private static final String MUTATION_DESCRIPTION = "Mutation root";
 
+    private static final String SUBSCRIPTION = "Subscription";
+    private static final String SUBSCRIPTION_DESCRIPTION = "Subscription root";
+
     private static final String COMMA = ",";
 
     private static final Jsonb JSONB = JsonbBuilder.create();
@@ -30,6 +30,10 @@ public interface Config {
         return false;
     }
 
+    default boolean isNonBlocking() {
+        return false;
+    }
+
     default boolean isIncludeScalarsInSchema() {
         return false;
     }
@@ -78,10 +82,39 @@ public interface Config {
         return Optional.empty();
     }
 
+    default String getOperationInvoker() {
+        return OPERATION_INVOKER_DEFAULT;
+    }
+
+    default Optional<Integer> getMaxQueryDepth() {
+        return Optional.empty();
+    }
+
+    default Optional<Integer> getMaxQueryComplexity() {
+        return Optional.empty();
+    }
+
+    default boolean isParallelExecutionEnabled() {
+        return false;
+    }
+
+    default int getParallelExecutionMaxThreads() {
+        return PARALLEL_MAX_THREADS_DEFAULT;
+    }
+
+    default int getParallelExecutionMaxConcurrency() {
+        return PARALLEL_MAX_CONCURRENCY_DEFAULT;
+    }
+
     default <T> T getConfigValue(String key, Class<T> type, T defaultValue) {
         return defaultValue;
     }
 
     public static final String FIELD_VISIBILITY_DEFAULT = "default";
     public static final String FIELD_VISIBILITY_NO_INTROSPECTION = "no-introspection";
+    public static final String OPERATION_INVOKER_METHOD_HANDLE = "method-handle";
+    public static final String OPERATION_INVOKER_REFLECTION = "reflection";
+    public static final String OPERATION_INVOKER_DEFAULT = OPERATION_INVOKER_METHOD_HANDLE;
+    public static final int PARALLEL_MAX_THREADS_DEFAULT = 64;
+    public static final int PARALLEL_MAX_CONCURRENCY_DEFAULT = 8;
 }
@@ -8,6 +8,7 @@ import org.dataloader.BatchLoaderWithContext;
 import graphql.schema.DataFetcher;
 import io.smallrye.graphql.execution.datafetcher.CompletionStageDataFetcher;
 import io.smallrye.graphql.execution.datafetcher.DefaultDataFetcher;
+import io.smallrye.graphql.execution.datafetcher.MultiDataFetcher;
 import io.smallrye.graphql.execution.datafetcher.UniDataFetcher;
 import io.smallrye.graphql.schema.model.Field;
 import io.smallrye.graphql.schema.model.Operation;
@@ -55,12 +56,14 @@ public class DataFetcherFactory {
             return (V) new CompletionStageDataFetcher(operation, config);
         } else if (isMutinyUni(operation)) {
             return (V) new UniDataFetcher(operation, config);
+        } else if (isPublisher(operation)) {
+            return (V) new MultiDataFetcher(operation, config);
         }
         return (V) new DefaultDataFetcher(operation, config);
     }
 
     private boolean isAsync(Field field) {
-        return isCompletionStage(field) || isMutinyUni(field);
+        return isCompletionStage(field) || isMutinyUni(field) || isPublisher(field);
     }
 
     private boolean isCompletionStage(Field field) {
@@ -79,4 +82,13 @@ public class DataFetcherFactory {
         }
         return false;
     }
+
+    private boolean isPublisher(Field field) {
+        if (field.hasWrapper()) {
+            String wrapperClassName = field.getWrapper().getWrapperClassName();
+            return wrapperClassName.equals("io.smallrye.mutiny.Multi")
+                    || wrapperClassName.equals("org.reactivestreams.Publisher");
+        }
+        return false;
+    }
 }
@@ -0,0 +1,121 @@
+package io.smallrye.graphql.execution;
+
+import java.io.StringReader;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import javax.json.Json;
+import javax.json.JsonArray;
+import javax.json.JsonReader;
+import javax.json.JsonReaderFactory;
+import javax.json.JsonValue;
+import javax.json.bind.Jsonb;
+import javax.json.bind.JsonbBuilder;
+import javax.json.bind.JsonbConfig;
+import javax.json.stream.JsonGenerator;
+
+import graphql.ExecutionResult;
+import graphql.GraphQLError;
+import io.smallrye.graphql.execution.error.ExecutionErrorsService;
+
+/**
+ * Writes the execution result straight to a JsonGenerator.
+ *
+ * The data we get from graphql-java is already a tree of Maps, Lists and scalar values,
+ * so we can stream that out without first creating a String or a JsonObject.
+ */
+class ExecutionResponseWriter {
+
+    private static final JsonReaderFactory jsonReaderFactory = Json.createReaderFactory(null);
+    private static final Jsonb jsonB = JsonbBuilder.create(new JsonbConfig()
+            .withNullValues(Boolean.TRUE));
+
+    private final ExecutionErrorsService errorsService;
+
+    ExecutionResponseWriter(ExecutionErrorsService errorsService) {
+        this.errorsService = errorsService;
+    }
+
+    void write(ExecutionResult executionResult, JsonGenerator generator) {
+        generator.writeStartObject();
+
+        // Errors
+        List<GraphQLError> errors = executionResult.getErrors();
+        if (errors != null && !errors.isEmpty()) {
+            JsonArray jsonArray = errorsService.toJsonErrors(errors);
+            generator.write(ERRORS, jsonArray);
+        }
+
+        // Data
+        generator.writeKey(DATA);
+        writeValue(generator, executionResult.getData());
+
+        generator.writeEnd();
+    }
+
+    private void writeValue(JsonGenerator generator, Object value) {
+        if (value == null) {
+            generator.writeNull();
+        } else if (value instanceof String) {
+            generator.write((String) value);
+        } else if (value instanceof Boolean) {
+            generator.write((Boolean) value);
+        } else if (value instanceof Number) {
+            writeNumber(generator, (Number) value);
+        } else if (value instanceof Map) {
+            writeObject(generator, (Map<?, ?>) value);
+        } else if (value instanceof Collection) {
+            writeArray(generator, (Collection<?>) value);
+        } else if (value instanceof JsonValue) {
+            generator.write((JsonValue) value);
+        } else {
+            // Not something graphql-java normally gives us, let JsonB decide
+            generator.write(toJsonValue(value));
+        }
+    }
+
+    private void writeObject(JsonGenerator generator, Map<?, ?> map) {
+        generator.writeStartObject();
+        for (Map.Entry<?, ?> entry : map.entrySet()) {
+            generator.writeKey(String.valueOf(entry.getKey()));
+            writeValue(generator, entry.getValue());
+        }
+        generator.writeEnd();
+    }
+
+    private void writeArray(JsonGenerator generator, Collection<?> collection) {
+        generator.writeStartArray();
+        for (Object o : collection) {
+            writeValue(generator, o);
+        }
+        generator.writeEnd();
+    }
+
+    private void writeNumber(JsonGenerator generator, Number number) {
+        if (number instanceof Integer || number instanceof Long || number instanceof Short || number instanceof Byte) {
+            generator.write(number.longValue());
+        } else if (number instanceof BigDecimal) {
+            generator.write((BigDecimal) number);
+        } else if (number instanceof BigInteger) {
+            generator.write((BigInteger) number);
+        } else if (number instanceof Float) {
+            // Going through double would add precision that is not there
+            generator.write(new BigDecimal(number.toString()));
+        } else {
+            generator.write(number.doubleValue());
+        }
+    }
+
+    private JsonValue toJsonValue(Object pojo) {
+        String json = jsonB.toJson(pojo);
+        try (StringReader sr = new StringReader(json); JsonReader reader = jsonReaderFactory.createReader(sr)) {
+            return reader.readValue();
+        }
+    }
+
+    private static final String DATA = "data";
+    private static final String ERRORS = "errors";
+}
@@ -2,13 +2,24 @@ package io.smallrye.graphql.execution;
 
 import static io.smallrye.graphql.SmallRyeGraphQLServerLogging.log;
 
+import java.io.OutputStream;
 import java.io.StringReader;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
 
 import javax.json.Json;
 import javax.json.JsonArray;
+import javax.json.JsonArrayBuilder;
 import javax.json.JsonBuilderFactory;
 import javax.json.JsonObject;
 import javax.json.JsonObjectBuilder;
@@ -18,30 +29,41 @@ import javax.json.JsonValue;
 import javax.json.bind.Jsonb;
 import javax.json.bind.JsonbBuilder;
 import javax.json.bind.JsonbConfig;
+import javax.json.stream.JsonGenerator;
+import javax.json.stream.JsonGeneratorFactory;
 
 import org.dataloader.BatchLoaderWithContext;
 import org.dataloader.DataLoader;
-import org.dataloader.DataLoaderOptions;
 import org.dataloader.DataLoaderRegistry;
+import org.reactivestreams.Publisher;
 
 import graphql.ExecutionInput;
 import graphql.ExecutionInput.Builder;
+import graphql.ErrorType;
 import graphql.ExecutionResult;
+import graphql.ExecutionResultImpl;
 import graphql.GraphQL;
 import graphql.GraphQLContext;
 import graphql.GraphQLError;
+import graphql.GraphqlErrorBuilder;
+import graphql.ParseAndValidate;
+import graphql.ParseAndValidateResult;
+import graphql.execution.AbortExecutionException;
 import graphql.execution.ExecutionId;
+import graphql.execution.preparsed.PreparsedDocumentEntry;
+import graphql.language.OperationDefinition;
 import graphql.schema.GraphQLSchema;
 import io.smallrye.graphql.api.Context;
 import io.smallrye.graphql.bootstrap.Config;
 import io.smallrye.graphql.bootstrap.DataFetcherFactory;
-import io.smallrye.graphql.execution.context.SmallRyeBatchLoaderContextProvider;
 import io.smallrye.graphql.execution.context.SmallRyeContext;
+import io.smallrye.graphql.execution.context.SmallRyeDataLoaderRegistry;
 import io.smallrye.graphql.execution.datafetcher.helper.BatchLoaderHelper;
 import io.smallrye.graphql.execution.error.ExceptionHandler;
 import io.smallrye.graphql.execution.error.ExecutionErrorsService;
 import io.smallrye.graphql.execution.event.EventEmitter;
 import io.smallrye.graphql.schema.model.Operation;
+import io.smallrye.graphql.spi.PersistedQueryService;
 
 /**
  * Executing the GraphQL request
@@ -52,6 +74,7 @@ public class ExecutionService {
 
     private static final JsonBuilderFactory jsonObjectFactory = Json.createBuilderFactory(null);
     private static final JsonReaderFactory jsonReaderFactory = Json.createReaderFactory(null);
+    private static final JsonGeneratorFactory jsonGeneratorFactory = Json.createGeneratorFactory(null);
     private static final Jsonb jsonB = JsonbBuilder.create(new JsonbConfig()
             .withNullValues(Boolean.TRUE)
             .withFormatting(Boolean.TRUE));
@@ -60,6 +83,8 @@ public class ExecutionService {
     private final AtomicLong executionId = new AtomicLong();
 
     private final ExecutionErrorsService errorsService = new ExecutionErrorsService();
+    private final ExecutionResponseWriter responseWriter = new ExecutionResponseWriter(errorsService);
+    private final PersistedQueries persistedQueries = new PersistedQueries(PersistedQueryService.get());
 
     private final Config config;
 
@@ -67,24 +92,261 @@ public class ExecutionService {
 
     private final BatchLoaderHelper batchLoaderHelper = new BatchLoaderHelper();
     private final DataFetcherFactory dataFetcherFactory;
-    private final List<Operation> batchOperations;
+    private final Map<String, BatchLoaderWithContext<Object, Object>> batchLoaders;
 
     private final EventEmitter eventEmitter;
+    private final ParallelExecution parallelExecution;
+    private final boolean inheritableContext;
 
     private GraphQL graphQL;
+    private QueryCache queryCache;
 
     public ExecutionService(Config config, GraphQLSchema graphQLSchema, List<Operation> batchOperations) {
+        this(config, graphQLSchema, batchOperations, true);
+    }
+
+    /**
+     * @param config the config
+     * @param graphQLSchema the schema
+     * @param batchOperations the batch operations of the schema
+     * @param inheritableContext if threads that operations start inherit the context of the request. If not, the
+     *        context is only propagated with MicroProfile Context Propagation, or by the asynchronous and parallel data
+     *        fetchers, and starting a thread doesn't copy it.
+     */
+    public ExecutionService(Config config, GraphQLSchema graphQLSchema, List<Operation> batchOperations,
+            boolean inheritableContext) {
         this.config = config;
+        this.inheritableContext = inheritableContext;
         this.graphQLSchema = graphQLSchema;
         this.dataFetcherFactory = new DataFetcherFactory(config);
-        this.batchOperations = batchOperations;
+        this.batchLoaders = createBatchLoaders(batchOperations);
         this.eventEmitter = EventEmitter.getInstance(config);
+        this.parallelExecution = ParallelExecution.create(config);
         // use schema's hash as prefix to differentiate between multiple apps
         this.executionIdPrefix = Integer.toString(Objects.hashCode(graphQLSchema));
     }
 
     public JsonObject execute(JsonObject jsonInput) {
-        SmallRyeContext context = new SmallRyeContext(jsonInput);
+        return execute(jsonInput, this::toJsonObject);
+    }
+
+    /**
+     * Execute and stream the response to the output stream (UTF-8).
+     * No intermediate String or JsonObject is created for the response.
+     * The output stream is flushed, but not closed.
+     *
+     * @param jsonInput the request
+     * @param outputStream where the response will be written to
+     */
+    public void execute(JsonObject jsonInput, OutputStream outputStream) {
+        execute(jsonInput, executionResult -> {
+            writeResponse(executionResult, jsonGeneratorFactory.createGenerator(outputStream));
+            return null;
+        });
+    }
+
+    /**
+     * Execute and stream the response to the writer.
+     * No intermediate String or JsonObject is created for the response.
+     * The writer is flushed, but not closed.
+     *
+     * @param jsonInput the request
+     * @param writer where the response will be written to
+     */
+    public void execute(JsonObject jsonInput, Writer writer) {
+        execute(jsonInput, executionResult -> {
+            writeResponse(executionResult, jsonGeneratorFactory.createGenerator(writer));
+            return null;
+        });
+    }
+
+    /**
+     * Execute without blocking the calling thread. Data fetchers that return a CompletionStage (or Uni)
+     * complete the response on their own threads.
+     *
+     * @param jsonInput the request
+     * @return the response, completed with null if there is nothing to execute against
+     */
+    public CompletionStage<JsonObject> executeAsync(JsonObject jsonInput) {
+        return executeAsync(jsonInput, this::toJsonObject);
+    }
+
+    /**
+     * Execute without blocking the calling thread, and write the response to the output stream (UTF-8)
+     * once the execution is done. The output stream is flushed, but not closed.
+     *
+     * @param jsonInput the request
+     * @param outputStream where the response will be written to
+     * @return completes when the response is written
+     */
+    public CompletionStage<Void> executeAsync(JsonObject jsonInput, OutputStream outputStream) {
+        return executeAsync(jsonInput, executionResult -> {
+            writeResponse(executionResult, jsonGeneratorFactory.createGenerator(outputStream));
+            return null;
+        });
+    }
+
+    /**
+     * Execute and get the response(s) as a stream. A subscription emits a response for every event,
+     * any other operation emits its one response.
+     *
+     * Nothing is buffered here, the events are produced as the subscriber requests them.
+     *
+     * @param jsonInput the request
+     * @return the responses, or null if there is nothing to execute against
+     */
+    public Publisher<JsonObject> executeAsStream(JsonObject jsonInput) {
+        return execute(jsonInput, this::toPublisher);
+    }
+
+    private Publisher<JsonObject> toPublisher(ExecutionResult executionResult) {
+        Object data = executionResult.getData();
+        if (data instanceof Publisher) {
+            // Subscription, every event is an execution result of its own
+            Publisher<ExecutionResult> events = (Publisher<ExecutionResult>) data;
+            return new MappingPublisher<>(events, this::toJsonObject);
+        }
+        return new SinglePublisher<>(toJsonObject(executionResult));
+    }
+
+    /**
+     * Execute a batch of requests, and get the responses in the same order.
+     *
+     * @param jsonInputs the requests
+     * @return the responses, or null if there is nothing to execute against
+     * @see #execute(JsonArray, OutputStream)
+     */
+    public JsonArray execute(JsonArray jsonInputs) {
+        List<CompletableFuture<ExecutionResult>> executionResults = executeBatch(jsonInputs);
+        if (executionResults == null) {
+            return null;
+        }
+        JsonArrayBuilder responses = jsonObjectFactory.createArrayBuilder();
+        for (CompletableFuture<ExecutionResult> executionResult : executionResults) {
+            responses.add(toJsonObject(join(executionResult)));
+        }
+        return responses.build();
+    }
+
+    /**
+     * Execute a batch of requests and stream the responses, as an array in the same order, to the output stream (UTF-8).
+     * The output stream is flushed, but not closed.
+     *
+     * Queries are executed concurrently, a mutation only starts once all requests before it are done,
+     * and the requests after it only start once the mutation is done. All requests in the batch share the
+     * DataLoaders, so a source that more than one request loads with the same arguments is only loaded once.
+     * The DataLoaders are cleared before and after every mutation, so no request gets a value that was loaded
+     * before a mutation that ran before it.
+     *
+     * @param jsonInputs the requests
+     * @param outputStream where the responses will be written to
+     */
+    public void execute(JsonArray jsonInputs, OutputStream outputStream) {
+        List<CompletableFuture<ExecutionResult>> executionResults = executeBatch(jsonInputs);
+        if (executionResults != null) {
+            writeResponses(executionResults, jsonGeneratorFactory.createGenerator(outputStream));
+        }
+    }
+
+    /**
+     * Execute a batch of requests and stream the responses, as an array in the same order, to the writer.
+     * The writer is flushed, but not closed.
+     *
+     * @param jsonInputs the requests
+     * @param writer where the responses will be written to
+     * @see #execute(JsonArray, OutputStream)
+     */
+    public void execute(JsonArray jsonInputs, Writer writer) {
+        List<CompletableFuture<ExecutionResult>> executionResults = executeBatch(jsonInputs);
+        if (executionResults != null) {
+            writeResponses(executionResults, jsonGeneratorFactory.createGenerator(writer));
+        }
+    }
+
+    private void writeResponses(List<CompletableFuture<ExecutionResult>> executionResults, JsonGenerator generator) {
+        generator.writeStartArray();
+        for (CompletableFuture<ExecutionResult> executionResult : executionResults) {
+            // Write every response as soon as it (and all responses before it) is done
+            writeResponse(joinOrError(executionResult), generator);
+        }
+        generator.writeEnd();
+        generator.flush();
+    }
+
+    private <R> R execute(JsonObject jsonInput, Function<ExecutionResult, R> responseHandler) {
+        CompletableFuture<ExecutionResult> executionResult = executeAsync(jsonInput, getDataLoaderRegistry());
+        if (executionResult == null) {
+            return null;
+        }
+        return responseHandler.apply(join(executionResult));
+    }
+
+    private <R> CompletionStage<R> executeAsync(JsonObject jsonInput, Function<ExecutionResult, R> responseHandler) {
+        CompletableFuture<ExecutionResult> executionResult = executeAsync(jsonInput, getDataLoaderRegistry());
+        if (executionResult == null) {
+            return CompletableFuture.completedFuture(null);
+        }
+        return executionResult.thenApply(responseHandler);
+    }
+
+    /**
+     * Start all requests in the batch, on this thread. Only the parts of the requests that are async
+     * (like CompletionStage results) really run at the same time.
+     *
+     * @return the (possibly not yet done) results, or null if there is nothing to execute against
+     */
+    private List<CompletableFuture<ExecutionResult>> executeBatch(JsonArray jsonInputs) {
+        if (getGraphQL() == null) {
+            log.noGraphQLMethodsFound();
+            return null;
+        }
+        DataLoaderRegistry dataLoaderRegistry = getDataLoaderRegistry();
+        List<CompletableFuture<ExecutionResult>> executionResults = new ArrayList<>(jsonInputs.size());
+        for (JsonValue jsonValue : jsonInputs) {
+            if (!jsonValue.getValueType().equals(JsonValue.ValueType.OBJECT)) {
+                executionResults.add(CompletableFuture.completedFuture(invalidRequest()));
+                continue;
+            }
+            JsonObject jsonInput = jsonValue.asJsonObject();
+            if (persistedQueries.isPersistedQuery(jsonInput)) {
+                try {
+                    jsonInput = persistedQueries.resolve(jsonInput);
+                } catch (AbortExecutionException ex) {
+                    executionResults.add(CompletableFuture.completedFuture(ex.toExecutionResult()));
+                    continue;
+                }
+            }
+            PreparsedDocumentEntry document = getDocument(jsonInput);
+            if (isMutation(document, jsonInput)) {
+                // Mutations run in order, so everything before the mutation has to be done first
+                awaitAll(executionResults);
+                // Values that were loaded before the mutation might have changed
+                clearDataLoaders(dataLoaderRegistry);
+                CompletableFuture<ExecutionResult> executionResult = execute(jsonInput, dataLoaderRegistry, document);
+                awaitAll(Collections.singletonList(executionResult));
+                clearDataLoaders(dataLoaderRegistry);
+                executionResults.add(executionResult);
+            } else {
+                executionResults.add(execute(jsonInput, dataLoaderRegistry, document));
+            }
+        }
+        return executionResults;
+    }
+
+    private CompletableFuture<ExecutionResult> executeAsync(JsonObject jsonInput, DataLoaderRegistry dataLoaderRegistry) {
+        if (persistedQueries.isPersistedQuery(jsonInput)) {
+            try {
+                jsonInput = persistedQueries.resolve(jsonInput);
+            } catch (AbortExecutionException ex) {
+                return CompletableFuture.completedFuture(ex.toExecutionResult());
+            }
+        }
+        return execute(jsonInput, dataLoaderRegistry, null);
+    }
+
+    private CompletableFuture<ExecutionResult> execute(JsonObject jsonInput, DataLoaderRegistry dataLoaderRegistry,
+            PreparsedDocumentEntry document) {
+        SmallRyeContext context = new SmallRyeContext(jsonInput, inheritableContext);
 
         // ExecutionId
         ExecutionId finalExecutionId = ExecutionId.from(executionIdPrefix + executionId.getAndIncrement());
@@ -110,41 +372,40 @@ public class ExecutionService {
                 context.getOperationName().ifPresent(executionBuilder::operationName);
 
                 // Context
-                executionBuilder.context(toGraphQLContext(context));
+                ParallelExecution.RequestExecutor requestExecutor = parallelExecution != null
+                        ? parallelExecution.newRequest()
+                        : null;
+                executionBuilder.context(toGraphQLContext(context, requestExecutor, document));
 
                 // DataLoaders
-                if (batchOperations != null && !batchOperations.isEmpty()) {
-                    DataLoaderRegistry dataLoaderRegistry = getDataLoaderRegistry(batchOperations);
+                if (dataLoaderRegistry != null) {
                     executionBuilder.dataLoaderRegistry(dataLoaderRegistry);
                 }
 
                 ExecutionInput executionInput = executionBuilder.build();
 
                 // Update context with execution data
-                context = context.withDataFromExecution(executionInput);
-                ((GraphQLContext) executionInput.getContext()).put("context", context);
+                final SmallRyeContext executionContext = context.withDataFromExecution(executionInput);
+                ((GraphQLContext) executionInput.getContext()).put("context", executionContext);
 
                 // Notify before
-                eventEmitter.fireBeforeExecute(context);
+                eventEmitter.fireBeforeExecute(executionContext);
                 // Execute
-                ExecutionResult executionResult = g.execute(executionInput);
-                // Notify after
-                eventEmitter.fireAfterExecute(context);
-
-                JsonObjectBuilder returnObjectBuilder = jsonObjectFactory.createObjectBuilder();
-
-                // Errors
-                returnObjectBuilder = addErrorsToResponse(returnObjectBuilder, executionResult);
-                // Data
-                returnObjectBuilder = addDataToResponse(returnObjectBuilder, executionResult);
-
-                JsonObject jsonResponse = returnObjectBuilder.build();
-
-                if (config.logPayload()) {
-                    log.payloadOut(jsonResponse.toString());
+                CompletableFuture<ExecutionResult> executionResult = g.executeAsync(executionInput);
+                if (requestExecutor != null) {
+                    executionResult = executionResult.thenApply(result -> {
+                        requestExecutor.throwIfFailed();
+                        return result;
+                    });
                 }
-
-                return jsonResponse;
+                return executionResult.whenComplete((result, throwable) -> {
+                    if (throwable == null) {
+                        // Notify after
+                        eventEmitter.fireAfterExecute(executionContext);
+                    } else {
+                        eventEmitter.fireOnExecuteError(finalExecutionId.toString(), unwrap(throwable));
+                    }
+                });
             } else {
                 log.noGraphQLMethodsFound();
                 return null;
@@ -155,23 +416,178 @@ public class ExecutionService {
         }
     }
 
-    private <K, T> DataLoaderRegistry getDataLoaderRegistry(List<Operation> operations) {
-        DataLoaderRegistry dataLoaderRegistry = new DataLoaderRegistry();
-        for (Operation operation : operations) {
-            BatchLoaderWithContext<K, T> batchLoader = dataFetcherFactory.getSourceBatchLoader(operation);
-            SmallRyeBatchLoaderContextProvider ctxProvider = new SmallRyeBatchLoaderContextProvider();
-            DataLoaderOptions options = DataLoaderOptions.newOptions()
-                    .setBatchLoaderContextProvider(ctxProvider);
-            DataLoader<K, T> dataLoader = DataLoader.newDataLoader(batchLoader, options);
-            ctxProvider.setDataLoader(dataLoader);
-            dataLoaderRegistry.register(batchLoaderHelper.getName(operation), dataLoader);
+    /**
+     * Parse and validate the document of a request in a batch, to know what type of operation it is.
+     * The document is passed on to the execution, so it's only looked up in the query cache once.
+     *
+     * @return the document (with errors if it is invalid), or null if there is no query
+     */
+    private PreparsedDocumentEntry getDocument(JsonObject jsonInput) {
+        String query = jsonInput.getString(Context.QUERY, null);
+        if (query == null) {
+            return null;
+        }
+        ExecutionInput executionInput = ExecutionInput.newExecutionInput().query(query).build();
+        return queryCache.getDocument(executionInput, this::parseAndValidate);
+    }
+
+    private PreparsedDocumentEntry parseAndValidate(ExecutionInput executionInput) {
+        ParseAndValidateResult result = ParseAndValidate.parseAndValidate(graphQLSchema, executionInput);
+        if (result.isFailure()) {
+            return new PreparsedDocumentEntry(result.getErrors());
+        }
+        return new PreparsedDocumentEntry(result.getDocument());
+    }
+
+    private static boolean isMutation(PreparsedDocumentEntry document, JsonObject jsonInput) {
+        if (document == null || document.hasErrors()) {
+            // The execution will report this
+            return false;
+        }
+        String operationName = jsonInput.getString(Context.OPERATION_NAME, null);
+        for (OperationDefinition operation : document.getDocument().getDefinitionsOfType(OperationDefinition.class)) {
+            if (operationName == null || operationName.equals(operation.getName())) {
+                return operation.getOperation().equals(OperationDefinition.Operation.MUTATION);
+            }
+        }
+        return false;
+    }
+
+    private static void clearDataLoaders(DataLoaderRegistry dataLoaderRegistry) {
+        if (dataLoaderRegistry != null) {
+            for (DataLoader<?, ?> dataLoader : dataLoaderRegistry.getDataLoaders()) {
+                dataLoader.clearAll();
+            }
+        }
+    }
+
+    private static void awaitAll(List<CompletableFuture<ExecutionResult>> executionResults) {
+        try {
+            CompletableFuture.allOf(executionResults.toArray(new CompletableFuture[0])).join();
+        } catch (CompletionException ex) {
+            // The failure is reported when the response is written
+        }
+    }
+
+    private static ExecutionResult join(CompletableFuture<ExecutionResult> executionResult) {
+        try {
+            return executionResult.join();
+        } catch (CompletionException ex) {
+            // Same as GraphQL.execute
+            if (ex.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) ex.getCause();
+            }
+            throw ex;
+        }
+    }
+
+    /**
+     * Part of the batch might have been written already, so a failed request becomes an error response,
+     * rather than an exception that leaves the array unterminated.
+     */
+    private ExecutionResult joinOrError(CompletableFuture<ExecutionResult> executionResult) {
+        try {
+            return executionResult.join();
+        } catch (CompletionException ex) {
+            log.batchRequestFailed(unwrap(ex));
+            return new ExecutionResultImpl(GraphqlErrorBuilder.newError()
+                    .message(config.getDefaultErrorMessage())
+                    .errorType(ErrorType.DataFetchingException)
+                    .build());
+        }
+    }
+
+    private static Throwable unwrap(Throwable throwable) {
+        if (throwable instanceof CompletionException && throwable.getCause() != null) {
+            return throwable.getCause();
+        }
+        return throwable;
+    }
+
+    private static ExecutionResult invalidRequest() {
+        return new ExecutionResultImpl(GraphqlErrorBuilder.newError()
+                .message("Invalid request, every request in a batch has to be an object")
+                .errorType(ErrorType.ValidationError)
+                .build());
+    }
+
+    private JsonObject toJsonObject(ExecutionResult executionResult) {
+        JsonObjectBuilder returnObjectBuilder = jsonObjectFactory.createObjectBuilder();
+
+        // Errors
+        returnObjectBuilder = addErrorsToResponse(returnObjectBuilder, executionResult);
+        // Data
+        returnObjectBuilder = addDataToResponse(returnObjectBuilder, executionResult);
+
+        JsonObject jsonResponse = returnObjectBuilder.build();
+
+        if (config.logPayload()) {
+            log.payloadOut(jsonResponse.toString());
+        }
+
+        return jsonResponse;
+    }
+
+    /**
+     * The generator is flushed, but not closed: that would also close the stream or writer of the caller.
+     */
+    private void writeResponse(ExecutionResult executionResult, JsonGenerator generator) {
+        writeResponseValue(executionResult, generator);
+        generator.flush();
+    }
+
+    private void writeResponseValue(ExecutionResult executionResult, JsonGenerator generator) {
+        if (config.logPayload()) {
+            // We need the full response to log it, so no streaming here
+            generator.write(toJsonObject(executionResult));
+        } else {
+            responseWriter.write(executionResult, generator);
+        }
+    }
+
+    /**
+     * The batch loaders (and the reflection behind them) do not hold any request state,
+     * so we create them once and only create the DataLoaders per request.
+     *
+     * @param operations the batch operations
+     * @return the batch loaders by name
+     */
+    private Map<String, BatchLoaderWithContext<Object, Object>> createBatchLoaders(List<Operation> operations) {
+        Map<String, BatchLoaderWithContext<Object, Object>> loaders = new LinkedHashMap<>();
+        if (operations != null) {
+            for (Operation operation : operations) {
+                BatchLoaderWithContext<Object, Object> batchLoader = dataFetcherFactory.getSourceBatchLoader(operation);
+                loaders.put(batchLoaderHelper.getName(operation), batchLoader);
+            }
+        }
+        return loaders;
+    }
+
+    /**
+     * @return a new registry for a request (or batch of requests), or null if there are no batch operations
+     */
+    private DataLoaderRegistry getDataLoaderRegistry() {
+        if (batchLoaders.isEmpty()) {
+            return null;
+        }
+        SmallRyeDataLoaderRegistry dataLoaderRegistry = new SmallRyeDataLoaderRegistry();
+        for (Map.Entry<String, BatchLoaderWithContext<Object, Object>> batchLoader : batchLoaders.entrySet()) {
+            dataLoaderRegistry.registerBatchLoader(batchLoader.getKey(), batchLoader.getValue());
         }
         return dataLoaderRegistry;
     }
 
-    private GraphQLContext toGraphQLContext(Context context) {
+    private GraphQLContext toGraphQLContext(Context context, ParallelExecution.RequestExecutor requestExecutor,
+            PreparsedDocumentEntry document) {
         GraphQLContext.Builder builder = GraphQLContext.newContext();
         builder = builder.of("context", context);
+        if (document != null) {
+            builder = builder.of(QueryCache.DOCUMENT_KEY, document);
+        }
+        if (requestExecutor != null) {
+            // The limit of operations that run at the same time is per request
+            builder = builder.of(ParallelExecution.CONTEXT_KEY, requestExecutor);
+        }
         return builder.build();
     }
 
@@ -214,12 +630,11 @@ public class ExecutionService {
         if (this.graphQL == null) {
             ExceptionHandler exceptionHandler = new ExceptionHandler(config);
             if (graphQLSchema != null) {
-                QueryCache queryCache = new QueryCache();
+                this.queryCache = new QueryCache(QueryLimits.create(config, graphQLSchema));
 
                 GraphQL.Builder graphqlBuilder = GraphQL.newGraphQL(graphQLSchema);
 
                 graphqlBuilder = graphqlBuilder.defaultDataFetcherExceptionHandler(exceptionHandler);
-                graphqlBuilder = graphqlBuilder.instrumentation(queryCache);
                 graphqlBuilder = graphqlBuilder.preparsedDocumentProvider(queryCache);
 
                 // Allow custom extension
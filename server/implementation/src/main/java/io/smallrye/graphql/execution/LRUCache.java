@@ -1,119 +1,144 @@
 package io.smallrye.graphql.execution;
 
 import java.util.Map;
+import java.util.Queue;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Function;
 
+/**
+ * A bounded cache that approximates LRU using the CLOCK (second chance) algorithm.
+ *
+ * A cache hit only sets a flag on the entry, so reads never take a lock. Only inserts that
+ * push the cache over its size take the eviction lock, and the eviction gives entries that
+ * were read since the last sweep a second chance before removing them.
+ *
+ * @param <K> the key
+ * @param <V> the value
+ */
 public class LRUCache<K, V> {
     private final int maxSize;
-    private final Map<K, Entry<V>> cache = new ConcurrentHashMap<>();
+    private final Map<K, Entry<K, V>> cache = new ConcurrentHashMap<>();
+    private final Queue<Entry<K, V>> clock = new ConcurrentLinkedQueue<>();
     private final AtomicInteger size = new AtomicInteger();
-    private Entry<V> start;
-    private Entry<V> end;
+    private final Object evictionLock = new Object();
 
-    LRUCache(int maxSize) {
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public LRUCache(int maxSize) {
         this.maxSize = maxSize;
     }
 
-    V get(K key) {
-        Entry<V> entry = cache.computeIfPresent(key, this::moveEntryToStart);
-        return entry == null ? null : entry.value;
+    public V get(K key) {
+        Entry<K, V> entry = cache.get(key);
+        if (entry == null) {
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        entry.markReferenced();
+        return entry.value;
+    }
+
+    public V computeIfAbsent(K key, Function<K, V> valueFunction) {
+        Entry<K, V> entry = cache.get(key);
+        if (entry != null) {
+            hits.increment();
+            entry.markReferenced();
+            return entry.value;
+        }
+        misses.increment();
+        return insert(key, valueFunction);
+    }
+
+    /**
+     * Add a value that was computed after a {@link #get(Object)} missed, so without counting another miss.
+     *
+     * @return the value in the cache, which is the existing one if another thread was first
+     */
+    public V putIfAbsent(K key, V value) {
+        return insert(key, k -> value);
     }
 
-    V computeIfAbsent(K key, Function<K, V> valueFunction) {
-        final AtomicBoolean called = new AtomicBoolean();
-        Entry<V> entry = cache.computeIfAbsent(key, k -> {
-            called.set(true);
-            Entry<V> e = new Entry<V>(k, valueFunction.apply(k));
-            addToStart(e);
+    private V insert(K key, Function<K, V> valueFunction) {
+        Entry<K, V> entry = cache.computeIfAbsent(key, k -> {
+            Entry<K, V> e = new Entry<>(k, valueFunction.apply(k));
+            clock.offer(e);
             return e;
         });
-        if (!called.get()) {
-            cache.computeIfPresent(key, this::moveEntryToStart);
-        } else {
-            int newSize = size.incrementAndGet();
-            if (newSize > maxSize) {
-                AtomicBoolean removed = new AtomicBoolean();
-                do {
-                    final Entry<V> entryToRemove;
-                    synchronized (this) {
-                        entryToRemove = end;
-                    }
-                    if (entryToRemove == null) {
-                        break;
-                    }
-                    cache.computeIfPresent(entryToRemove.key, (k, v) -> {
-                        if (v == entryToRemove) {
-                            removed.set(true);
-                            removeEntry(entryToRemove);
-                            return null;
-                        } else {
-                            return v;
-                        }
-                    });
-                } while (!removed.get());
-                if (removed.get()) {
-                    size.decrementAndGet();
-                }
-            }
+        // Another thread can insert the same key at the same time, only one of us counts the new entry
+        if (entry.claim() && size.incrementAndGet() > maxSize) {
+            evict();
         }
         return entry.value;
     }
 
-    private synchronized Entry<V> moveEntryToStart(K key, Entry<V> entry) {
-        // If it is already at the start there is nothing to do
-        if (start != entry) {
-            removeEntry(entry);
-            addToStart(entry);
-        }
-        return entry;
+    public long getHitCount() {
+        return hits.sum();
     }
 
-    private synchronized void removeEntry(Entry<V> entry) {
-        // If entry is null or was already removed, do nothing and return.
-        if (entry == null || entry.left == entry) {
-            return;
-        }
-        if (entry.left != null) {
-            entry.left.right = entry.right;
-        } else {
-            start = entry.right;
-        }
-        if (entry.right != null) {
-            entry.right.left = entry.left;
-        } else {
-            end = entry.left;
-        }
-        entry.left = entry.right = entry;
+    public long getMissCount() {
+        return misses.sum();
     }
 
-    private synchronized void addToStart(Entry<V> entry) {
-        // If entry is null, do nothing and return.
-        if (entry == null) {
-            return;
-        }
-        entry.right = start;
-        entry.left = null;
-        if (start != null) {
-            start.left = entry;
-        }
-        start = entry;
-        if (end == null) {
-            end = start;
+    public long getEvictionCount() {
+        return evictions.sum();
+    }
+
+    public int size() {
+        return size.get();
+    }
+
+    private void evict() {
+        synchronized (evictionLock) {
+            // Every entry gets at most one second chance per sweep, after that we evict regardless
+            int secondChances = size.get();
+            while (size.get() > maxSize) {
+                Entry<K, V> candidate = clock.poll();
+                if (candidate == null) {
+                    return;
+                }
+                if (candidate.referenced && secondChances-- > 0) {
+                    candidate.referenced = false;
+                    clock.offer(candidate);
+                } else if (cache.remove(candidate.key, candidate)) {
+                    size.decrementAndGet();
+                    evictions.increment();
+                }
+            }
         }
     }
 
-    private class Entry<V> {
+    private static class Entry<K, V> {
+        @SuppressWarnings("rawtypes")
+        private static final AtomicIntegerFieldUpdater<Entry> UNCLAIMED = AtomicIntegerFieldUpdater
+                .newUpdater(Entry.class, "unclaimed");
+
         final K key;
-        V value;
-        Entry<V> left;
-        Entry<V> right;
+        final V value;
+        volatile boolean referenced;
+        // 1 until the entry is counted in the size of the cache
+        private volatile int unclaimed = 1;
 
         Entry(K key, V value) {
             this.key = key;
             this.value = value;
         }
+
+        boolean claim() {
+            return unclaimed == 1 && UNCLAIMED.compareAndSet(this, 1, 0);
+        }
+
+        void markReferenced() {
+            // Only write when needed, to not keep invalidating the cache line on hot entries
+            if (!referenced) {
+                referenced = true;
+            }
+        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,81 @@
+package io.smallrye.graphql.execution;
+
+import java.util.function.Function;
+
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+/**
+ * Publisher that maps every item of another publisher.
+ *
+ * This does not buffer anything, the demand of the subscriber goes straight to the upstream publisher.
+ * If the mapping fails, the upstream is cancelled and the subscriber gets the error.
+ *
+ * @param <T> the upstream type
+ * @param <R> the mapped type
+ */
+public class MappingPublisher<T, R> implements Publisher<R> {
+
+    private final Publisher<T> upstream;
+    private final Function<T, R> mapper;
+
+    public MappingPublisher(Publisher<T> upstream, Function<T, R> mapper) {
+        this.upstream = upstream;
+        this.mapper = mapper;
+    }
+
+    @Override
+    public void subscribe(Subscriber<? super R> downstream) {
+        upstream.subscribe(new MappingSubscriber(downstream));
+    }
+
+    private class MappingSubscriber implements Subscriber<T> {
+        private final Subscriber<? super R> downstream;
+        private Subscription subscription;
+        private boolean done;
+
+        MappingSubscriber(Subscriber<? super R> downstream) {
+            this.downstream = downstream;
+        }
+
+        @Override
+        public void onSubscribe(Subscription subscription) {
+            this.subscription = subscription;
+            downstream.onSubscribe(subscription);
+        }
+
+        @Override
+        public void onNext(T item) {
+            if (done) {
+                return;
+            }
+            R mapped;
+            try {
+                mapped = mapper.apply(item);
+            } catch (RuntimeException ex) {
+                done = true;
+                subscription.cancel();
+                downstream.onError(ex);
+                return;
+            }
+            downstream.onNext(mapped);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            if (!done) {
+                done = true;
+                downstream.onError(throwable);
+            }
+        }
+
+        @Override
+        public void onComplete() {
+            if (!done) {
+                done = true;
+                downstream.onComplete();
+            }
+        }
+    }
+}
@@ -0,0 +1,160 @@
+package io.smallrye.graphql.execution;
+
+import static io.smallrye.graphql.SmallRyeGraphQLServerLogging.log;
+
+import java.lang.reflect.Method;
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.smallrye.graphql.bootstrap.Config;
+
+/**
+ * Runs blocking operations on an executor, so the operations of sibling fields run in parallel
+ * rather than one after the other.
+ *
+ * The executor is shared by all requests. On Java 21 and later it starts a virtual thread per operation,
+ * before that it is a bounded pool of (daemon) threads. Every request gets its own {@link RequestExecutor},
+ * that limits how many operations of that request run at the same time, so one request can not take all threads.
+ */
+public class ParallelExecution {
+
+    /**
+     * The key of the {@link RequestExecutor} in the GraphQL context
+     */
+    public static final String CONTEXT_KEY = "parallelExecution";
+
+    private static final AtomicInteger threadNumber = new AtomicInteger();
+
+    private final Executor executor;
+    private final int maxConcurrency;
+
+    private ParallelExecution(Executor executor, int maxConcurrency) {
+        this.executor = executor;
+        this.maxConcurrency = maxConcurrency;
+    }
+
+    /**
+     * @param config the configuration
+     * @return the parallel execution, or null if it is not enabled
+     */
+    public static ParallelExecution create(Config config) {
+        if (config == null || !config.isParallelExecutionEnabled()) {
+            return null;
+        }
+        Executor executor = newVirtualThreadPerTaskExecutor();
+        if (executor != null) {
+            log.usingParallelExecutor("virtual threads");
+        } else {
+            int maxThreads = Math.max(1, config.getParallelExecutionMaxThreads());
+            executor = newThreadPool(maxThreads);
+            log.usingParallelExecutor(maxThreads + " threads");
+        }
+        return new ParallelExecution(executor, Math.max(1, config.getParallelExecutionMaxConcurrency()));
+    }
+
+    /**
+     * @return the executor for one request
+     */
+    public RequestExecutor newRequest() {
+        return new RequestExecutor();
+    }
+
+    /**
+     * Runs the operations of one request on the shared executor, with at most maxConcurrency at the same time.
+     * Operations over that limit wait in a queue, the calling thread is never blocked.
+     */
+    public class RequestExecutor implements Executor {
+        private final Queue<Runnable> waiting = new ArrayDeque<>();
+        private int running = 0;
+        private volatile Error error;
+
+        private RequestExecutor() {
+        }
+
+        /**
+         * An Error fails the whole execution, like it does when thrown on the fetching thread
+         *
+         * @param error the error thrown by an operation
+         */
+        public void fail(Error error) {
+            if (this.error == null) {
+                this.error = error;
+            }
+        }
+
+        void throwIfFailed() {
+            if (error != null) {
+                throw error;
+            }
+        }
+
+        @Override
+        public void execute(Runnable task) {
+            synchronized (this) {
+                if (running >= maxConcurrency) {
+                    waiting.add(task);
+                    return;
+                }
+                running++;
+            }
+            start(task);
+        }
+
+        private void start(Runnable task) {
+            executor.execute(() -> {
+                try {
+                    task.run();
+                } finally {
+                    done();
+                }
+            });
+        }
+
+        private void done() {
+            Runnable next;
+            synchronized (this) {
+                next = waiting.poll();
+                if (next == null) {
+                    running--;
+                }
+            }
+            if (next != null) {
+                start(next);
+            }
+        }
+    }
+
+    /**
+     * Executors.newVirtualThreadPerTaskExecutor(), if this Java version has (non preview) virtual threads
+     */
+    private static Executor newVirtualThreadPerTaskExecutor() {
+        try {
+            Method method = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return (ExecutorService) method.invoke(null);
+        } catch (ReflectiveOperationException | RuntimeException ex) {
+            // Before Java 21 (or a preview that is not enabled)
+            return null;
+        }
+    }
+
+    private static Executor newThreadPool(int maxThreads) {
+        ThreadFactory threadFactory = runnable -> {
+            Thread thread = new Thread(runnable, "smallrye-graphql-parallel-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+        ThreadPoolExecutor threadPool = new ThreadPoolExecutor(maxThreads, maxThreads, 60, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(), threadFactory);
+        // Do not keep idle threads around
+        threadPool.allowCoreThreadTimeOut(true);
+        return threadPool;
+    }
+}
@@ -0,0 +1,120 @@
+package io.smallrye.graphql.execution;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collections;
+import java.util.Map;
+
+import javax.json.Json;
+import javax.json.JsonObject;
+import javax.json.JsonValue;
+
+import graphql.ErrorClassification;
+import graphql.ErrorType;
+import graphql.GraphqlErrorBuilder;
+import graphql.execution.AbortExecutionException;
+import graphql.execution.preparsed.persisted.PersistedQueryNotFound;
+import io.smallrye.graphql.api.Context;
+import io.smallrye.graphql.spi.PersistedQueryService;
+
+/**
+ * Automatic Persisted Queries, as done by Apollo.
+ *
+ * The client sends only the hash of the query in extensions.persistedQuery.sha256Hash. If we do not know that hash,
+ * we reply with a PersistedQueryNotFound error, and the client sends the query together with the hash, that we then
+ * store for next time.
+ */
+class PersistedQueries {
+
+    private final PersistedQueryService persistedQueryService;
+
+    PersistedQueries(PersistedQueryService persistedQueryService) {
+        this.persistedQueryService = persistedQueryService;
+    }
+
+    boolean isPersistedQuery(JsonObject jsonInput) {
+        JsonValue extensions = jsonInput.get(EXTENSIONS);
+        return extensions != null
+                && extensions.getValueType().equals(JsonValue.ValueType.OBJECT)
+                && extensions.asJsonObject().containsKey(PERSISTED_QUERY);
+    }
+
+    /**
+     * Make sure the request contains the query for the persisted query hash.
+     *
+     * @param jsonInput the request
+     * @return the request, with the query added if the client only sent the hash
+     * @throws AbortExecutionException if we can not find or verify the query
+     */
+    JsonObject resolve(JsonObject jsonInput) {
+        JsonValue persistedQuery = jsonInput.getJsonObject(EXTENSIONS).get(PERSISTED_QUERY);
+        if (!persistedQuery.getValueType().equals(JsonValue.ValueType.OBJECT)) {
+            throw abort("Invalid persisted query", "PERSISTED_QUERY_INVALID", ErrorType.ValidationError);
+        }
+        JsonObject persistedQueryObject = persistedQuery.asJsonObject();
+        if (persistedQueryObject.getInt(VERSION, SUPPORTED_VERSION) != SUPPORTED_VERSION) {
+            throw abort("Unsupported persisted query version", "PERSISTED_QUERY_VERSION_NOT_SUPPORTED",
+                    ErrorType.ValidationError);
+        }
+        String hash = persistedQueryObject.getString(SHA256_HASH, null);
+        if (hash == null) {
+            throw abort("Persisted query without sha256Hash", "PERSISTED_QUERY_INVALID", ErrorType.ValidationError);
+        }
+
+        String storedQuery = persistedQueryService.getQuery(hash);
+        String query = jsonInput.getString(Context.QUERY, null);
+
+        if (query == null) {
+            if (storedQuery == null) {
+                throw abort(PERSISTED_QUERY_NOT_FOUND, "PERSISTED_QUERY_NOT_FOUND", new PersistedQueryNotFound(hash));
+            }
+            return Json.createObjectBuilder(jsonInput).add(Context.QUERY, storedQuery).build();
+        }
+
+        // The client registers the query. Only hash when we do not already have this exact query
+        if (!query.equals(storedQuery)) {
+            if (!hash.equalsIgnoreCase(sha256(query))) {
+                throw abort("Provided sha256Hash does not match query", "PERSISTED_QUERY_HASH_MISMATCH",
+                        ErrorType.ValidationError);
+            }
+            persistedQueryService.putQuery(hash, query);
+        }
+        return jsonInput;
+    }
+
+    private static AbortExecutionException abort(String message, String code, ErrorClassification classification) {
+        Map<String, Object> extensions = Collections.singletonMap(CODE, code);
+        return new AbortExecutionException(Collections.singletonList(GraphqlErrorBuilder.newError()
+                .message(message)
+                .errorType(classification)
+                .extensions(extensions)
+                .build()));
+    }
+
+    static String sha256(String query) {
+        try {
+            MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+            byte[] digest = messageDigest.digest(query.getBytes(StandardCharsets.UTF_8));
+            char[] hex = new char[digest.length * 2];
+            for (int i = 0; i < digest.length; i++) {
+                hex[i * 2] = HEX[(digest[i] >> 4) & 0xF];
+                hex[i * 2 + 1] = HEX[digest[i] & 0xF];
+            }
+            return new String(hex);
+        } catch (NoSuchAlgorithmException ex) {
+            // Every Java platform has to support SHA-256
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+    private static final int SUPPORTED_VERSION = 1;
+
+    private static final String EXTENSIONS = "extensions";
+    private static final String PERSISTED_QUERY = "persistedQuery";
+    private static final String VERSION = "version";
+    private static final String SHA256_HASH = "sha256Hash";
+    private static final String CODE = "code";
+    private static final String PERSISTED_QUERY_NOT_FOUND = "PersistedQueryNotFound";
+}
@@ -4,93 +4,88 @@ import static io.smallrye.graphql.SmallRyeGraphQLServerLogging.log;
 
 import java.security.AccessController;
 import java.security.PrivilegedAction;
-import java.util.List;
-import java.util.concurrent.CompletableFuture;
 import java.util.function.Function;
 
 import graphql.ExecutionInput;
-import graphql.execution.instrumentation.InstrumentationContext;
-import graphql.execution.instrumentation.SimpleInstrumentation;
-import graphql.execution.instrumentation.parameters.InstrumentationValidationParameters;
+import graphql.GraphQLContext;
 import graphql.execution.preparsed.PreparsedDocumentEntry;
 import graphql.execution.preparsed.PreparsedDocumentProvider;
-import graphql.validation.ValidationError;
 
-public class QueryCache extends SimpleInstrumentation implements PreparsedDocumentProvider {
+/**
+ * Cache for parsed and validated documents.
+ *
+ * Only valid documents (that are also within the query limits, if any) are cached, so a cache hit
+ * skips parsing, validation and measuring.
+ */
+public class QueryCache implements PreparsedDocumentProvider {
     private static final int MAX_CACHE_SIZE = AccessController.doPrivileged((PrivilegedAction<Integer>) () -> {
         return Integer.getInteger("io.smallrye.graphql.execution.queryCacheMaxSize", 2048);
     });
 
-    private static final ThreadLocal<ExecutionFunction> executionFunctionTL = new ThreadLocal<>();
+    /**
+     * The key of a {@link PreparsedDocumentEntry} in the {@link GraphQLContext} that is used instead of the cache
+     */
+    static final String DOCUMENT_KEY = QueryCache.class.getName() + ".document";
 
     private final LRUCache<String, PreparsedDocumentEntry> cache = new LRUCache<>(MAX_CACHE_SIZE);
+    private final QueryLimits queryLimits;
+
+    public QueryCache() {
+        this(null);
+    }
+
+    QueryCache(QueryLimits queryLimits) {
+        this.queryLimits = queryLimits;
+    }
 
     @Override
     public PreparsedDocumentEntry getDocument(ExecutionInput executionInput,
             Function<ExecutionInput, PreparsedDocumentEntry> computeFunction) {
+        PreparsedDocumentEntry prepared = getPreparedDocument(executionInput);
+        if (prepared != null) {
+            return prepared;
+        }
         String query = executionInput.getQuery();
         PreparsedDocumentEntry entry = cache.get(query);
         if (entry == null) {
-            ExecutionFunction executionFunction = new ExecutionFunction(computeFunction, executionInput);
-            executionFunctionTL.set(executionFunction);
+            // Parse and validate
             entry = computeFunction.apply(executionInput);
+            if (!entry.hasErrors()) {
+                if (queryLimits != null) {
+                    entry = queryLimits.check(entry);
+                }
+                if (!entry.hasErrors()) {
+                    entry = cache.putIfAbsent(query, entry);
+                    log.addedToCache(query);
+                }
+            }
         } else {
             log.retrievedFromCache(query);
         }
         return entry;
     }
 
-    @Override
-    public InstrumentationContext<List<ValidationError>> beginValidation(
-            InstrumentationValidationParameters parameters) {
-
-        ExecutionFunction executionFunction = executionFunctionTL.get();
-        executionFunctionTL.remove();
-        if (executionFunction != null) {
-            return new ValidationInstrumentationContext(executionFunction);
+    /**
+     * A document that was already looked up before the execution (like for a batch of requests) is passed on
+     * in the context, so it's not parsed or counted twice.
+     */
+    private static PreparsedDocumentEntry getPreparedDocument(ExecutionInput executionInput) {
+        Object context = executionInput.getContext();
+        if (context instanceof GraphQLContext) {
+            return ((GraphQLContext) context).get(DOCUMENT_KEY);
         }
-        return super.beginValidation(parameters);
+        return null;
     }
 
-    private static class ExecutionFunction implements Function<String, PreparsedDocumentEntry> {
-        private final Function<ExecutionInput, PreparsedDocumentEntry> function;
-        private final ExecutionInput executionInput;
-
-        ExecutionFunction(Function<ExecutionInput, PreparsedDocumentEntry> function, ExecutionInput executionInput) {
-            this.function = function;
-            this.executionInput = executionInput;
-        }
-
-        @Override
-        public PreparsedDocumentEntry apply(String s) {
-            return function.apply(executionInput);
-        }
-
-        String getQuery() {
-            return executionInput.getQuery();
-        }
+    public long getHitCount() {
+        return cache.getHitCount();
     }
 
-    private class ValidationInstrumentationContext implements InstrumentationContext<List<ValidationError>> {
-        private final ExecutionFunction executionFunction;
-
-        ValidationInstrumentationContext(ExecutionFunction executionFunction) {
-            this.executionFunction = executionFunction;
-        }
-
-        @Override
-        public void onDispatched(CompletableFuture<List<ValidationError>> result) {
-            // no-op
-        }
+    public long getMissCount() {
+        return cache.getMissCount();
+    }
 
-        @Override
-        public void onCompleted(List<ValidationError> validationErrors, Throwable t) {
-            // at this point, we know the validation is complete - go ahead and add it to the cache if no errors
-            if (t == null && (validationErrors == null || validationErrors.isEmpty())) {
-                // valid, uncached query - add to cache
-                cache.computeIfAbsent(executionFunction.getQuery(), executionFunction);
-                log.addedToCache(executionFunction.getQuery());
-            }
-        }
+    public long getEvictionCount() {
+        return cache.getEvictionCount();
     }
 }
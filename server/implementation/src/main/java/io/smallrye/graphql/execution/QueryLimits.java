@@ -0,0 +1,236 @@
+package io.smallrye.graphql.execution;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import graphql.ErrorType;
+import graphql.GraphQLError;
+import graphql.GraphqlErrorBuilder;
+import graphql.execution.preparsed.PreparsedDocumentEntry;
+import graphql.introspection.Introspection;
+import graphql.language.Document;
+import graphql.language.FragmentDefinition;
+import graphql.language.FragmentSpread;
+import graphql.language.InlineFragment;
+import graphql.language.OperationDefinition;
+import graphql.language.Selection;
+import graphql.language.SelectionSet;
+import graphql.schema.DataFetcher;
+import graphql.schema.FieldCoordinates;
+import graphql.schema.GraphQLCodeRegistry;
+import graphql.schema.GraphQLCompositeType;
+import graphql.schema.GraphQLFieldDefinition;
+import graphql.schema.GraphQLFieldsContainer;
+import graphql.schema.GraphQLSchema;
+import graphql.schema.GraphQLType;
+import graphql.schema.GraphQLTypeUtil;
+import io.smallrye.graphql.bootstrap.Config;
+import io.smallrye.graphql.execution.datafetcher.AbstractDataFetcher;
+import io.smallrye.graphql.execution.datafetcher.BatchDataFetcher;
+import io.smallrye.graphql.execution.datafetcher.PropertyDataFetcher;
+import io.smallrye.graphql.schema.model.Field;
+
+/**
+ * Rejects queries that are too deep or too complex, before any data fetcher runs.
+ *
+ * The depth and complexity only depend on the document, so we measure a document once, when it gets parsed,
+ * and the query cache keeps the outcome: the document itself, or the error that rejects it. Every selected field costs 1, unless it
+ * declares another cost with @Cost. Fragments are measured once per document, so fragments that spread other
+ * fragments many times do not make the measuring itself expensive.
+ */
+class QueryLimits {
+
+    private final GraphQLSchema graphQLSchema;
+    private final Integer maxDepth;
+    private final Integer maxComplexity;
+    private final Map<FieldCoordinates, Integer> costs;
+
+    private QueryLimits(GraphQLSchema graphQLSchema, Integer maxDepth, Integer maxComplexity) {
+        this.graphQLSchema = graphQLSchema;
+        this.maxDepth = maxDepth;
+        this.maxComplexity = maxComplexity;
+        this.costs = getCosts(graphQLSchema);
+    }
+
+    /**
+     * @return the limits, or null if no limits are configured
+     */
+    static QueryLimits create(Config config, GraphQLSchema graphQLSchema) {
+        if (config == null) {
+            return null;
+        }
+        Integer maxDepth = config.getMaxQueryDepth().orElse(null);
+        Integer maxComplexity = config.getMaxQueryComplexity().orElse(null);
+        if (maxDepth == null && maxComplexity == null) {
+            return null;
+        }
+        return new QueryLimits(graphQLSchema, maxDepth, maxComplexity);
+    }
+
+    /**
+     * Measure a valid document
+     *
+     * @param entry the parsed and validated document
+     * @return the same entry, or an error if it is over the limits
+     */
+    PreparsedDocumentEntry check(PreparsedDocumentEntry entry) {
+        Document document = entry.getDocument();
+        Measurement measurement = new DocumentMeasurer(document).measure();
+
+        if (maxDepth != null && measurement.depth > maxDepth) {
+            return new PreparsedDocumentEntry(error(
+                    "Query depth " + measurement.depth + " exceeds the maximum depth of " + maxDepth,
+                    "max-query-depth-exceeded"));
+        }
+        if (maxComplexity != null && measurement.complexity > maxComplexity) {
+            return new PreparsedDocumentEntry(error(
+                    "Query complexity " + measurement.complexity + " exceeds the maximum complexity of " + maxComplexity,
+                    "max-query-complexity-exceeded"));
+        }
+        return entry;
+    }
+
+    private static GraphQLError error(String message, String code) {
+        return GraphqlErrorBuilder.newError()
+                .message(message)
+                .errorType(ErrorType.ValidationError)
+                .extensions(Collections.singletonMap(CODE, code))
+                .build();
+    }
+
+    private static Map<FieldCoordinates, Integer> getCosts(GraphQLSchema graphQLSchema) {
+        Map<FieldCoordinates, Integer> costs = new HashMap<>();
+        GraphQLCodeRegistry codeRegistry = graphQLSchema.getCodeRegistry();
+        for (GraphQLType type : graphQLSchema.getAllTypesAsList()) {
+            if (type instanceof GraphQLFieldsContainer) {
+                GraphQLFieldsContainer fieldsContainer = (GraphQLFieldsContainer) type;
+                for (GraphQLFieldDefinition fieldDefinition : fieldsContainer.getFieldDefinitions()) {
+                    Field field = getField(codeRegistry.getDataFetcher(fieldsContainer, fieldDefinition));
+                    if (field != null && field.hasCost()) {
+                        costs.put(FieldCoordinates.coordinates(fieldsContainer.getName(), fieldDefinition.getName()),
+                                field.getCost());
+                    }
+                }
+            }
+        }
+        return costs;
+    }
+
+    private static Field getField(DataFetcher<?> dataFetcher) {
+        if (dataFetcher instanceof PropertyDataFetcher) {
+            return ((PropertyDataFetcher) dataFetcher).getField();
+        } else if (dataFetcher instanceof AbstractDataFetcher) {
+            return ((AbstractDataFetcher<?, ?>) dataFetcher).getOperation();
+        } else if (dataFetcher instanceof BatchDataFetcher) {
+            return ((BatchDataFetcher<?>) dataFetcher).getOperation();
+        }
+        return null;
+    }
+
+    private class DocumentMeasurer {
+        private final Map<String, FragmentDefinition> fragments = new HashMap<>();
+        private final Map<String, Measurement> fragmentMeasurements = new HashMap<>();
+        private final Document document;
+
+        DocumentMeasurer(Document document) {
+            this.document = document;
+            for (FragmentDefinition fragment : document.getDefinitionsOfType(FragmentDefinition.class)) {
+                fragments.put(fragment.getName(), fragment);
+            }
+        }
+
+        /**
+         * We do not know which operation will be executed (the document is cached without the operation name),
+         * so we measure all of them and take the biggest.
+         */
+        Measurement measure() {
+            Measurement max = new Measurement();
+            for (OperationDefinition operation : document.getDefinitionsOfType(OperationDefinition.class)) {
+                GraphQLCompositeType rootType = getRootType(operation.getOperation());
+                if (rootType != null) {
+                    Measurement measurement = measure(operation.getSelectionSet(), rootType);
+                    max.depth = Math.max(max.depth, measurement.depth);
+                    max.complexity = Math.max(max.complexity, measurement.complexity);
+                }
+            }
+            return max;
+        }
+
+        private Measurement measure(SelectionSet selectionSet, GraphQLCompositeType parentType) {
+            Measurement measurement = new Measurement();
+            for (Selection<?> selection : selectionSet.getSelections()) {
+                if (selection instanceof graphql.language.Field) {
+                    measureField((graphql.language.Field) selection, parentType, measurement);
+                } else if (selection instanceof InlineFragment) {
+                    InlineFragment inlineFragment = (InlineFragment) selection;
+                    GraphQLCompositeType type = inlineFragment.getTypeCondition() != null
+                            ? (GraphQLCompositeType) graphQLSchema.getType(inlineFragment.getTypeCondition().getName())
+                            : parentType;
+                    measurement.add(measure(inlineFragment.getSelectionSet(), type));
+                } else if (selection instanceof FragmentSpread) {
+                    measurement.add(measureFragment(((FragmentSpread) selection).getName()));
+                }
+            }
+            return measurement;
+        }
+
+        private void measureField(graphql.language.Field field, GraphQLCompositeType parentType, Measurement measurement) {
+            long cost = costs.getOrDefault(FieldCoordinates.coordinates(parentType.getName(), field.getName()), 1);
+            int depth = 1;
+            if (field.getSelectionSet() != null) {
+                GraphQLFieldDefinition fieldDefinition = Introspection.getFieldDef(graphQLSchema, parentType,
+                        field.getName());
+                GraphQLType type = GraphQLTypeUtil.unwrapAll(fieldDefinition.getType());
+                if (type instanceof GraphQLCompositeType) {
+                    Measurement child = measure(field.getSelectionSet(), (GraphQLCompositeType) type);
+                    depth += child.depth;
+                    cost = saturatedAdd(cost, child.complexity);
+                }
+            }
+            measurement.depth = Math.max(measurement.depth, depth);
+            measurement.complexity = saturatedAdd(measurement.complexity, cost);
+        }
+
+        private Measurement measureFragment(String name) {
+            Measurement measurement = fragmentMeasurements.get(name);
+            if (measurement == null) {
+                // Fragment cycles are not valid, so the validation already made sure this terminates
+                FragmentDefinition fragment = fragments.get(name);
+                GraphQLCompositeType type = (GraphQLCompositeType) graphQLSchema
+                        .getType(fragment.getTypeCondition().getName());
+                measurement = measure(fragment.getSelectionSet(), type);
+                fragmentMeasurements.put(name, measurement);
+            }
+            return measurement;
+        }
+
+        private GraphQLCompositeType getRootType(OperationDefinition.Operation operation) {
+            switch (operation) {
+                case MUTATION:
+                    return graphQLSchema.getMutationType();
+                case SUBSCRIPTION:
+                    return graphQLSchema.getSubscriptionType();
+                default:
+                    return graphQLSchema.getQueryType();
+            }
+        }
+    }
+
+    private static long saturatedAdd(long a, long b) {
+        long sum = a + b;
+        return sum < 0 ? Long.MAX_VALUE : sum;
+    }
+
+    private static class Measurement {
+        int depth;
+        long complexity;
+
+        void add(Measurement other) {
+            depth = Math.max(depth, other.depth);
+            complexity = saturatedAdd(complexity, other.complexity);
+        }
+    }
+
+    private static final String CODE = "code";
+}
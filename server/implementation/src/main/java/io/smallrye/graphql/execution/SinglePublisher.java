@@ -0,0 +1,45 @@
+package io.smallrye.graphql.execution;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+/**
+ * Publisher of one item, emitted as soon as there is demand for it.
+ *
+ * @param <T> the item type
+ */
+class SinglePublisher<T> implements Publisher<T> {
+
+    private final T item;
+
+    SinglePublisher(T item) {
+        this.item = item;
+    }
+
+    @Override
+    public void subscribe(Subscriber<? super T> subscriber) {
+        subscriber.onSubscribe(new Subscription() {
+            private final AtomicBoolean done = new AtomicBoolean();
+
+            @Override
+            public void request(long n) {
+                if (n <= 0) {
+                    if (done.compareAndSet(false, true)) {
+                        subscriber.onError(new IllegalArgumentException("Request must be positive, but was " + n));
+                    }
+                } else if (done.compareAndSet(false, true)) {
+                    subscriber.onNext(item);
+                    subscriber.onComplete();
+                }
+            }
+
+            @Override
+            public void cancel() {
+                done.set(true);
+            }
+        });
+    }
+}
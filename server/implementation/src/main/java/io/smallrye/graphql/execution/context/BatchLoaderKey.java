@@ -0,0 +1,44 @@
+package io.smallrye.graphql.execution.context;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * The key of a source in a DataLoader. The arguments of the field are part of the key, so a value that was
+ * loaded with other arguments (like in another request of a batch) is never used.
+ */
+public final class BatchLoaderKey {
+
+    private final Object source;
+    private final Object[] arguments;
+
+    public BatchLoaderKey(Object source, Object[] arguments) {
+        this.source = source;
+        this.arguments = arguments;
+    }
+
+    public Object getSource() {
+        return source;
+    }
+
+    public Object[] getArguments() {
+        return arguments;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof BatchLoaderKey)) {
+            return false;
+        }
+        BatchLoaderKey other = (BatchLoaderKey) o;
+        return Objects.equals(source, other.source) && Arrays.deepEquals(arguments, other.arguments);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Objects.hashCode(source) + Arrays.deepHashCode(arguments);
+    }
+}
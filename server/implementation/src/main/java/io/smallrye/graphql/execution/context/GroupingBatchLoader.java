@@ -0,0 +1,96 @@
+package io.smallrye.graphql.execution.context;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+import org.dataloader.BatchLoaderEnvironment;
+import org.dataloader.BatchLoaderWithContext;
+
+/**
+ * All requests of a batch share the DataLoaders, so the keys of one dispatch can come from several requests,
+ * and from fields with other arguments. The keys are loaded in groups with the same arguments from the same
+ * request, and every group gets the arguments and the context of its own request.
+ */
+class GroupingBatchLoader implements BatchLoaderWithContext<BatchLoaderKey, Object> {
+
+    private final BatchLoaderWithContext<Object, Object> batchLoader;
+
+    GroupingBatchLoader(BatchLoaderWithContext<Object, Object> batchLoader) {
+        this.batchLoader = batchLoader;
+    }
+
+    @Override
+    public CompletionStage<List<Object>> load(List<BatchLoaderKey> keys, BatchLoaderEnvironment environment) {
+        List<Object> keyContexts = environment.getKeyContextsList();
+        Map<Group, List<Integer>> groups = new LinkedHashMap<>();
+        for (int i = 0; i < keys.size(); i++) {
+            SmallRyeContext context = (SmallRyeContext) keyContexts.get(i);
+            Group group = new Group(keys.get(i).getArguments(), (context == null) ? null : context.getExecutionId());
+            groups.computeIfAbsent(group, g -> new ArrayList<>()).add(i);
+        }
+
+        if (groups.size() == 1) {
+            return load(keys, keyContexts, groups.values().iterator().next());
+        }
+
+        List<Object> values = Arrays.asList(new Object[keys.size()]);
+        CompletableFuture<?>[] loaded = new CompletableFuture<?>[groups.size()];
+        int g = 0;
+        for (List<Integer> indexes : groups.values()) {
+            loaded[g++] = load(keys, keyContexts, indexes).toCompletableFuture()
+                    .thenAccept(groupValues -> {
+                        for (int i = 0; i < indexes.size(); i++) {
+                            values.set(indexes.get(i), groupValues.get(i));
+                        }
+                    });
+        }
+        return CompletableFuture.allOf(loaded).thenApply(done -> values);
+    }
+
+    private CompletionStage<List<Object>> load(List<BatchLoaderKey> keys, List<Object> keyContexts, List<Integer> indexes) {
+        List<Object> sources = new ArrayList<>(indexes.size());
+        List<Object> arguments = new ArrayList<>(indexes.size());
+        for (int i : indexes) {
+            sources.add(keys.get(i).getSource());
+            arguments.add(keys.get(i).getArguments());
+        }
+        BatchLoaderEnvironment environment = BatchLoaderEnvironment.newBatchLoaderEnvironment()
+                .context(keyContexts.get(indexes.get(0)))
+                .keyContexts(sources, arguments)
+                .build();
+        return batchLoader.load(sources, environment);
+    }
+
+    /**
+     * The keys that are loaded in one call: with the same arguments, from the same request
+     */
+    private static final class Group {
+        private final Object[] arguments;
+        private final String executionId;
+
+        private Group(Object[] arguments, String executionId) {
+            this.arguments = arguments;
+            this.executionId = executionId;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Group)) {
+                return false;
+            }
+            Group other = (Group) o;
+            return Objects.equals(executionId, other.executionId) && Arrays.deepEquals(arguments, other.arguments);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * Objects.hashCode(executionId) + Arrays.deepHashCode(arguments);
+        }
+    }
+}
@@ -3,10 +3,10 @@ package io.smallrye.graphql.execution.context;
 import static io.smallrye.graphql.SmallRyeGraphQLServerMessages.msg;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.function.Supplier;
 
 import javax.json.Json;
 import javax.json.JsonArray;
@@ -41,11 +41,13 @@ import io.smallrye.graphql.schema.model.Type;
 public class SmallRyeContext implements Context {
     private static Schema schema;
 
-    private static final InheritableThreadLocal<SmallRyeContext> current = new InheritableThreadLocal<>();
+    private static final ThreadLocal<SmallRyeContext> current = new ThreadLocal<>();
+    // Only set for contexts that threads started while handling the request inherit
+    private static final InheritableThreadLocal<SmallRyeContext> inherited = new InheritableThreadLocal<>();
 
     public static void register(JsonObject jsonInput) {
         SmallRyeContext registry = new SmallRyeContext(jsonInput);
-        current.set(registry);
+        setContext(registry);
     }
 
     public static void setSchema(Schema schema) {
@@ -53,24 +55,79 @@ public class SmallRyeContext implements Context {
     }
 
     public static SmallRyeContext getContext() {
-        return current.get();
+        SmallRyeContext context = current.get();
+        return (context != null) ? context : inherited.get();
     }
 
     public static void setContext(SmallRyeContext context) {
         current.set(context);
+        if (context != null && context.inheritable) {
+            inherited.set(context);
+        } else {
+            inherited.remove();
+        }
     }
 
     public SmallRyeContext withDataFromExecution(ExecutionInput executionInput) {
-        return new SmallRyeContext(this.jsonObject, this.dfe, executionInput, this.field);
+        return new SmallRyeContext(this.jsonObject, this.dfe, executionInput, this.field, this.inheritable);
     }
 
     public SmallRyeContext withDataFromFetcher(DataFetchingEnvironment dfe, Field field) {
-        SmallRyeContext newCtx = new SmallRyeContext(this.jsonObject, dfe, this.executionInput, field);
+        SmallRyeContext newCtx = new SmallRyeContext(this.jsonObject, dfe, this.executionInput, field, this.inheritable);
         return newCtx;
     }
 
     public static void remove() {
         current.remove();
+        inherited.remove();
+    }
+
+    /**
+     * @return the field (or operation) that is fetched, or null outside of a data fetcher
+     */
+    public Field getField() {
+        return field;
+    }
+
+    /**
+     * Keep some data for the duration of one data fetch, e.g. when it started.
+     * Every data fetch has its own context, so this is not shared with other fetches.
+     *
+     * @param key the key of the data
+     * @param value the data
+     */
+    public void putFetchData(String key, Object value) {
+        if (fetchData == null) {
+            fetchData = new HashMap<>(4);
+        }
+        fetchData.put(key, value);
+    }
+
+    /**
+     * @param key the key of the data
+     * @param <T> the type of the data
+     * @return the data kept for this data fetch, or null if there is none
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T getFetchData(String key) {
+        return (fetchData == null) ? null : (T) fetchData.get(key);
+    }
+
+    /**
+     * When this data fetch started, from {@link System#nanoTime()}.
+     * This is a field and not fetch data, so timing a fetch does not allocate anything.
+     *
+     * @param fetchStartNanos the start time
+     */
+    public void setFetchStartNanos(long fetchStartNanos) {
+        this.fetchStartNanos = fetchStartNanos;
+    }
+
+    /**
+     * @return when this data fetch started, if it was set
+     */
+    public long getFetchStartNanos() {
+        return fetchStartNanos;
     }
 
     @Override
@@ -169,9 +226,10 @@ public class SmallRyeContext implements Context {
     public List<String> getRequestedOperationTypes() {
         List<String> allRequestedTypes = new ArrayList<>();
 
-        if (documentSupplier != null) {
-            Document document = documentSupplier.get();
-            documentSupplier = () -> document;
+        if (executionInput != null) {
+            if (document == null) {
+                document = new Parser().parseDocument(executionInput.getQuery());
+            }
             List<OperationDefinition> definitions = document.getDefinitionsOfType(OperationDefinition.class);
             for (OperationDefinition definition : definitions) {
                 String operationType = getOperationTypeFromDefinition(definition);
@@ -206,32 +264,45 @@ public class SmallRyeContext implements Context {
         return definition.getOperation().toString();
     }
 
-    private final Parser parser;
     private final JsonObject jsonObject;
     private final DataFetchingEnvironment dfe;
     private final ExecutionInput executionInput;
-    private Supplier<Document> documentSupplier;
+    private Document document;
     private final Field field;
+    private final boolean inheritable;
+    private Map<String, Object> fetchData;
+    private long fetchStartNanos;
 
     public SmallRyeContext(final JsonObject jsonObject) {
-        this.jsonObject = jsonObject;
-        this.dfe = null;
-        this.executionInput = null;
-        this.documentSupplier = null;
-        this.field = null;
-        this.parser = new Parser();
+        this(jsonObject, true);
+    }
+
+    /**
+     * @param jsonObject the request
+     * @param inheritable if threads started while handling the request inherit the context. If not, the context is
+     *        only propagated with MicroProfile Context Propagation, or by the asynchronous and parallel data fetchers.
+     */
+    public SmallRyeContext(final JsonObject jsonObject, boolean inheritable) {
+        this(jsonObject, null, null, null, inheritable);
     }
 
     public SmallRyeContext(JsonObject jsonObject,
             DataFetchingEnvironment dfe,
             ExecutionInput executionInput,
             Field field) {
+        this(jsonObject, dfe, executionInput, field, true);
+    }
+
+    private SmallRyeContext(JsonObject jsonObject,
+            DataFetchingEnvironment dfe,
+            ExecutionInput executionInput,
+            Field field,
+            boolean inheritable) {
         this.jsonObject = jsonObject;
         this.dfe = dfe;
         this.field = field;
         this.executionInput = executionInput;
-        this.parser = new Parser();
-        this.documentSupplier = () -> parser.parseDocument(executionInput.getQuery());
+        this.inheritable = inheritable;
     }
 
     private JsonArrayBuilder toJsonArrayBuilder(List<SelectedField> fields, boolean includeSourceFields) {
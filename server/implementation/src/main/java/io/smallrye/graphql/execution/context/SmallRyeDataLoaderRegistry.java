@@ -0,0 +1,17 @@
+package io.smallrye.graphql.execution.context;
+
+import org.dataloader.BatchLoaderWithContext;
+import org.dataloader.DataLoader;
+import org.dataloader.DataLoaderRegistry;
+
+/**
+ * The DataLoaders of a request (or a batch of requests). The keys are {@link BatchLoaderKey}s, with the
+ * {@link SmallRyeContext} of the fetch as key context. It only lives as long as the request, so nothing has to be
+ * cleaned up.
+ */
+public class SmallRyeDataLoaderRegistry extends DataLoaderRegistry {
+
+    public void registerBatchLoader(String key, BatchLoaderWithContext<Object, Object> batchLoader) {
+        register(key, DataLoader.newDataLoader(new GroupingBatchLoader(batchLoader)));
+    }
+}
@@ -3,6 +3,7 @@ package io.smallrye.graphql.execution.datafetcher;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
 
 import org.dataloader.BatchLoaderWithContext;
 import org.eclipse.microprofile.graphql.GraphQLException;
@@ -44,7 +45,7 @@ public abstract class AbstractDataFetcher<K, T> implements DataFetcher<T>, Batch
         this.operation = operation;
         this.eventEmitter = EventEmitter.getInstance(config);
         this.fieldHelper = new FieldHelper(operation);
-        this.reflectionHelper = new ReflectionHelper(operation, eventEmitter);
+        this.reflectionHelper = new ReflectionHelper(operation, eventEmitter, config);
         this.argumentHelper = new ArgumentHelper(operation.getArguments());
         this.partialResultHelper = new PartialResultHelper();
         this.batchLoaderHelper = new BatchLoaderHelper();
@@ -54,6 +55,10 @@ public abstract class AbstractDataFetcher<K, T> implements DataFetcher<T>, Batch
         this.unwrapExceptions.addAll(DEFAULT_EXCEPTION_UNWRAP);
     }
 
+    public Operation getOperation() {
+        return operation;
+    }
+
     @Override
     public T get(final DataFetchingEnvironment dfe) throws Exception {
         // update the context
@@ -65,23 +70,32 @@ public abstract class AbstractDataFetcher<K, T> implements DataFetcher<T>, Batch
 
         eventEmitter.fireBeforeDataFetch(context);
 
+        boolean async = false;
         try {
             Object[] transformedArguments = argumentHelper.getArguments(dfe);
 
-            return invokeAndTransform(dfe, resultBuilder, transformedArguments);
+            T result = invokeAndTransform(dfe, resultBuilder, transformedArguments);
+            if (result instanceof CompletionStage) {
+                // The fetch is only done when the result is
+                async = true;
+                return (T) eventEmitter.fireAfterDataFetch(context, (CompletionStage<?>) result);
+            }
+            return result;
         } catch (AbstractDataFetcherException abstractDataFetcherException) {
             //Arguments or result couldn't be transformed
             abstractDataFetcherException.appendDataFetcherResult(resultBuilder, dfe);
-            eventEmitter.fireOnDataFetchError(dfe.getExecutionId().toString(), abstractDataFetcherException);
+            eventEmitter.fireOnDataFetchError(context, abstractDataFetcherException);
         } catch (GraphQLException graphQLException) {
             partialResultHelper.appendPartialResult(resultBuilder, dfe, graphQLException);
-            eventEmitter.fireOnDataFetchError(dfe.getExecutionId().toString(), graphQLException);
-        } catch (SecurityException | IllegalAccessException | IllegalArgumentException ex) {
-            //m.invoke failed
-            eventEmitter.fireOnDataFetchError(dfe.getExecutionId().toString(), ex);
+            eventEmitter.fireOnDataFetchError(context, graphQLException);
+        } catch (Exception ex) {
+            //m.invoke failed, or the operation threw. Handled by graphql-java (and our exception handler)
+            eventEmitter.fireOnDataFetchError(context, ex);
             throw ex;
         } finally {
-            eventEmitter.fireAfterDataFetch(context);
+            if (!async) {
+                eventEmitter.fireAfterDataFetch(context);
+            }
         }
 
         return invokeFailure(resultBuilder);
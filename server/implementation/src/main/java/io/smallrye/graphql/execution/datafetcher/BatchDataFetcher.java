@@ -1,12 +1,14 @@
 package io.smallrye.graphql.execution.datafetcher;
 
+import java.util.concurrent.CompletionStage;
+
 import org.dataloader.DataLoader;
 
 import graphql.GraphQLContext;
 import graphql.schema.DataFetcher;
 import graphql.schema.DataFetchingEnvironment;
 import io.smallrye.graphql.bootstrap.Config;
-import io.smallrye.graphql.execution.context.SmallRyeBatchLoaderContextProvider;
+import io.smallrye.graphql.execution.context.BatchLoaderKey;
 import io.smallrye.graphql.execution.context.SmallRyeContext;
 import io.smallrye.graphql.execution.datafetcher.helper.ArgumentHelper;
 import io.smallrye.graphql.execution.datafetcher.helper.BatchLoaderHelper;
@@ -33,26 +35,33 @@ public class BatchDataFetcher<T> implements DataFetcher<T> {
         this.batchLoaderName = batchLoaderHelper.getName(operation);
     }
 
+    public Operation getOperation() {
+        return operation;
+    }
+
     @Override
     public T get(final DataFetchingEnvironment dfe) throws Exception {
         GraphQLContext graphQLContext = dfe.getContext();
         SmallRyeContext context = ((SmallRyeContext) graphQLContext.get("context")).withDataFromFetcher(dfe, operation);
         eventEmitter.fireBeforeDataFetch(context);
-        Object[] transformedArguments = argumentHelper.getArguments(dfe, true);
-        Object source = dfe.getSource();
+        CompletionStage<Object> result;
+        try {
+            Object[] transformedArguments = argumentHelper.getArguments(dfe, true);
+            Object source = dfe.getSource();
 
-        DataLoader<Object, Object> dataLoader = dfe.getDataLoader(batchLoaderName);
-        // FIXME: this is potentially brittle because it assumes that the batch loader will execute and
-        //  consume the context before we call this again for a different operation, but I don't know
-        //  how else to pass this context to the matching BatchLoaderEnvironment instance
-        SmallRyeBatchLoaderContextProvider.getForDataLoader(dataLoader).set(context);
+            // The context of this fetch goes with the key, so the batch loader gets the context of its own request
+            DataLoader<BatchLoaderKey, Object> dataLoader = dfe.getDataLoader(batchLoaderName);
 
-        try {
             SmallRyeContext.setContext(context);
-            return (T) dataLoader.load(source, transformedArguments);
+            result = dataLoader.load(new BatchLoaderKey(source, transformedArguments), context);
+        } catch (Exception | Error e) {
+            eventEmitter.fireAfterDataFetch(context);
+            throw e;
         } finally {
             SmallRyeContext.remove();
         }
+        // The fetch is only done when the batch is loaded
+        return (T) eventEmitter.fireAfterDataFetch(context, result);
     }
 
 }
@@ -2,48 +2,179 @@ package io.smallrye.graphql.execution.datafetcher;
 
 import static io.smallrye.graphql.SmallRyeGraphQLServerLogging.log;
 
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.IntFunction;
 
 import io.smallrye.graphql.spi.ClassloadingService;
 
 /**
  * Helping with creating collection instances
  * This gets the new collection when creating arguments to call the method.
- * 
+ *
  * We get a Collection from graph-ql java, and we go through all elements, potentially transforming them,
  * and then we need to create a new collection of the correct type to call the method via reflection.
  *
+ * How to create a type of collection is worked out once per class (see {@link #getFactory(Class)}), so creating
+ * one does not look up constructors or throw exceptions.
+ *
  * @author Phillip Kruger (phillip.kruger@redhat.com)
  */
 public class CollectionCreator {
 
     private static final ClassloadingService classloadingService = ClassloadingService.get();
 
+    private static final ClassValue<Factory> FACTORIES = new ClassValue<Factory>() {
+        @Override
+        protected Factory computeValue(Class<?> type) {
+            return createFactory(type);
+        }
+    };
+
     public static Collection<?> newCollection(String className) {
         Class<?> type = classloadingService.loadClass(className);
-        return newCollection(type);
+        return getFactory(type).create(0);
     }
 
     /**
-     * Creates an empty instance of a non-interface type of collection, or a suitable subclass of
-     * the interfaces {@link List}, {@link Collection}, or {@link Set}.
-     * 
+     * Get the factory for a type of collection. For the interfaces {@link List}, {@link Collection}, {@link Set},
+     * {@link java.util.SortedSet}, {@link java.util.Queue} and {@link java.util.Deque} this creates a suitable
+     * implementation, for other types it uses the no-argument constructor. Types without one that have a static
+     * {@code copyOf(Collection)} method (like most immutable collections) are created by copying.
+     *
      * @param type the collection class
-     * @return the collection
+     * @return the factory
+     */
+    public static Factory getFactory(Class<?> type) {
+        return FACTORIES.get(type);
+    }
+
+    /**
+     * Creates collections of one type
+     */
+    public static class Factory {
+        private final IntFunction<Collection<Object>> creator;
+        private final Method copyOf;
+
+        Factory(IntFunction<Collection<Object>> creator, Method copyOf) {
+            this.creator = creator;
+            this.copyOf = copyOf;
+        }
+
+        /**
+         * Create an empty collection to add the elements to. For immutable types this is not yet the correct type,
+         * so {@link #complete(Collection)} the collection once all elements are added.
+         *
+         * @param size the expected number of elements
+         * @return an empty collection
+         */
+        public Collection<Object> create(int size) {
+            return creator.apply(size);
+        }
+
+        /**
+         * @param collection the collection as created by this factory, with all the elements added
+         * @return the collection in the correct type
+         */
+        public Object complete(Collection<Object> collection) {
+            if (copyOf == null) {
+                return collection;
+            }
+            try {
+                return copyOf.invoke(null, collection);
+            } catch (ReflectiveOperationException ex) {
+                throw new IllegalStateException("Could not create " + copyOf.getDeclaringClass().getName(), ex);
+            }
+        }
+    }
+
+    private static Factory createFactory(Class<?> type) {
+        // The common types, created with the correct size
+        if (type.equals(ArrayList.class) || isImplementedBy(type, ArrayList.class)) {
+            return new Factory(ArrayList::new, null);
+        } else if (type.equals(HashSet.class) || isImplementedBy(type, HashSet.class)) {
+            return new Factory(size -> new HashSet<>(hashCapacity(size)), null);
+        } else if (type.equals(LinkedHashSet.class)) {
+            return new Factory(size -> new LinkedHashSet<>(hashCapacity(size)), null);
+        } else if (isImplementedBy(type, TreeSet.class)) {
+            return new Factory(size -> new TreeSet<>(), null);
+        } else if (type.equals(ArrayDeque.class) || isImplementedBy(type, ArrayDeque.class)) {
+            return new Factory(ArrayDeque::new, null);
+        }
+
+        if (!Modifier.isAbstract(type.getModifiers())) {
+            Constructor<?> constructor = getNoArgsConstructor(type);
+            if (constructor != null) {
+                return new Factory(size -> newInstance(constructor), null);
+            }
+        }
+
+        Method copyOf = getCopyOf(type);
+        if (copyOf != null) {
+            IntFunction<Collection<Object>> builder = Set.class.isAssignableFrom(type)
+                    ? size -> new LinkedHashSet<>(hashCapacity(size))
+                    : ArrayList::new;
+            return new Factory(builder, copyOf);
+        }
+
+        log.noArgConstructorMissing(type.getName());
+        if (Set.class.isAssignableFrom(type)) {
+            return new Factory(size -> new HashSet<>(hashCapacity(size)), null);
+        }
+        return new Factory(ArrayList::new, null);
+    }
+
+    /**
+     * @return true if the type is an interface (or abstract class) that this implementation can be used for
      */
-    private static Collection<?> newCollection(Class<?> type) {
+    private static boolean isImplementedBy(Class<?> type, Class<?> implementation) {
+        return (type.isInterface() || Modifier.isAbstract(type.getModifiers())) && type.isAssignableFrom(implementation);
+    }
+
+    private static int hashCapacity(int size) {
+        return Math.max((int) (size / .75f) + 1, 16);
+    }
+
+    /**
+     * @return the no-argument constructor, if we can use it
+     */
+    private static Constructor<?> getNoArgsConstructor(Class<?> type) {
         try {
-            return (Collection<?>) type.getDeclaredConstructor().newInstance();
+            Constructor<?> constructor = type.getDeclaredConstructor();
+            // Make sure we are allowed to use it
+            constructor.newInstance();
+            return constructor;
         } catch (Exception ex) {
-            log.noArgConstructorMissing(type == null ? "null" : type.getName());
+            return null;
         }
-        if (Set.class.isAssignableFrom(type)) {
-            return new HashSet<>();
+    }
+
+    private static Method getCopyOf(Class<?> type) {
+        try {
+            Method copyOf = type.getMethod("copyOf", Collection.class);
+            if (Modifier.isStatic(copyOf.getModifiers()) && type.isAssignableFrom(copyOf.getReturnType())) {
+                return copyOf;
+            }
+        } catch (NoSuchMethodException | SecurityException ex) {
+            // Then we can not create it
+        }
+        return null;
+    }
+
+    private static Collection<Object> newInstance(Constructor<?> constructor) {
+        try {
+            return (Collection<Object>) constructor.newInstance();
+        } catch (ReflectiveOperationException ex) {
+            throw new IllegalStateException("Could not create " + constructor.getDeclaringClass().getName(), ex);
         }
-        return new ArrayList<>();
     }
 }
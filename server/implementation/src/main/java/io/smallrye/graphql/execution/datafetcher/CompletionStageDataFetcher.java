@@ -26,16 +26,28 @@ import io.smallrye.graphql.transformation.AbstractDataFetcherException;
  */
 public class CompletionStageDataFetcher<K, T> extends AbstractDataFetcher<K, T> {
 
+    private volatile ThreadContext threadContext;
+
     public CompletionStageDataFetcher(Operation operation, Config config) {
         super(operation, config);
     }
 
+    /**
+     * The thread context is only built when it's needed, there might not be a context manager otherwise
+     */
+    private ThreadContext getThreadContext() {
+        if (threadContext == null) {
+            threadContext = ThreadContext.builder().build();
+        }
+        return threadContext;
+    }
+
     @Override
     protected <T> T invokeAndTransform(DataFetchingEnvironment dfe, DataFetcherResult.Builder<Object> resultBuilder,
             Object[] transformedArguments) throws AbstractDataFetcherException, Exception {
 
         SmallRyeContext context = ((GraphQLContext) dfe.getContext()).get("context");
-        ThreadContext threadContext = ThreadContext.builder().build();
+        ThreadContext threadContext = getThreadContext();
         SmallRyeContext.setContext(context);
         try {
             CompletionStage<Object> futureResultFromMethodCall = threadContext
@@ -46,7 +58,7 @@ public class CompletionStageDataFetcher<K, T> extends AbstractDataFetcher<K, T>
                 if (throwable != null) {
                     throwable = unwrapThrowable(throwable);
 
-                    eventEmitter.fireOnDataFetchError(dfe.getExecutionId().toString(), throwable);
+                    eventEmitter.fireOnDataFetchError(context, throwable);
                     if (throwable instanceof GraphQLException) {
                         GraphQLException graphQLException = (GraphQLException) throwable;
                         partialResultHelper.appendPartialResult(resultBuilder, dfe, graphQLException);
@@ -80,7 +92,7 @@ public class CompletionStageDataFetcher<K, T> extends AbstractDataFetcher<K, T>
         Object[] arguments = batchLoaderHelper.getArguments(keys, ble);
         final ClassLoader tccl = Thread.currentThread().getContextClassLoader();
         final SmallRyeContext context = ble.getContext();
-        final ThreadContext threadContext = ThreadContext.builder().build();
+        final ThreadContext threadContext = getThreadContext();
         try {
             SmallRyeContext.setContext(context);
             return threadContext
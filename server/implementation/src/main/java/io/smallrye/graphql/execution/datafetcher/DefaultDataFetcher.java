@@ -6,13 +6,16 @@ import java.util.concurrent.CompletionStage;
 
 import org.dataloader.BatchLoaderEnvironment;
 import org.eclipse.microprofile.context.ThreadContext;
+import org.eclipse.microprofile.graphql.GraphQLException;
 
 import graphql.GraphQLContext;
 import graphql.execution.DataFetcherResult;
 import graphql.schema.DataFetchingEnvironment;
 import io.smallrye.graphql.bootstrap.Config;
+import io.smallrye.graphql.execution.ParallelExecution;
 import io.smallrye.graphql.execution.context.SmallRyeContext;
 import io.smallrye.graphql.schema.model.Operation;
+import io.smallrye.graphql.transformation.AbstractDataFetcherException;
 
 /**
  * The default, built in data fetcher
@@ -23,14 +26,33 @@ import io.smallrye.graphql.schema.model.Operation;
  */
 public class DefaultDataFetcher<K, T> extends AbstractDataFetcher<K, T> {
 
+    private volatile ThreadContext threadContext;
+
     public DefaultDataFetcher(Operation operation, Config config) {
         super(operation, config);
     }
 
+    /**
+     * The thread context is only built when it's needed, there might not be a context manager otherwise
+     */
+    private ThreadContext getThreadContext() {
+        if (threadContext == null) {
+            threadContext = ThreadContext.builder().build();
+        }
+        return threadContext;
+    }
+
     @Override
     public <T> T invokeAndTransform(DataFetchingEnvironment dfe, DataFetcherResult.Builder<Object> resultBuilder,
             Object[] transformedArguments) throws Exception {
-        SmallRyeContext context = ((GraphQLContext) dfe.getContext()).get("context");
+        GraphQLContext graphQLContext = dfe.getContext();
+        SmallRyeContext context = graphQLContext.get("context");
+        ParallelExecution.RequestExecutor parallelExecutor = operation.isSequential()
+                ? null
+                : graphQLContext.get(ParallelExecution.CONTEXT_KEY);
+        if (parallelExecutor != null) {
+            return (T) invokeAndTransformInParallel(dfe, resultBuilder, transformedArguments, context, parallelExecutor);
+        }
         try {
             SmallRyeContext.setContext(context);
             Object resultFromMethodCall = reflectionHelper.invoke(transformedArguments);
@@ -44,6 +66,51 @@ public class DefaultDataFetcher<K, T> extends AbstractDataFetcher<K, T> {
         }
     }
 
+    /**
+     * Invoke the operation on the executor, so graphql-java can fetch the sibling fields in the meantime.
+     * The context, the TCCL and the MicroProfile thread context of the fetching thread are propagated.
+     */
+    private CompletableFuture<Object> invokeAndTransformInParallel(DataFetchingEnvironment dfe,
+            DataFetcherResult.Builder<Object> resultBuilder, Object[] transformedArguments, SmallRyeContext context,
+            ParallelExecution.RequestExecutor parallelExecutor) {
+        final ClassLoader tccl = Thread.currentThread().getContextClassLoader();
+        final ThreadContext threadContext = getThreadContext();
+        final CompletableFuture<Object> result = new CompletableFuture<>();
+
+        parallelExecutor.execute(threadContext.contextualRunnable(() -> {
+            Thread thread = Thread.currentThread();
+            ClassLoader originalTccl = thread.getContextClassLoader();
+            try {
+                thread.setContextClassLoader(tccl);
+                SmallRyeContext.setContext(context);
+                Object resultFromMethodCall = reflectionHelper.invoke(transformedArguments);
+                resultBuilder.data(fieldHelper.transformResponse(resultFromMethodCall));
+                result.complete(resultBuilder.build());
+            } catch (AbstractDataFetcherException te) {
+                te.appendDataFetcherResult(resultBuilder, dfe);
+                eventEmitter.fireOnDataFetchError(context, te);
+                result.complete(resultBuilder.build());
+            } catch (Throwable t) {
+                Throwable throwable = unwrapThrowable(t);
+                eventEmitter.fireOnDataFetchError(context, throwable);
+                if (throwable instanceof GraphQLException) {
+                    partialResultHelper.appendPartialResult(resultBuilder, dfe, (GraphQLException) throwable);
+                    result.complete(resultBuilder.build());
+                } else {
+                    if (throwable instanceof Error) {
+                        parallelExecutor.fail((Error) throwable);
+                    }
+                    // Handled by graphql-java (and our exception handler) like it is when thrown
+                    result.completeExceptionally(throwable);
+                }
+            } finally {
+                SmallRyeContext.remove();
+                thread.setContextClassLoader(originalTccl);
+            }
+        }));
+        return result;
+    }
+
     @Override
     public <T> T invokeFailure(DataFetcherResult.Builder<Object> resultBuilder) {
         return (T) resultBuilder.build();
@@ -55,7 +122,7 @@ public class DefaultDataFetcher<K, T> extends AbstractDataFetcher<K, T> {
         final ClassLoader tccl = Thread.currentThread().getContextClassLoader();
         final SmallRyeContext context = ble.getContext();
 
-        ThreadContext threadContext = ThreadContext.builder().build();
+        ThreadContext threadContext = getThreadContext();
         try {
             SmallRyeContext.setContext(context);
             return threadContext
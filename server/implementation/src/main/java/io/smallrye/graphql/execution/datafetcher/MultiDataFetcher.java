@@ -0,0 +1,74 @@
+package io.smallrye.graphql.execution.datafetcher;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+import org.dataloader.BatchLoaderEnvironment;
+import org.reactivestreams.Publisher;
+
+import graphql.GraphQLContext;
+import graphql.execution.DataFetcherResult;
+import graphql.schema.DataFetchingEnvironment;
+import io.smallrye.graphql.SmallRyeGraphQLServerMessages;
+import io.smallrye.graphql.bootstrap.Config;
+import io.smallrye.graphql.execution.MappingPublisher;
+import io.smallrye.graphql.execution.context.SmallRyeContext;
+import io.smallrye.graphql.schema.model.Operation;
+import io.smallrye.graphql.transformation.AbstractDataFetcherException;
+
+/**
+ * Handle subscriptions with Multi (or any other reactive streams Publisher).
+ *
+ * graphql-java executes the selection of the subscription for every item the publisher emits.
+ * We only transform the items here, and we do not depend on Mutiny, as a Multi is a Publisher.
+ *
+ * @param <K>
+ * @param <T>
+ */
+public class MultiDataFetcher<K, T> extends AbstractDataFetcher<K, T> {
+
+    public MultiDataFetcher(Operation operation, Config config) {
+        super(operation, config);
+    }
+
+    @Override
+    protected <T> T invokeAndTransform(DataFetchingEnvironment dfe, DataFetcherResult.Builder<Object> resultBuilder,
+            Object[] transformedArguments) throws AbstractDataFetcherException, Exception {
+        SmallRyeContext context = ((GraphQLContext) dfe.getContext()).get("context");
+        try {
+            SmallRyeContext.setContext(context);
+            Publisher<Object> publisher = reflectionHelper.invoke(transformedArguments);
+            if (publisher != null) {
+                resultBuilder.data(new MappingPublisher<>(publisher, this::transformItem));
+            }
+            return (T) resultBuilder.build();
+        } catch (Exception e) {
+            throw (Exception) unwrapThrowable(e);
+        } finally {
+            SmallRyeContext.remove();
+        }
+    }
+
+    private Object transformItem(Object item) {
+        try {
+            return fieldHelper.transformResponse(item);
+        } catch (AbstractDataFetcherException ex) {
+            throw SmallRyeGraphQLServerMessages.msg.dataFetcherException(operation, ex);
+        }
+    }
+
+    @Override
+    protected <T> T invokeFailure(DataFetcherResult.Builder<Object> resultBuilder) {
+        return (T) resultBuilder.build();
+    }
+
+    @Override
+    public CompletionStage<List<T>> load(List<K> keys, BatchLoaderEnvironment ble) {
+        // A stream per batch does not make sense, Multi is only supported for subscriptions
+        CompletableFuture<List<T>> failed = new CompletableFuture<>();
+        failed.completeExceptionally(new UnsupportedOperationException(
+                "Batch loading is not supported for operation [" + operation.getName() + "] returning a stream"));
+        return failed;
+    }
+}
@@ -2,35 +2,64 @@ package io.smallrye.graphql.execution.datafetcher;
 
 import static io.smallrye.graphql.SmallRyeGraphQLServerLogging.log;
 
-import graphql.GraphQLContext;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Member;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+
+import graphql.GraphQLException;
 import graphql.schema.DataFetchingEnvironment;
-import io.smallrye.graphql.execution.context.SmallRyeContext;
 import io.smallrye.graphql.execution.datafetcher.helper.FieldHelper;
 import io.smallrye.graphql.schema.model.Field;
 import io.smallrye.graphql.transformation.AbstractDataFetcherException;
+import io.smallrye.graphql.transformation.Transformer;
 
 /**
  * Extending the default property data fetcher to intercept the result for some manipulation
  * 
+ * When the class of the property is known, the getter (or public field) is resolved once into a method handle,
+ * so we don't have to look it up by name for every value. For other values (or if the getter can't be accessed with
+ * a method handle), we fall back to the default property data fetcher.
+ * 
+ * No context is created for a property: no operation is invoked and no events are fired for it, so nothing would
+ * read it. The context of the operations is still created for every fetch.
+ * 
  * @author Phillip Kruger (phillip.kruger@redhat.com)
  */
 public class PropertyDataFetcher extends graphql.schema.PropertyDataFetcher {
 
+    private static final MethodType ACCESSOR_TYPE = MethodType.methodType(Object.class, Object.class);
+
     private final FieldHelper fieldHelper;
     private final Field field;
+    private final Class<?> ownerClass;
+    private final MethodHandle accessor;
 
     public PropertyDataFetcher(Field field) {
+        this(field, null);
+    }
+
+    /**
+     * @param field the field
+     * @param ownerClass the class that has the property, or null if not known
+     */
+    public PropertyDataFetcher(Field field, Class<?> ownerClass) {
         super(field.getPropertyName());
         this.field = field;
-        this.fieldHelper = new FieldHelper(field);
+        // Most fields are returned as is
+        this.fieldHelper = Transformer.shouldTransform(field) ? new FieldHelper(field) : null;
+        this.accessor = (ownerClass == null) ? null : createAccessor(ownerClass, field);
+        this.ownerClass = (accessor == null) ? null : ownerClass;
     }
 
     @Override
     public Object get(DataFetchingEnvironment dfe) {
-        GraphQLContext graphQLContext = dfe.getContext();
-        graphQLContext.put("context", ((SmallRyeContext) graphQLContext.get("context")).withDataFromFetcher(dfe, field));
-
-        Object resultFromMethodCall = super.get(dfe);
+        Object resultFromMethodCall = getProperty(dfe);
+        if (fieldHelper == null) {
+            return resultFromMethodCall;
+        }
         try {
             // See if we need to transform
             return fieldHelper.transformResponse(resultFromMethodCall);
@@ -39,4 +68,66 @@ public class PropertyDataFetcher extends graphql.schema.PropertyDataFetcher {
             return resultFromMethodCall;
         }
     }
+
+    public Field getField() {
+        return field;
+    }
+
+    private Object getProperty(DataFetchingEnvironment dfe) {
+        Object source = dfe.getSource();
+        if (accessor == null || !ownerClass.isInstance(source)) {
+            return super.get(dfe);
+        }
+        try {
+            return (Object) accessor.invokeExact(source);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable t) {
+            throw new GraphQLException(t);
+        }
+    }
+
+    /**
+     * The public getter (or field) of the property, as a method handle that takes the owner and returns the value
+     * 
+     * @param ownerClass the class that has the property
+     * @param field the field
+     * @return the method handle, or null if there is no public getter or field we can use
+     */
+    private static MethodHandle createAccessor(Class<?> ownerClass, Field field) {
+        String name = field.getMethodName();
+        if (name == null) {
+            return null;
+        }
+        try {
+            MethodHandle handle;
+            Method getter = findGetter(ownerClass, name);
+            if (getter != null) {
+                handle = MethodHandles.publicLookup().unreflect(getter);
+            } else {
+                java.lang.reflect.Field javaField = ownerClass.getField(name);
+                if (isStatic(javaField)) {
+                    return null;
+                }
+                handle = MethodHandles.publicLookup().unreflectGetter(javaField);
+            }
+            return handle.asType(ACCESSOR_TYPE);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            // Not public (or not found): leave it to the default property data fetcher
+            return null;
+        }
+    }
+
+    private static Method findGetter(Class<?> ownerClass, String name) {
+        try {
+            Method method = ownerClass.getMethod(name);
+            return (isStatic(method) || method.getReturnType() == void.class) ? null : method;
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+    }
+
+    private static boolean isStatic(Member member) {
+        return Modifier.isStatic(member.getModifiers());
+    }
 }
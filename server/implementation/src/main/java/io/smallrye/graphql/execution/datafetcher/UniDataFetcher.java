@@ -42,7 +42,7 @@ public class UniDataFetcher<K, T> extends AbstractDataFetcher<K, T> {
 
                         if (throwable != null) {
                             throwable = unwrapThrowable(throwable);
-                            eventEmitter.fireOnDataFetchError(dfe.getExecutionId().toString(), throwable);
+                            eventEmitter.fireOnDataFetchError(context, throwable);
                             if (throwable instanceof GraphQLException) {
                                 GraphQLException graphQLException = (GraphQLException) throwable;
                                 partialResultHelper.appendPartialResult(resultBuilder, dfe, graphQLException);
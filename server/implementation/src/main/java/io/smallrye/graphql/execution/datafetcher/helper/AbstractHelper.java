@@ -1,32 +1,45 @@
 package io.smallrye.graphql.execution.datafetcher.helper;
 
-import java.lang.reflect.Array;
-import java.util.Arrays;
-import java.util.Collection;
-import java.util.Optional;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
-import io.smallrye.graphql.execution.Classes;
-import io.smallrye.graphql.execution.datafetcher.CollectionCreator;
 import io.smallrye.graphql.schema.model.Field;
 import io.smallrye.graphql.schema.model.Wrapper;
 import io.smallrye.graphql.spi.ClassloadingService;
 import io.smallrye.graphql.transformation.AbstractDataFetcherException;
+import io.smallrye.graphql.transformation.Transformer;
 
 /**
  * Help with the fields when fetching data.
- * 
+ *
+ * The wrappers (arrays, collections and optionals) of a field are compiled once into a tree of {@link ConverterNode}s,
+ * so converting a value only walks the value, and not the model.
+ *
  * @author Phillip Kruger (phillip.kruger@redhat.com)
  */
 public abstract class AbstractHelper {
 
     protected final ClassloadingService classloadingService = ClassloadingService.get();
 
+    // The conversions per (scanned) field, so we create them (and the transformers) once, and not for every value
+    private final Map<Field, ConverterNode> transformations = new ConcurrentHashMap<>();
+    private final Map<Field, ConverterNode> mappings = new ConcurrentHashMap<>();
+
     protected AbstractHelper() {
     }
 
+    /**
+     * Create the conversion for this field now (when bootstrapping) rather than on the first value
+     *
+     * @param field the field as scanned
+     */
+    protected void prepare(Field field) {
+        getTransformation(field);
+    }
+
     /**
      * This gets called after the value has been recursively transformed.
-     * 
+     *
      * @param fieldValue the transformed value
      * @param field the field as created when scanning
      * @return the return value
@@ -35,16 +48,18 @@ public abstract class AbstractHelper {
 
     /**
      * This do the transform of a 'leaf' value
-     * 
+     *
      * @param argumentValue the value
      * @param field the field as scanned
+     * @param transformer the transformer of the field, or null if the field does not need transformation
      * @return transformed value
      */
-    abstract Object singleTransform(Object argumentValue, Field field) throws AbstractDataFetcherException;
+    abstract Object singleTransform(Object argumentValue, Field field, Transformer transformer)
+            throws AbstractDataFetcherException;
 
     /**
      * This does the mapping of a 'leaf' value
-     * 
+     *
      * @param argumentValue the value
      * @param field the field as scanned
      * @return mapped value
@@ -52,131 +67,58 @@ public abstract class AbstractHelper {
     abstract Object singleMapping(Object argumentValue, Field field) throws AbstractDataFetcherException;
 
     /**
-     * Here we actually do the transform. This method get called recursively in the case of arrays
-     * 
+     * @param field the field as scanned
+     * @param transformer the transformer of the field, or null if the field does not need transformation
+     * @return true if the transformation of a 'leaf' value of this field always returns the value as is
+     */
+    boolean isTransformIdentity(Field field, Transformer transformer) {
+        return false;
+    }
+
+    /**
+     * @param field the field as scanned
+     * @return true if the mapping of a 'leaf' value of this field always returns the value as is
+     */
+    boolean isMappingIdentity(Field field) {
+        return false;
+    }
+
+    /**
+     * @return true if a collection that is already of the correct type, and with elements that do not change,
+     *         can be used as is (rather than copied)
+     */
+    boolean canReuseCollections() {
+        return false;
+    }
+
+    /**
+     * Here we actually do the transform, also of the elements in arrays, collections and optionals
+     *
      * @param inputValue the value we got from graphql-java or response from the method call
      * @param field details about the expected type created while scanning the code
      * @return the argumentValue in the correct type and transformed
      */
     Object recursiveTransform(Object inputValue, Field field)
             throws AbstractDataFetcherException {
-
         if (inputValue == null) {
             return null;
         }
-
-        // First handle the array if this is an array
-        if (field.hasWrapper() && field.getWrapper().isArray()) {
-            return recursiveTransformArray(inputValue, field);
-        } else if (field.hasWrapper() && field.getWrapper().isCollection()) {
-            return recursiveTransformCollection(inputValue, field);
-        } else if (field.hasWrapper() && field.getWrapper().isOptional()) {
-            // Also handle optionals
-            return recursiveTransformOptional(inputValue, field);
-        } else {
-            // we need to transform before we make sure the type is correct
-            inputValue = singleTransform(inputValue, field);
-        }
-
-        // Recursive transformation done.
-        return afterRecursiveTransform(inputValue, field);
+        return getTransformation(field).convert(inputValue);
     }
 
     /**
-     * Here we actually do the mapping. This method get called recursively in the case of arrays
-     * 
+     * Here we actually do the mapping, also of the elements in arrays, collections and optionals
+     *
      * @param inputValue the value we got from graphql-java or response from the method call
      * @param field details about the expected type created while scanning the code
      * @return the argumentValue in the correct type and mapped
      */
     Object recursiveMapping(Object inputValue, Field field)
             throws AbstractDataFetcherException {
-
         if (inputValue == null) {
             return null;
         }
-
-        if (field.hasWrapper() && field.getWrapper().isArray()) {
-            return recursiveMappingArray(inputValue, field);
-        } else if (field.hasWrapper() && field.getWrapper().isCollection()) {
-            return recursiveMappingCollection(inputValue, field);
-        } else if (field.hasWrapper() && field.getWrapper().isOptional()) {
-            return recursiveMappingOptional(inputValue, field);
-        } else {
-            // we need to transform before we make sure the type is correct
-            inputValue = singleMapping(inputValue, field);
-        }
-
-        // Recursive transformation done.
-        return inputValue;
-    }
-
-    /**
-     * This just creates a new array and add values to it by calling the recursiveTransform method.
-     * This allows arrays of arrays and transformation inside arrays
-     * Even without transformation, we need to go from arrayList to Array,
-     * or arraylist of arraylist to array of array
-     * 
-     * @param array the array or list as from graphql-java,
-     * @param field the field as created while scanning
-     * @return an array with the transformed values in.
-     */
-    private Object recursiveTransformArray(Object array, Field field) throws AbstractDataFetcherException {
-        if (Classes.isCollection(array)) {
-            array = ((Collection) array).toArray();
-        }
-
-        Class classInCollection = getArrayType(field);
-
-        //Skip transform if not needed
-        if (array.getClass().getComponentType().equals(classInCollection)) {
-            return array;
-        }
-
-        int length = Array.getLength(array);
-        Object targetArray = Array.newInstance(classInCollection, length);
-
-        for (int i = 0; i < length; i++) {
-            Field fieldInCollection = getFieldInField(field);
-            Object element = Array.get(array, i);
-            Object targetElement = recursiveTransform(element, fieldInCollection);
-            Array.set(targetArray, i, targetElement);
-        }
-
-        return targetArray;
-    }
-
-    /**
-     * This just creates a new array and add values to it by calling the recursiveMapping method.
-     * This allows arrays of arrays and mapping inside arrays
-     * 
-     * @param array the array or list as from graphql-java,
-     * @param field the field as created while scanning
-     * @return an array with the mapped values in.
-     */
-    private Object recursiveMappingArray(Object array, Field field) throws AbstractDataFetcherException {
-        if (Classes.isCollection(array)) {
-            array = ((Collection) array).toArray();
-        }
-
-        Class classInCollection = getArrayType(field);
-
-        //Skip mapping if not needed
-        if (array.getClass().getComponentType().equals(classInCollection)) {
-            return array;
-        }
-
-        int length = Array.getLength(array);
-        Object targetArray = Array.newInstance(classInCollection, length);
-
-        for (int i = 0; i < length; i++) {
-            Field fieldInCollection = getFieldInField(field);
-            Object element = Array.get(array, i);
-            Object targetElement = recursiveMapping(element, fieldInCollection);
-            Array.set(targetArray, i, targetElement);
-        }
-
-        return targetArray;
+        return getMapping(field).convert(inputValue);
     }
 
     protected Class<?> getArrayType(Field field) {
@@ -185,103 +127,74 @@ public abstract class AbstractHelper {
         return classInCollection;
     }
 
-    /**
-     * This just creates a new correct type collection and add values to it by calling the recursiveTransform method.
-     * This allows collections of collections and transformation inside collections
-     * Even without transformation, we need to go from arrayList to the correct collection type,
-     * or arraylist of arraylist to collection of collection
-     * 
-     * @param argumentValue the list as from graphql-java (always an arraylist)
-     * @param field the field as created while scanning
-     * @return a collection with the transformed values in.
-     */
-    private Object recursiveTransformCollection(Object argumentValue, Field field) throws AbstractDataFetcherException {
-        Collection givenCollection = getGivenCollection(argumentValue);
-
-        String collectionClassName = field.getWrapper().getWrapperClassName();
-
-        Collection convertedCollection = CollectionCreator.newCollection(collectionClassName);
-
-        for (Object objectInGivenCollection : givenCollection) {
-            Field fieldInCollection = getFieldInField(field);
-            Object objectInCollection = recursiveTransform(objectInGivenCollection,
-                    fieldInCollection);
-            convertedCollection.add(objectInCollection);
-        }
-
-        return convertedCollection;
+    private ConverterNode getTransformation(Field field) {
+        return transformations.computeIfAbsent(field, f -> {
+            // The fields in the field (for collections) have the same type and format, so they share the transformer
+            Transformer transformer = Transformer.shouldTransform(f) ? Transformer.transformer(f) : null;
+            return compile(f, leaf -> {
+                if (isTransformIdentity(leaf, transformer)) {
+                    return ConverterNode.IDENTITY;
+                }
+                return new ConverterNode.Leaf(
+                        value -> afterRecursiveTransform(singleTransform(value, leaf, transformer), leaf));
+            });
+        });
     }
 
-    /**
-     * This just creates a new correct type collection and add values to it by calling the recursiveMapping method.
-     * This allows collections of collections and mapping inside collections
-     * 
-     * @param argumentValue the list as from graphql-java (always an arraylist)
-     * @param field the field as created while scanning
-     * @return a collection with the mapped values in.
-     */
-    private Object recursiveMappingCollection(Object argumentValue, Field field) throws AbstractDataFetcherException {
-        Collection givenCollection = getGivenCollection(argumentValue);
-        String collectionClassName = field.getWrapper().getWrapperClassName();
-        Collection convertedCollection = CollectionCreator.newCollection(collectionClassName);
-
-        for (Object objectInGivenCollection : givenCollection) {
-            Field fieldInCollection = getFieldInField(field);
-            Object objectInCollection = recursiveMapping(objectInGivenCollection,
-                    fieldInCollection);
-            convertedCollection.add(objectInCollection);
-        }
-
-        return convertedCollection;
+    private ConverterNode getMapping(Field field) {
+        return mappings.computeIfAbsent(field, f -> compile(f, leaf -> {
+            if (isMappingIdentity(leaf)) {
+                return ConverterNode.IDENTITY;
+            }
+            return new ConverterNode.Leaf(value -> singleMapping(value, leaf));
+        }));
     }
 
     /**
-     * This is not yet specified by MicroProfile GraphQL, but we support it by also allowing transformation the optional
-     * element.
-     * 
-     * @param argumentValue the value as from graphql-java
-     * @param field the graphql-field
-     * @return a optional with the transformed value in.
+     * Create the node for this level of the field, and (recursively) for the levels in it
+     *
+     * @param field the field as created while scanning (or for a level in it)
+     * @param leafCompiler creates the node for the value itself
+     * @return the node
      */
-    private Optional<Object> recursiveTransformOptional(Object argumentValue, Field field) throws AbstractDataFetcherException {
-        // Check the type and maybe apply transformation
-        if (argumentValue == null || !((Optional) argumentValue).isPresent()) {
-            return Optional.empty();
-        } else {
-            Optional optional = (Optional) argumentValue;
-            Object o = optional.get();
-            Field f = getFieldInField(field);
-            return Optional.of(recursiveTransform(o, f));
+    private ConverterNode compile(Field field, LeafCompiler leafCompiler) {
+        if (field.hasWrapper() && field.getWrapper().isArray()) {
+            ConverterNode element = compile(getFieldInField(field), leafCompiler);
+            return new ConverterNode.ArrayNode(element, getComponentType(field, element));
+        } else if (field.hasWrapper() && field.getWrapper().isCollection()) {
+            ConverterNode element = compile(getFieldInField(field), leafCompiler);
+            Class<?> collectionClass = classloadingService.loadClass(field.getWrapper().getWrapperClassName());
+            return new ConverterNode.CollectionNode(element, collectionClass, canReuseCollections());
+        } else if (field.hasWrapper() && field.getWrapper().isOptional()) {
+            // This is not yet specified by MicroProfile GraphQL, but we support it by also allowing transformation
+            // (and mapping) of the optional element.
+            return new ConverterNode.OptionalNode(compile(getFieldInField(field), leafCompiler));
         }
-
+        return leafCompiler.compile(field);
     }
 
-    /**
-     * Add support for mapping an optional element.
-     * 
-     * @param argumentValue the value as from graphql-java
-     * @param field the graphql-field
-     * @return a optional with the mapped value in.
-     */
-    private Optional<Object> recursiveMappingOptional(Object argumentValue, Field field) throws AbstractDataFetcherException {
-        // Check the type and maybe apply transformation
-        if (argumentValue == null || !((Optional) argumentValue).isPresent()) {
-            return Optional.empty();
-        } else {
-            Optional optional = (Optional) argumentValue;
-            Object o = optional.get();
-            Field f = getFieldInField(field);
-            return Optional.of(recursiveMapping(o, f));
+    private Class<?> getComponentType(Field field, ConverterNode element) {
+        if (element instanceof ConverterNode.ArrayNode) {
+            return ((ConverterNode.ArrayNode) element).getArrayClass();
+        }
+        Wrapper elementWrapper = field.getWrapper().getWrapper();
+        if (elementWrapper != null && (elementWrapper.isCollection() || elementWrapper.isOptional())) {
+            return classloadingService.loadClass(elementWrapper.getWrapperClassName());
         }
+        return getArrayType(field);
+    }
 
+    @FunctionalInterface
+    private interface LeafCompiler {
+        ConverterNode compile(Field field);
     }
 
     /**
      * Here we create an field from a field, but reducing the collection depth.
      * This will happen until we get to the field in the collection.
-     * 
+     *
      * This 'clone' an array, but update the array information
-     * 
+     *
      * @param owner the owner field
      * @return the new field
      */
@@ -302,7 +215,6 @@ public abstract class AbstractHelper {
         child.setDefaultValue(owner.getDefaultValue());
 
         // wrapper
-        Wrapper wrapper = owner.getWrapper();
         if (owner.hasWrapper()) {
             Wrapper ownerWrapper = owner.getWrapper();
             if (ownerWrapper.getWrapper() != null) {
@@ -314,13 +226,4 @@ public abstract class AbstractHelper {
         return child;
 
     }
-
-    private <T> Collection getGivenCollection(Object argumentValue) {
-        if (Classes.isCollection(argumentValue)) {
-            return (Collection) argumentValue;
-        } else {
-            return Arrays.asList((T[]) argumentValue);
-        }
-    }
-
 }
@@ -1,15 +1,17 @@
 package io.smallrye.graphql.execution.datafetcher.helper;
 
 import static io.smallrye.graphql.SmallRyeGraphQLServerLogging.log;
-import static io.smallrye.graphql.transformation.Transformer.shouldTransform;
 
 import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
-import java.util.LinkedList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import javax.json.bind.Jsonb;
 import javax.json.bind.JsonbException;
@@ -17,6 +19,7 @@ import javax.json.bind.JsonbException;
 import graphql.schema.DataFetchingEnvironment;
 import graphql.schema.GraphQLScalarType;
 import io.smallrye.graphql.execution.Classes;
+import io.smallrye.graphql.json.InputBinder;
 import io.smallrye.graphql.json.InputFieldsInfo;
 import io.smallrye.graphql.json.JsonBCreator;
 import io.smallrye.graphql.scalar.GraphQLScalarTypes;
@@ -38,6 +41,9 @@ import io.smallrye.graphql.transformation.Transformer;
  */
 public class ArgumentHelper extends AbstractHelper {
 
+    private static final Set<String> IDENTITY_SCALARS = new HashSet<>(Arrays.asList(
+            String.class.getName(), Boolean.class.getName()));
+
     private final List<Argument> arguments;
 
     /**
@@ -48,6 +54,9 @@ public class ArgumentHelper extends AbstractHelper {
      */
     public ArgumentHelper(List<Argument> arguments) {
         this.arguments = arguments;
+        for (Argument argument : arguments) {
+            prepare(argument);
+        }
     }
 
     /**
@@ -65,7 +74,7 @@ public class ArgumentHelper extends AbstractHelper {
     }
 
     public Object[] getArguments(DataFetchingEnvironment dfe, boolean excludeSource) throws AbstractDataFetcherException {
-        List<Object> argumentObjects = new LinkedList<>();
+        List<Object> argumentObjects = new ArrayList<>(arguments.size());
         for (Argument argument : arguments) {
             if (!argument.isSourceArgument() || !excludeSource) {
                 Object argumentValue = getArgument(dfe, argument);
@@ -120,14 +129,15 @@ public class ArgumentHelper extends AbstractHelper {
      *
      * @param argumentValue the value to transform
      * @param field the field as created while scanning
+     * @param transformer the transformer of the field, or null if the field does not need transformation
      * @return transformed value
      */
     @Override
-    Object singleTransform(Object argumentValue, Field field) throws AbstractDataFetcherException {
-        if (!shouldTransform(field)) {
+    Object singleTransform(Object argumentValue, Field field, Transformer transformer) throws AbstractDataFetcherException {
+        if (transformer == null) {
             return argumentValue;
         } else {
-            return Transformer.in(field, argumentValue);
+            return Transformer.in(field, transformer, argumentValue);
         }
     }
 
@@ -184,6 +194,24 @@ public class ArgumentHelper extends AbstractHelper {
         return argumentValue;
     }
 
+    /**
+     * graphql-java already gives us these scalars in the type of the field.
+     * Not numbers though, as those can come in as another Number (like BigDecimal from variables).
+     */
+    @Override
+    boolean isTransformIdentity(Field field, Transformer transformer) {
+        String className = field.getReference().getClassName();
+        return transformer == null
+                && field.getReference().getType().equals(ReferenceType.SCALAR)
+                && className.equals(field.getReference().getGraphQlClassName())
+                && IDENTITY_SCALARS.contains(className);
+    }
+
+    @Override
+    boolean isMappingIdentity(Field field) {
+        return !shouldApplyMapping(field);
+    }
+
     private boolean shouldApplyMapping(Field field) {
         return field.getReference().hasMapping()
                 && !field.getReference().getMapping().getCreate().equals(Mapping.Create.NONE) ||
@@ -255,7 +283,8 @@ public class ArgumentHelper extends AbstractHelper {
     /**
      * If we got a map from graphql-java, this is a complex pojo input object
      *
-     * We need to create a object from this using JsonB.
+     * Where possible, we create the object straight from the map, applying the transformations and
+     * mappings as we set the properties. Else we need to create a object from this using JsonB.
      * We also need to handle transformation of fields that is on this complex type.
      *
      * The transformation with JsonB annotation will happen when binding, and the transformation
@@ -268,6 +297,15 @@ public class ArgumentHelper extends AbstractHelper {
     private Object correctComplexObjectFromMap(Map m, Field field) throws AbstractDataFetcherException {
         String className = field.getReference().getClassName();
 
+        InputBinder inputBinder = InputBinder.getInputBinder(className);
+        if (inputBinder != null) {
+            try {
+                return inputBinder.bind(m, field, this::toPropertyValue);
+            } catch (InputBinder.NotBindableException ex) {
+                // Some value needs JsonB, so bind the whole object with JsonB
+            }
+        }
+
         // Let's see if there are any fields that needs transformation
         if (InputFieldsInfo.hasTransformationFields(className)) {
             Map<String, Field> transformationFields = InputFieldsInfo.getTransformationFields(className);
@@ -303,6 +341,27 @@ public class ArgumentHelper extends AbstractHelper {
         return correctComplexObjectFromJsonString(jsonString, field);
     }
 
+    /**
+     * Get the value of an input field in the type of the property, like JsonB would do.
+     *
+     * @param value the value in the map from graphql-java
+     * @param property the property we set the value on
+     * @return the value to set
+     */
+    private Object toPropertyValue(Object value, InputBinder.Property property) throws AbstractDataFetcherException {
+        Field field = property.getField();
+        if (field.hasWrapper() && field.getWrapper().isOptional()) {
+            value = Optional.ofNullable(value);
+        }
+        if (property.hasTransformation() || !property.hasMapping()) {
+            value = recursiveTransform(value, field);
+        }
+        if (property.hasMapping()) {
+            value = recursiveMapping(value, field);
+        }
+        return value;
+    }
+
     /**
      * This is used once we have a valid jsonString, either from above or from complex default value from graphql-java
      *
@@ -26,6 +26,7 @@ public class BatchLoaderHelper {
 
         List<Object> keyContextsList = ble.getKeyContextsList();
         if (keyContextsList != null && !keyContextsList.isEmpty()) {
+            // All keys of one call were fetched with the same arguments
             Object[] otherArguments = (Object[]) keyContextsList.get(0);
             arguments.addAll(Arrays.asList(otherArguments));
         }
@@ -0,0 +1,303 @@
+package io.smallrye.graphql.execution.datafetcher.helper;
+
+import java.lang.reflect.Array;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.RandomAccess;
+
+import io.smallrye.graphql.execution.datafetcher.CollectionCreator;
+import io.smallrye.graphql.transformation.AbstractDataFetcherException;
+
+/**
+ * One level of the conversion of a value. A field with wrappers (like {@code List<Set<LocalDate>[]>}) becomes a tree
+ * of nodes, one per wrapper, with the conversion of the actual value as the leaf.
+ *
+ * The tree is created once per field, so when converting we do not look at the wrappers or load classes anymore.
+ * Levels that do not change the value are skipped where possible.
+ */
+abstract class ConverterNode {
+
+    /**
+     * @param value the (non null) value
+     * @return the converted value
+     */
+    abstract Object convert(Object value) throws AbstractDataFetcherException;
+
+    /**
+     * @return true if this node always returns the value as is
+     */
+    boolean isIdentity() {
+        return false;
+    }
+
+    /**
+     * Converts a value from or to GraphQL
+     */
+    @FunctionalInterface
+    interface ValueConverter {
+        Object convert(Object value) throws AbstractDataFetcherException;
+    }
+
+    static final ConverterNode IDENTITY = new ConverterNode() {
+        @Override
+        Object convert(Object value) {
+            return value;
+        }
+
+        @Override
+        boolean isIdentity() {
+            return true;
+        }
+    };
+
+    /**
+     * The value itself (not a collection, array or optional)
+     */
+    static class Leaf extends ConverterNode {
+        private final ValueConverter converter;
+
+        Leaf(ValueConverter converter) {
+            this.converter = converter;
+        }
+
+        @Override
+        Object convert(Object value) throws AbstractDataFetcherException {
+            return converter.convert(value);
+        }
+    }
+
+    /**
+     * An optional, that we get (or create) as an Optional
+     */
+    static class OptionalNode extends ConverterNode {
+        private final ConverterNode element;
+
+        OptionalNode(ConverterNode element) {
+            this.element = element;
+        }
+
+        @Override
+        Object convert(Object value) throws AbstractDataFetcherException {
+            Optional<?> optional = (Optional<?>) value;
+            if (!optional.isPresent()) {
+                return Optional.empty();
+            }
+            if (element.isIdentity()) {
+                return optional;
+            }
+            return Optional.of(element.convert(optional.get()));
+        }
+    }
+
+    /**
+     * A collection, that we get as a collection or an array
+     */
+    static class CollectionNode extends ConverterNode {
+        private final ConverterNode element;
+        private final Class<?> collectionClass;
+        private final CollectionCreator.Factory factory;
+        private final boolean reuse;
+
+        /**
+         * @param element the node for the elements
+         * @param collectionClass the type of collection to create
+         * @param reuse if a collection of this type can be returned as is, when the elements do not change
+         */
+        CollectionNode(ConverterNode element, Class<?> collectionClass, boolean reuse) {
+            this.element = element;
+            this.collectionClass = collectionClass;
+            this.factory = CollectionCreator.getFactory(collectionClass);
+            this.reuse = reuse && element.isIdentity();
+        }
+
+        @Override
+        Object convert(Object value) throws AbstractDataFetcherException {
+            if (reuse && collectionClass.isInstance(value)) {
+                return value;
+            }
+            Collection<Object> converted;
+            if (value instanceof List && value instanceof RandomAccess) {
+                List<?> list = (List<?>) value;
+                int size = list.size();
+                converted = factory.create(size);
+                for (int i = 0; i < size; i++) {
+                    converted.add(convertElement(element, list.get(i)));
+                }
+            } else if (value instanceof Collection) {
+                Collection<?> collection = (Collection<?>) value;
+                converted = factory.create(collection.size());
+                for (Object o : collection) {
+                    converted.add(convertElement(element, o));
+                }
+            } else {
+                int length = Array.getLength(value);
+                converted = factory.create(length);
+                for (int i = 0; i < length; i++) {
+                    converted.add(convertElement(element, Array.get(value, i)));
+                }
+            }
+            return factory.complete(converted);
+        }
+    }
+
+    /**
+     * An array, that we get as an array or a collection.
+     * Arrays of int, long and double are created without boxing every element through reflection.
+     */
+    static class ArrayNode extends ConverterNode {
+        private final ConverterNode element;
+        private final Class<?> componentType;
+
+        ArrayNode(ConverterNode element, Class<?> componentType) {
+            this.element = element;
+            this.componentType = componentType;
+        }
+
+        Class<?> getArrayClass() {
+            return Array.newInstance(componentType, 0).getClass();
+        }
+
+        @Override
+        Object convert(Object value) throws AbstractDataFetcherException {
+            if (value.getClass().isArray() && value.getClass().getComponentType().equals(componentType)) {
+                // Already the correct type
+                return value;
+            }
+            Elements elements = Elements.of(value);
+            if (componentType == int.class) {
+                int[] array = new int[elements.size()];
+                for (int i = 0; i < array.length; i++) {
+                    array[i] = ((Number) convertElement(element, elements.next())).intValue();
+                }
+                return array;
+            } else if (componentType == long.class) {
+                long[] array = new long[elements.size()];
+                for (int i = 0; i < array.length; i++) {
+                    array[i] = ((Number) convertElement(element, elements.next())).longValue();
+                }
+                return array;
+            } else if (componentType == double.class) {
+                double[] array = new double[elements.size()];
+                for (int i = 0; i < array.length; i++) {
+                    array[i] = ((Number) convertElement(element, elements.next())).doubleValue();
+                }
+                return array;
+            } else if (componentType.isPrimitive()) {
+                Object array = Array.newInstance(componentType, elements.size());
+                for (int i = 0; i < elements.size(); i++) {
+                    Array.set(array, i, convertElement(element, elements.next()));
+                }
+                return array;
+            } else {
+                Object[] array = (Object[]) Array.newInstance(componentType, elements.size());
+                for (int i = 0; i < array.length; i++) {
+                    array[i] = convertElement(element, elements.next());
+                }
+                return array;
+            }
+        }
+    }
+
+    private static Object convertElement(ConverterNode node, Object value) throws AbstractDataFetcherException {
+        if (value == null) {
+            return null;
+        }
+        return node.convert(value);
+    }
+
+    /**
+     * Reads the elements of a collection or any array in order
+     */
+    private abstract static class Elements {
+        abstract int size();
+
+        abstract Object next();
+
+        static Elements of(Object value) {
+            if (value instanceof List && value instanceof RandomAccess) {
+                List<?> list = (List<?>) value;
+                return new Indexed(list.size()) {
+                    @Override
+                    Object get(int i) {
+                        return list.get(i);
+                    }
+                };
+            } else if (value instanceof Collection) {
+                Collection<?> collection = (Collection<?>) value;
+                Iterator<?> iterator = collection.iterator();
+                return new Elements() {
+                    @Override
+                    int size() {
+                        return collection.size();
+                    }
+
+                    @Override
+                    Object next() {
+                        return iterator.next();
+                    }
+                };
+            } else if (value instanceof Object[]) {
+                Object[] array = (Object[]) value;
+                return new Indexed(array.length) {
+                    @Override
+                    Object get(int i) {
+                        return array[i];
+                    }
+                };
+            } else if (value instanceof int[]) {
+                int[] array = (int[]) value;
+                return new Indexed(array.length) {
+                    @Override
+                    Object get(int i) {
+                        return array[i];
+                    }
+                };
+            } else if (value instanceof long[]) {
+                long[] array = (long[]) value;
+                return new Indexed(array.length) {
+                    @Override
+                    Object get(int i) {
+                        return array[i];
+                    }
+                };
+            } else if (value instanceof double[]) {
+                double[] array = (double[]) value;
+                return new Indexed(array.length) {
+                    @Override
+                    Object get(int i) {
+                        return array[i];
+                    }
+                };
+            }
+            return new Indexed(Array.getLength(value)) {
+                @Override
+                Object get(int i) {
+                    return Array.get(value, i);
+                }
+            };
+        }
+    }
+
+    private abstract static class Indexed extends Elements {
+        private final int size;
+        private int index = 0;
+
+        Indexed(int size) {
+            this.size = size;
+        }
+
+        abstract Object get(int i);
+
+        @Override
+        int size() {
+            return size;
+        }
+
+        @Override
+        Object next() {
+            return get(index++);
+        }
+    }
+}
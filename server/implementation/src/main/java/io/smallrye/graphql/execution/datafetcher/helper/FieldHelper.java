@@ -1,7 +1,5 @@
 package io.smallrye.graphql.execution.datafetcher.helper;
 
-import static io.smallrye.graphql.transformation.Transformer.shouldTransform;
-
 import io.smallrye.graphql.schema.model.Field;
 import io.smallrye.graphql.transformation.AbstractDataFetcherException;
 import io.smallrye.graphql.transformation.Transformer;
@@ -25,6 +23,7 @@ public class FieldHelper extends AbstractHelper {
      */
     public FieldHelper(Field field) {
         this.field = field;
+        prepare(field);
     }
 
     public Object transformResponse(Object argumentValue)
@@ -38,14 +37,15 @@ public class FieldHelper extends AbstractHelper {
      * 
      * @param argumentValue the value to transform
      * @param field the field as created while scanning
+     * @param transformer the transformer of the field, or null if the field does not need transformation
      * @return transformed value
      */
     @Override
-    Object singleTransform(Object argumentValue, Field field) throws AbstractDataFetcherException {
-        if (!shouldTransform(field)) {
+    Object singleTransform(Object argumentValue, Field field, Transformer transformer) throws AbstractDataFetcherException {
+        if (transformer == null) {
             return argumentValue;
         } else {
-            return Transformer.out(field, argumentValue);
+            return Transformer.out(field, transformer, argumentValue);
         }
     }
 
@@ -61,6 +61,24 @@ public class FieldHelper extends AbstractHelper {
         return argumentValue;
     }
 
+    @Override
+    boolean isTransformIdentity(Field field, Transformer transformer) {
+        return transformer == null;
+    }
+
+    @Override
+    boolean isMappingIdentity(Field field) {
+        return true;
+    }
+
+    /**
+     * graphql-java only reads the collection, so we do not have to copy it
+     */
+    @Override
+    boolean canReuseCollections() {
+        return true;
+    }
+
     @Override
     protected Object afterRecursiveTransform(Object fieldValue, Field field) {
         return fieldValue;
@@ -0,0 +1,36 @@
+package io.smallrye.graphql.execution.datafetcher.helper;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+
+/**
+ * Invoke the operation using a method handle.
+ *
+ * The handle is adapted to a single (Object, Object[])Object shape, so we can use invokeExact
+ * and the JIT can inline through to the actual method.
+ */
+public class MethodHandleInvoker implements OperationInvoker {
+
+    private static final MethodType INVOKER_TYPE = MethodType.methodType(Object.class, Object.class, Object[].class);
+
+    private final MethodHandle methodHandle;
+
+    public MethodHandleInvoker(Method method) throws IllegalAccessException {
+        MethodHandle handle = MethodHandles.publicLookup().unreflect(method);
+        if (Modifier.isStatic(method.getModifiers())) {
+            // There is no instance to pass, but keep the same shape
+            handle = MethodHandles.dropArguments(handle, 0, Object.class);
+        }
+        this.methodHandle = handle
+                .asSpreader(Object[].class, method.getParameterCount())
+                .asType(INVOKER_TYPE);
+    }
+
+    @Override
+    public Object invoke(Object operationInstance, Object[] arguments) throws Throwable {
+        return (Object) methodHandle.invokeExact(operationInstance, arguments);
+    }
+}
@@ -0,0 +1,38 @@
+package io.smallrye.graphql.execution.datafetcher.helper;
+
+import static io.smallrye.graphql.SmallRyeGraphQLServerLogging.log;
+
+import java.lang.reflect.Method;
+
+import io.smallrye.graphql.bootstrap.Config;
+
+/**
+ * Invokes the method behind an operation.
+ *
+ * The invoker is created once per operation when we bootstrap, so all the lookup work happens up front.
+ * The method's own exceptions are thrown as is (not wrapped).
+ */
+public interface OperationInvoker {
+
+    Object invoke(Object operationInstance, Object[] arguments) throws Throwable;
+
+    /**
+     * Create the invoker as configured. If we can not create a method handle, we fall back to reflection.
+     *
+     * @param method the method to invoke
+     * @param config the config, can be null
+     * @return the invoker
+     */
+    static OperationInvoker create(Method method, Config config) {
+        String invoker = config == null ? Config.OPERATION_INVOKER_DEFAULT : config.getOperationInvoker();
+        if (Config.OPERATION_INVOKER_REFLECTION.equals(invoker)) {
+            return new ReflectionInvoker(method);
+        }
+        try {
+            return new MethodHandleInvoker(method);
+        } catch (IllegalAccessException | RuntimeException ex) {
+            log.usingReflectionInvoker(method.toString(), ex);
+            return new ReflectionInvoker(method);
+        }
+    }
+}
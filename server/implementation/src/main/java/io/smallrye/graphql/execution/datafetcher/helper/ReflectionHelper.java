@@ -2,19 +2,15 @@ package io.smallrye.graphql.execution.datafetcher.helper;
 
 import static io.smallrye.graphql.SmallRyeGraphQLServerMessages.msg;
 
-import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.security.AccessController;
 import java.security.PrivilegedActionException;
 import java.security.PrivilegedExceptionAction;
-import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.LinkedList;
 import java.util.List;
 
-import org.eclipse.microprofile.graphql.GraphQLException;
-
 import io.smallrye.graphql.api.Context;
+import io.smallrye.graphql.bootstrap.Config;
 import io.smallrye.graphql.execution.context.SmallRyeContext;
 import io.smallrye.graphql.execution.event.EventEmitter;
 import io.smallrye.graphql.execution.event.InvokeInfo;
@@ -37,13 +33,19 @@ public class ReflectionHelper {
     private final EventEmitter eventEmitter;
     private final Class<?> operationClass;
     private final Method method;
+    private final OperationInvoker operationInvoker;
     private int injectContextAt = -1;
 
     public ReflectionHelper(Operation operation, EventEmitter eventEmitter) {
+        this(operation, eventEmitter, null);
+    }
+
+    public ReflectionHelper(Operation operation, EventEmitter eventEmitter, Config config) {
         this.operation = operation;
         this.eventEmitter = eventEmitter;
         this.operationClass = classloadingService.loadClass(operation.getClassName());
         this.method = lookupMethod(operationClass, operation);
+        this.operationInvoker = OperationInvoker.create(method, config);
     }
 
     public <T> T invokePrivileged(Object... arguments) {
@@ -52,21 +54,23 @@ public class ReflectionHelper {
     }
 
     public <T> T invokePrivileged(final ClassLoader classLoader, Object... arguments) {
+        if (System.getSecurityManager() == null) {
+            // Nothing to elevate, so no need to pay for doPrivileged
+            try {
+                return invokeWithClassLoader(classLoader, arguments);
+            } catch (RuntimeException e) {
+                throw e;
+            } catch (Exception e) {
+                throw new RuntimeException(e);
+            }
+        }
 
         try {
             return (T) AccessController
                     .doPrivileged(new PrivilegedExceptionAction<Object>() {
                         @Override
                         public Object run() throws Exception {
-                            ClassLoader originalTccl = Thread.currentThread()
-                                    .getContextClassLoader();
-                            Thread.currentThread().setContextClassLoader(classLoader);
-
-                            try {
-                                return invoke(arguments);
-                            } finally {
-                                Thread.currentThread().setContextClassLoader(originalTccl);
-                            }
+                            return invokeWithClassLoader(classLoader, arguments);
                         }
                     });
         } catch (PrivilegedActionException e) {
@@ -74,27 +78,37 @@ public class ReflectionHelper {
         }
     }
 
+    private <T> T invokeWithClassLoader(final ClassLoader classLoader, Object... arguments) throws Exception {
+        Thread currentThread = Thread.currentThread();
+        ClassLoader originalTccl = currentThread.getContextClassLoader();
+        if (originalTccl == classLoader) {
+            return invoke(arguments);
+        }
+
+        currentThread.setContextClassLoader(classLoader);
+        try {
+            return invoke(arguments);
+        } finally {
+            currentThread.setContextClassLoader(originalTccl);
+        }
+    }
+
     public <T> T invoke(Object... arguments) throws Exception {
+        Object operationInstance = lookupService.getInstance(operationClass);
+        InvokeInfo invokeInfo = new InvokeInfo(operationInstance, method, arguments);
         try {
-            Object operationInstance = lookupService.getInstance(operationClass);
-            eventEmitter.fireBeforeMethodInvoke(new InvokeInfo(operationInstance, method, arguments));
+            eventEmitter.fireBeforeMethodInvoke(invokeInfo);
             if (this.injectContextAt > -1) {
-                arguments = injectContext(arguments);
-            }
-            return (T) this.method.invoke(operationInstance, arguments);
-        } catch (InvocationTargetException ex) {
-            //Invoked method has thrown something, unwrap
-            Throwable throwable = ex.getCause();
-
-            if (throwable instanceof Error) {
-                throw (Error) throwable;
-            } else if (throwable instanceof GraphQLException) {
-                throw (GraphQLException) throwable;
-            } else if (throwable instanceof Exception) {
-                throw (Exception) throwable;
-            } else {
-                throw msg.dataFetcherException(operation, throwable);
+                // The arguments array is created per call, so we can set the context in place
+                arguments[injectContextAt] = SmallRyeContext.getContext();
             }
+            return (T) operationInvoker.invoke(operationInstance, arguments);
+        } catch (Error | Exception e) {
+            throw e;
+        } catch (Throwable throwable) {
+            throw msg.dataFetcherException(operation, throwable);
+        } finally {
+            eventEmitter.fireAfterMethodInvoke(invokeInfo);
         }
     }
 
@@ -128,10 +142,4 @@ public class ReflectionHelper {
         }
         return null;
     }
-
-    private Object[] injectContext(Object[] arguments) {
-        ArrayList list = new ArrayList(Arrays.asList(arguments));
-        list.set(injectContextAt, SmallRyeContext.getContext());
-        return list.toArray();
-    }
 }
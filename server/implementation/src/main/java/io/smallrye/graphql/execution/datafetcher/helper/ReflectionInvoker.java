@@ -0,0 +1,26 @@
+package io.smallrye.graphql.execution.datafetcher.helper;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+
+/**
+ * Invoke the operation using plain reflection
+ */
+public class ReflectionInvoker implements OperationInvoker {
+
+    private final Method method;
+
+    public ReflectionInvoker(Method method) {
+        this.method = method;
+    }
+
+    @Override
+    public Object invoke(Object operationInstance, Object[] arguments) throws Throwable {
+        try {
+            return method.invoke(operationInstance, arguments);
+        } catch (InvocationTargetException ex) {
+            //Invoked method has thrown something, unwrap
+            throw ex.getCause();
+        }
+    }
+}
@@ -6,6 +6,8 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.ServiceLoader;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 
 import org.jboss.logging.Logger;
 
@@ -88,9 +90,15 @@ public class EventEmitter {
         }
     }
 
-    public void fireOnDataFetchError(String executionId, Throwable t) {
+    public void fireAfterMethodInvoke(InvokeInfo invokeInfo) {
         for (EventingService extensionService : enabledServices) {
-            extensionService.errorDataFetch(executionId, t);
+            extensionService.afterInvoke(invokeInfo);
+        }
+    }
+
+    public void fireOnDataFetchError(Context context, Throwable t) {
+        for (EventingService extensionService : enabledServices) {
+            extensionService.errorDataFetch(context, t);
         }
     }
 
@@ -100,6 +108,33 @@ public class EventEmitter {
         }
     }
 
+    /**
+     * This fires the after data fetch event when an asynchronous result is done, not when it's returned.
+     * 
+     * @param context the context of the data fetch
+     * @param result the asynchronous result
+     * @return a stage that completes like the result, after the event
+     */
+    public <T> CompletionStage<T> fireAfterDataFetch(Context context, CompletionStage<T> result) {
+        if (enabledServices.isEmpty()) {
+            return result;
+        }
+        CompletableFuture<T> done = new CompletableFuture<>();
+        result.whenComplete((value, throwable) -> {
+            try {
+                fireAfterDataFetch(context);
+            } finally {
+                // Not a dependent stage, so the exception is passed on as it is, and not wrapped
+                if (throwable != null) {
+                    done.completeExceptionally(throwable);
+                } else {
+                    done.complete(value);
+                }
+            }
+        });
+        return done;
+    }
+
     /**
      * This gets fired just before we build the GraphQL object
      * 
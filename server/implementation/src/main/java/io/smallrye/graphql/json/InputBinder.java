@@ -0,0 +1,308 @@
+package io.smallrye.graphql.json;
+
+import static io.smallrye.graphql.SmallRyeGraphQLServerLogging.log;
+
+import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.AccessibleObject;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import io.smallrye.graphql.schema.model.Field;
+import io.smallrye.graphql.schema.model.InputType;
+import io.smallrye.graphql.spi.ClassloadingService;
+import io.smallrye.graphql.transformation.AbstractDataFetcherException;
+import io.smallrye.graphql.transformation.TransformException;
+
+/**
+ * Creates an input object straight from the Map that graphql-java gives us,
+ * so without going to a JSON String and back with JsonB.
+ *
+ * The constructor and setters are looked up once, when the input type is registered. Types that use
+ * JsonB features we do not support here (like JsonbCreator or adapters) do not get a binder, and keep
+ * using JsonB.
+ */
+public class InputBinder {
+
+    private static final MethodType CONSTRUCTOR_TYPE = MethodType.methodType(Object.class);
+    private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+    // A type that was never bound directly is left to JsonB after this many tries
+    private static final int MAX_NOT_BINDABLE = 3;
+
+    private static final Map<String, InputBinder> binders = new HashMap<>();
+
+    private final String className;
+    private final MethodHandle constructor;
+    private final Property[] properties;
+
+    private volatile boolean bound = false;
+    private volatile int notBindable = 0;
+
+    private InputBinder(String className, MethodHandle constructor, Property[] properties) {
+        this.className = className;
+        this.constructor = constructor;
+        this.properties = properties;
+    }
+
+    protected static void register(InputType inputType) {
+        try {
+            InputBinder binder = create(inputType);
+            if (binder != null) {
+                binders.put(inputType.getClassName(), binder);
+            }
+        } catch (ReflectiveOperationException | RuntimeException | LinkageError ex) {
+            // Then JsonB will do the binding
+            log.inputBinderNotCreated(inputType.getClassName(), ex);
+        }
+    }
+
+    /**
+     * @param className the input class
+     * @return the binder, or null if this type has to be bound with JsonB
+     */
+    public static InputBinder getInputBinder(String className) {
+        InputBinder binder = binders.get(className);
+        if (binder != null && !binder.bound && binder.notBindable >= MAX_NOT_BINDABLE) {
+            return null;
+        }
+        return binder;
+    }
+
+    /**
+     * Create the object and set all properties that are in the input
+     *
+     * @param input the map from graphql-java
+     * @param field the field (or argument) we bind for
+     * @param converter converts the values to the property type
+     * @return the object
+     * @throws NotBindableException if a value can not be bound without JsonB
+     * @throws AbstractDataFetcherException if the object could not be created
+     */
+    public Object bind(Map<?, ?> input, Field field, ValueConverter converter) throws AbstractDataFetcherException {
+        Object instance;
+        try {
+            instance = (Object) constructor.invokeExact();
+        } catch (Throwable t) {
+            throw new TransformException(t, field, input);
+        }
+
+        for (Property property : properties) {
+            if (input.containsKey(property.name)) {
+                Object value = input.get(property.name);
+                Object converted;
+                try {
+                    converted = convert(value, property, converter);
+                } catch (NotBindableException ex) {
+                    notBindable();
+                    throw ex;
+                }
+                try {
+                    property.setter.invokeExact(instance, converted);
+                } catch (Throwable t) {
+                    throw new TransformException(t, property.field, value);
+                }
+            }
+        }
+        if (!bound) {
+            bound = true;
+        }
+        return instance;
+    }
+
+    /**
+     * A type that only failed so far probably always needs JsonB, like for a property type we can't convert to.
+     * A type that was bound before only needs JsonB for some values, so we keep trying.
+     */
+    private void notBindable() {
+        // Not atomic, it doesn't matter if we give up a bit later
+        if (!bound && ++notBindable == MAX_NOT_BINDABLE) {
+            log.inputBoundWithJsonB(className);
+        }
+    }
+
+    private static Object convert(Object value, Property property, ValueConverter converter) {
+        Object converted;
+        try {
+            converted = converter.convert(value, property);
+        } catch (AbstractDataFetcherException | RuntimeException ex) {
+            // Let JsonB have a go, so we fail (or not) the same way
+            throw NotBindableException.INSTANCE;
+        }
+        if (converted == null ? property.primitive : !property.type.isInstance(converted)) {
+            throw NotBindableException.INSTANCE;
+        }
+        return converted;
+    }
+
+    private static InputBinder create(InputType inputType) throws ReflectiveOperationException {
+        if (!inputType.hasFields()) {
+            return null;
+        }
+        Class<?> inputClass = ClassloadingService.get().loadClass(inputType.getClassName());
+        if (!Modifier.isPublic(inputClass.getModifiers()) || Modifier.isAbstract(inputClass.getModifiers())
+                || usesUnsupportedJsonB(inputClass)) {
+            return null;
+        }
+
+        MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+        Constructor<?> noArgsConstructor = inputClass.getConstructor();
+        MethodHandle constructor = lookup.unreflectConstructor(noArgsConstructor).asType(CONSTRUCTOR_TYPE);
+
+        List<Property> properties = new ArrayList<>();
+        for (Field field : inputType.getFields().values()) {
+            Property property = createProperty(lookup, inputClass, field);
+            if (property == null) {
+                return null;
+            }
+            properties.add(property);
+        }
+        return new InputBinder(inputType.getClassName(), constructor, properties.toArray(new Property[0]));
+    }
+
+    /**
+     * The field in the model is either a setter, or a public field.
+     * JsonB would not use a setter that is not public, so then we leave it to JsonB.
+     */
+    private static Property createProperty(MethodHandles.Lookup lookup, Class<?> inputClass, Field field)
+            throws IllegalAccessException {
+        String methodName = field.getMethodName();
+        for (Method method : inputClass.getMethods()) {
+            if (method.getName().equals(methodName) && method.getParameterCount() == 1
+                    && !Modifier.isStatic(method.getModifiers())) {
+                return new Property(field, method.getParameterTypes()[0],
+                        lookup.unreflect(method).asType(SETTER_TYPE));
+            }
+        }
+        try {
+            java.lang.reflect.Field javaField = inputClass.getField(methodName);
+            if (Modifier.isStatic(javaField.getModifiers()) || Modifier.isFinal(javaField.getModifiers())) {
+                return null;
+            }
+            return new Property(field, javaField.getType(), lookup.unreflectSetter(javaField).asType(SETTER_TYPE));
+        } catch (NoSuchFieldException ex) {
+            return null;
+        }
+    }
+
+    private static boolean usesUnsupportedJsonB(Class<?> inputClass) {
+        for (Class<?> c = inputClass; c != null && !c.equals(Object.class); c = c.getSuperclass()) {
+            if (hasUnsupportedJsonB(c.getAnnotations(), CLASS_JSONB_ANNOTATIONS)) {
+                return true;
+            }
+            List<AccessibleObject> members = new ArrayList<>();
+            members.addAll(Arrays.asList(c.getDeclaredConstructors()));
+            members.addAll(Arrays.asList(c.getDeclaredMethods()));
+            members.addAll(Arrays.asList(c.getDeclaredFields()));
+            for (AccessibleObject member : members) {
+                if (hasUnsupportedJsonB(member.getAnnotations(), MEMBER_JSONB_ANNOTATIONS)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static boolean hasUnsupportedJsonB(Annotation[] annotations, Set<String> supported) {
+        for (Annotation annotation : annotations) {
+            String name = annotation.annotationType().getName();
+            if (name.startsWith(JSONB_ANNOTATION_PACKAGE) && !supported.contains(name)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * A property of the input type, with what needs to happen to the value before we can set it
+     */
+    public static class Property {
+        private final String name;
+        private final Field field;
+        private final boolean transformation;
+        private final boolean mapping;
+        private final Class<?> type;
+        private final boolean primitive;
+        private final MethodHandle setter;
+
+        Property(Field field, Class<?> type, MethodHandle setter) {
+            this.name = field.getName();
+            this.field = field;
+            this.transformation = field.hasTransformation() && !field.getTransformation().isJsonB();
+            this.mapping = field.hasMapping() || field.getReference().hasMapping();
+            this.type = type.isPrimitive() ? BOXED.get(type) : type;
+            this.primitive = type.isPrimitive();
+            this.setter = setter;
+        }
+
+        public Field getField() {
+            return field;
+        }
+
+        /**
+         * @return if this field has a (non JsonB) transformation
+         */
+        public boolean hasTransformation() {
+            return transformation;
+        }
+
+        public boolean hasMapping() {
+            return mapping;
+        }
+    }
+
+    /**
+     * Gets the value from graphql-java in the type of the property
+     */
+    @FunctionalInterface
+    public interface ValueConverter {
+        Object convert(Object value, Property property) throws AbstractDataFetcherException;
+    }
+
+    /**
+     * Thrown when a value can not be bound directly, and the caller should fall back to JsonB
+     */
+    public static class NotBindableException extends RuntimeException {
+        private static final NotBindableException INSTANCE = new NotBindableException();
+
+        private NotBindableException() {
+            super(null, null, false, false);
+        }
+    }
+
+    private static final String JSONB_ANNOTATION_PACKAGE = "javax.json.bind.annotation.";
+    // These only change the output
+    private static final Set<String> CLASS_JSONB_ANNOTATIONS = new HashSet<>(Arrays.asList(
+            JSONB_ANNOTATION_PACKAGE + "JsonbPropertyOrder",
+            JSONB_ANNOTATION_PACKAGE + "JsonbNillable"));
+    // These are already in the model (or only change the output)
+    private static final Set<String> MEMBER_JSONB_ANNOTATIONS = new HashSet<>(Arrays.asList(
+            JSONB_ANNOTATION_PACKAGE + "JsonbProperty",
+            JSONB_ANNOTATION_PACKAGE + "JsonbDateFormat",
+            JSONB_ANNOTATION_PACKAGE + "JsonbNumberFormat",
+            JSONB_ANNOTATION_PACKAGE + "JsonbTransient",
+            JSONB_ANNOTATION_PACKAGE + "JsonbNillable"));
+
+    private static final Map<Class<?>, Class<?>> BOXED = new HashMap<>();
+
+    static {
+        BOXED.put(boolean.class, Boolean.class);
+        BOXED.put(byte.class, Byte.class);
+        BOXED.put(char.class, Character.class);
+        BOXED.put(short.class, Short.class);
+        BOXED.put(int.class, Integer.class);
+        BOXED.put(long.class, Long.class);
+        BOXED.put(float.class, Float.class);
+        BOXED.put(double.class, Double.class);
+    }
+}
@@ -8,6 +8,7 @@ import io.smallrye.graphql.schema.model.InputType;
  * For now we need to
  * - hold a custom JsonB map for custom name mapping and
  * - hold a map og all fields in input types that needs transforming
+ * - hold a binder that creates the input object without JsonB (where possible)
  * 
  * @author Phillip Kruger (phillip.kruger@redhat.com)
  */
@@ -19,5 +20,6 @@ public class JsonInputRegistry {
     public static void register(InputType inputType) {
         JsonBCreator.register(inputType);
         InputFieldsInfo.register(inputType);
+        InputBinder.register(inputType);
     }
 }
@@ -46,9 +46,23 @@ public interface EventingService {
     default void beforeInvoke(InvokeInfo invokeInfo) throws Exception {
     }
 
+    /**
+     * Fired on the thread of the invocation, right after the operation method returned or threw,
+     * also when an earlier {@link #beforeInvoke(InvokeInfo)} failed.
+     * For asynchronous operations, this is before the result is done.
+     * 
+     * @param invokeInfo the invocation
+     */
+    default void afterInvoke(InvokeInfo invokeInfo) {
+    }
+
     default void afterDataFetch(Context context) {
     }
 
     default void errorDataFetch(String executionId, Throwable t) {
     }
+
+    default void errorDataFetch(Context context, Throwable t) {
+        errorDataFetch(context.getExecutionId(), t);
+    }
 }
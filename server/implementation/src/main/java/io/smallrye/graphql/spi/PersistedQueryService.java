@@ -0,0 +1,82 @@
+package io.smallrye.graphql.spi;
+
+import static io.smallrye.graphql.SmallRyeGraphQLServerLogging.log;
+
+import java.security.AccessController;
+import java.security.PrivilegedAction;
+import java.util.ServiceLoader;
+
+import io.smallrye.graphql.execution.LRUCache;
+
+/**
+ * Store for persisted queries (Automatic Persisted Queries), keyed by the SHA-256 hash of the query.
+ * By default, the queries are kept in a bounded in-memory cache.
+ *
+ * Implementations can be provided with SPI, to share the queries between instances or to preload them.
+ */
+public interface PersistedQueryService {
+
+    ServiceLoader<PersistedQueryService> persistedQueryServices = ServiceLoader.load(PersistedQueryService.class);
+
+    PersistedQueryService persistedQueryService = load();
+
+    static PersistedQueryService get() {
+        return persistedQueryService;
+    }
+
+    static PersistedQueryService load() {
+        PersistedQueryService persistedQueryService;
+        try {
+            persistedQueryService = persistedQueryServices.iterator().next();
+        } catch (Exception ex) {
+            persistedQueryService = new DefaultPersistedQueryService();
+        }
+        log.usingPersistedQueryService(persistedQueryService.getName());
+        return persistedQueryService;
+    }
+
+    String getName();
+
+    /**
+     * Get the query for a hash
+     *
+     * @param sha256Hash the hex encoded SHA-256 hash of the query
+     * @return the query, or null if we do not know this hash
+     */
+    String getQuery(String sha256Hash);
+
+    /**
+     * Store a query. The hash has already been verified against the query.
+     *
+     * @param sha256Hash the hex encoded SHA-256 hash of the query
+     * @param query the query
+     */
+    void putQuery(String sha256Hash, String query);
+
+    /**
+     * Default persisted query service that gets used when none is provided with SPI.
+     * This keeps the queries in memory
+     */
+    class DefaultPersistedQueryService implements PersistedQueryService {
+        private static final int MAX_CACHE_SIZE = AccessController.doPrivileged((PrivilegedAction<Integer>) () -> {
+            return Integer.getInteger("io.smallrye.graphql.execution.persistedQueryCacheMaxSize", 2048);
+        });
+
+        private final LRUCache<String, String> cache = new LRUCache<>(MAX_CACHE_SIZE);
+
+        @Override
+        public String getName() {
+            return "In-memory (default)";
+        }
+
+        @Override
+        public String getQuery(String sha256Hash) {
+            return cache.get(sha256Hash);
+        }
+
+        @Override
+        public void putQuery(String sha256Hash, String query) {
+            cache.computeIfAbsent(sha256Hash, h -> query);
+        }
+    }
+}
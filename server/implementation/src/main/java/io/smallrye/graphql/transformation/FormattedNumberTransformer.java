@@ -11,17 +11,23 @@ import io.smallrye.graphql.schema.model.Transformation;
 
 /**
  * Parses and formats numbers in the needed format.
+ *
+ * DecimalFormat is not thread safe, so every call uses its own copy of the format. Copying is a lot cheaper
+ * than parsing the pattern again, and unlike a copy per thread it's not repeated for every (virtual) thread,
+ * nor kept for as long as the thread lives.
  */
 public class FormattedNumberTransformer implements Transformer<Number, String> {
 
+    // Only copied, never used itself
     private final DecimalFormat numberFormat;
 
     private final NumberTransformer numberTransformer;
 
     protected FormattedNumberTransformer(Field field) {
         this.numberTransformer = new NumberTransformer(field);
-        this.numberFormat = getNumberFormat(field.getTransformation());
-        numberFormat.setParseBigDecimal(true);
+        DecimalFormat format = getNumberFormat(field.getTransformation());
+        format.setParseBigDecimal(true);
+        this.numberFormat = format;
     }
 
     private DecimalFormat getNumberFormat(Transformation formatter) {
@@ -43,11 +49,15 @@ public class FormattedNumberTransformer implements Transformer<Number, String> {
 
     @Override
     public Number in(final String o) throws ParseException {
-        Number parsed = numberFormat.parse(o);
+        Number parsed = newNumberFormat().parse(o);
         return numberTransformer.in(parsed);
     }
 
     public String out(final Number object) {
-        return this.numberFormat.format(object);
+        return newNumberFormat().format(object);
+    }
+
+    private DecimalFormat newNumberFormat() {
+        return (DecimalFormat) numberFormat.clone();
     }
 }
@@ -9,7 +9,9 @@ import io.smallrye.graphql.schema.model.Transformation;
 
 /**
  * Transforms incoming {@link #in(Object)} and outgoing {@link #out(Object)} objects to correct types and formats.
- * TODO: Caching?
+ *
+ * Creating a transformer parses the format, so it should be done once per field (see {@link #transformer(Field)}),
+ * and not for every value. Transformers are thread safe.
  *
  * @param <IN> type used in user-classes, eg {@code LocalDate}
  * @param <OUT> type used by graphql, eg {@code String}
@@ -28,9 +30,20 @@ public interface Transformer<IN, OUT> {
         if (!shouldTransform(field)) {
             return object;
         }
+        return out(field, Transformer.transformer(field), object);
+    }
 
+    /**
+     * Transform an outgoing value with a transformer that was already created for this field
+     *
+     * @param field the field
+     * @param transformer the transformer for this field
+     * @param object the value
+     * @return the transformed value
+     * @throws AbstractDataFetcherException if the value could not be transformed
+     */
+    static Object out(Field field, Transformer transformer, Object object) throws AbstractDataFetcherException {
         try {
-            Transformer transformer = Transformer.transformer(field);
             return transformer.out(object);
         } catch (Exception e) {
             log.transformError(e);
@@ -42,14 +55,33 @@ public interface Transformer<IN, OUT> {
         if (!shouldTransform(field)) {
             return object;
         }
+        return in(field, Transformer.transformer(field), object);
+    }
+
+    /**
+     * Transform an incoming value with a transformer that was already created for this field
+     *
+     * @param field the field
+     * @param transformer the transformer for this field
+     * @param object the value
+     * @return the transformed value
+     * @throws AbstractDataFetcherException if the value could not be transformed
+     */
+    static Object in(Field field, Transformer transformer, Object object) throws AbstractDataFetcherException {
         try {
-            Transformer transformer = Transformer.transformer(field);
             return transformer.in(object);
         } catch (Exception e) {
             throw new TransformException(e, field, object);
         }
     }
 
+    /**
+     * Create the transformer for a field. This only depends on the type and the format of the field,
+     * so also fields in collections of this field (see the wrapper) use the same transformer.
+     *
+     * @param field the field
+     * @return a new (or shared) transformer
+     */
     static Transformer transformer(Field field) {
         if (field.hasTransformation()) {
             Transformation format = field.getTransformation();
@@ -0,0 +1,83 @@
+package io.smallrye.graphql.execution;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import java.io.StringReader;
+import java.io.StringWriter;
+
+import javax.json.Json;
+import javax.json.JsonArray;
+import javax.json.JsonObject;
+import javax.json.JsonReader;
+
+import org.jboss.jandex.IndexView;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.smallrye.graphql.test.batch.CounterGraphQLApi;
+
+/**
+ * Test that a request in a batch doesn't get @Source values that were loaded before a mutation
+ */
+public class BatchMutationTest extends ExecutionTestBase {
+
+    @Override
+    protected IndexView getIndex() {
+        return Indexer.getTestIndex("io/smallrye/graphql/test/batch");
+    }
+
+    @BeforeEach
+    public void resetCounter() {
+        CounterGraphQLApi.VALUE.set(0);
+    }
+
+    @Test
+    public void testQueryAfterMutation() {
+        JsonArray responses = executionService.execute(batch());
+
+        assertValues(responses);
+    }
+
+    @Test
+    public void testStreamedQueryAfterMutation() {
+        StringWriter writer = new StringWriter();
+        executionService.execute(batch(), writer);
+
+        JsonArray responses;
+        try (JsonReader reader = Json.createReader(new StringReader(writer.toString()))) {
+            responses = reader.readArray();
+        }
+        assertValues(responses);
+    }
+
+    private static void assertValues(JsonArray responses) {
+        assertEquals(3, responses.size());
+        assertEquals(0, getData(responses, 0).getJsonObject("counter").getInt("value"));
+        assertEquals(1, getData(responses, 1).getJsonObject("increment").getInt("value"));
+        assertEquals(1, getData(responses, 2).getJsonObject("counter").getInt("value"),
+                "the query after the mutation should not get the value from before the mutation");
+    }
+
+    private static JsonArray batch() {
+        return Json.createArrayBuilder()
+                .add(request(QUERY))
+                .add(request(MUTATION))
+                .add(request(QUERY))
+                .build();
+    }
+
+    private static JsonObject getData(JsonArray responses, int index) {
+        JsonObject response = responses.getJsonObject(index);
+        assertFalse(response.containsKey("errors"), "there should be no errors: " + response);
+        return response.getJsonObject("data");
+    }
+
+    private static JsonObject request(String query) {
+        return Json.createObjectBuilder().add("query", query).build();
+    }
+
+    private static final String QUERY = "{ counter { value } }";
+
+    private static final String MUTATION = "mutation { increment { value } }";
+}
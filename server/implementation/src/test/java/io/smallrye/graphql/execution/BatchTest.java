@@ -0,0 +1,110 @@
+package io.smallrye.graphql.execution;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.StringReader;
+import java.io.StringWriter;
+
+import javax.json.Json;
+import javax.json.JsonArray;
+import javax.json.JsonObject;
+import javax.json.JsonObjectBuilder;
+import javax.json.JsonReader;
+
+import org.jboss.jandex.CompositeIndex;
+import org.jboss.jandex.IndexView;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test executing a batch of requests
+ */
+public class BatchTest extends ExecutionTestBase {
+
+    @Override
+    protected IndexView getIndex() {
+        return CompositeIndex.create(Indexer.getAllTestIndex(), Indexer.getTestIndex("io/smallrye/graphql/test/batch"));
+    }
+
+    @Test
+    public void testBatch() {
+        JsonArray responses = executionService.execute(Json.createArrayBuilder()
+                .add(request(NAME_QUERY))
+                .add(request(SOURCE_QUERY))
+                .build());
+
+        assertEquals(2, responses.size());
+        assertEquals("Phillip", getData(responses, 0).getJsonObject("testObject").getString("name"));
+        JsonArray testObjects = getData(responses, 1).getJsonArray("testObjects");
+        assertEquals(2, testObjects.size());
+        assertNotNull(testObjects.getJsonObject(0).getJsonObject("timestamp"));
+        assertNotNull(testObjects.getJsonObject(1).getJsonObject("timestamp"));
+    }
+
+    @Test
+    public void testStreamedBatch() {
+        StringWriter writer = new StringWriter();
+        executionService.execute(Json.createArrayBuilder()
+                .add(request(SOURCE_QUERY))
+                .add(Json.createValue("not a request"))
+                .add(request(NAME_QUERY))
+                .build(), writer);
+
+        JsonArray responses;
+        try (JsonReader reader = Json.createReader(new StringReader(writer.toString()))) {
+            responses = reader.readArray();
+        }
+
+        assertEquals(3, responses.size());
+        assertEquals(2, getData(responses, 0).getJsonArray("testObjects").size());
+        assertTrue(responses.getJsonObject(1).containsKey("errors"), "the invalid request should have errors");
+        assertEquals("Phillip", getData(responses, 2).getJsonObject("testObject").getString("name"));
+    }
+
+    @Test
+    public void testSameSourceWithOtherArguments() {
+        JsonArray responses = executionService.execute(Json.createArrayBuilder()
+                .add(request(LABEL_QUERY, "first").add("variables", Json.createObjectBuilder().add("prefix", "one")))
+                .add(request(LABEL_QUERY, "second").add("variables", Json.createObjectBuilder().add("prefix", "two")))
+                .build());
+
+        assertEquals(2, responses.size());
+        assertEquals("one counter of first", getData(responses, 0).getJsonObject("counter").getString("label"));
+        assertEquals("two counter of second", getData(responses, 1).getJsonObject("counter").getString("label"),
+                "the second request should be loaded with its own arguments and context");
+    }
+
+    private static JsonObject getData(JsonArray responses, int index) {
+        JsonObject response = responses.getJsonObject(index);
+        assertFalse(response.containsKey("errors"), "there should be no errors: " + response);
+        return response.getJsonObject("data");
+    }
+
+    private static JsonObject request(String query) {
+        return Json.createObjectBuilder().add("query", query).build();
+    }
+
+    private static JsonObjectBuilder request(String query, String operationName) {
+        return Json.createObjectBuilder().add("query", query).add("operationName", operationName);
+    }
+
+    private static final String LABEL_QUERY = "query first($prefix: String) { counter { label(prefix: $prefix) } }\n" +
+            "query second($prefix: String) { counter { label(prefix: $prefix) } }";
+
+    private static final String NAME_QUERY = "{\n" +
+            "  testObject(yourname:\"Phillip\") {\n" +
+            "    name\n" +
+            "  }\n" +
+            "}";
+
+    private static final String SOURCE_QUERY = "{\n" +
+            "  testObjects {\n" +
+            "    name\n" +
+            "    timestamp {\n" +
+            "      value\n" +
+            "    }\n" +
+            "  }\n" +
+            "}";
+}
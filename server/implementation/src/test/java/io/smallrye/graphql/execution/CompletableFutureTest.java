@@ -1,9 +1,16 @@
 package io.smallrye.graphql.execution;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.concurrent.TimeUnit;
+
+import javax.json.Json;
 import javax.json.JsonObject;
+import javax.json.JsonReader;
 import javax.json.JsonValue;
 
 import org.jboss.jandex.IndexView;
@@ -34,6 +41,29 @@ public class CompletableFutureTest extends ExecutionTestBase {
         assertFalse(book.isNull("title"), "title should not be null");
     }
 
+    @Test
+    public void testExecuteAsync() throws Exception {
+        JsonObject input = Json.createObjectBuilder().add("query", TEST_QUERY).build();
+
+        JsonObject response = executionService.executeAsync(input).toCompletableFuture().get(10, TimeUnit.SECONDS);
+
+        JsonObject book = response.getJsonObject("data").getJsonObject("book");
+        assertEquals("Lord of the Flies", book.getString("title"));
+    }
+
+    @Test
+    public void testExecuteAsyncToOutputStream() throws Exception {
+        JsonObject input = Json.createObjectBuilder().add("query", TEST_QUERY).build();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        executionService.executeAsync(input, out).toCompletableFuture().get(10, TimeUnit.SECONDS);
+
+        try (JsonReader reader = Json.createReader(new ByteArrayInputStream(out.toByteArray()))) {
+            JsonObject book = reader.readObject().getJsonObject("data").getJsonObject("book");
+            assertEquals("Lord of the Flies", book.getString("title"));
+        }
+    }
+
     private static final String TEST_QUERY = "{\n" +
             "  book(name: \"Lord of the Flies\"){\n" +
             "    title\n" +
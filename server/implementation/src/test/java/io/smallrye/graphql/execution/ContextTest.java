@@ -31,6 +31,13 @@ public class ContextTest extends ExecutionTestBase {
         assertFalse(testObject.isNull("query"), "query should not be null");
     }
 
+    @Test
+    public void testContextIsInherited() {
+        JsonObject data = executeAndGetData("{ inheritedContextPath }");
+
+        assertEquals("/inheritedContextPath", data.getString("inheritedContextPath"));
+    }
+
     private static final String TEST_QUERY = "{\n" +
             "  testContext {\n" +
             "    executionId\n" +
@@ -3,9 +3,17 @@ package io.smallrye.graphql.execution;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.io.ByteArrayOutputStream;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+
+import javax.json.Json;
 import javax.json.JsonArray;
 import javax.json.JsonObject;
+import javax.json.JsonReader;
 
 import org.junit.jupiter.api.Test;
 
@@ -57,6 +65,50 @@ public class ExecutionTest extends ExecutionTestBase {
 
     }
 
+    @Test
+    public void testBasicListQueryStreaming() {
+        JsonObject input = Json.createObjectBuilder().add("query", TEST_LIST_QUERY).build();
+
+        StringWriter writer = new StringWriter();
+        executionService.execute(input, writer);
+
+        JsonObject result;
+        try (JsonReader reader = Json.createReader(new StringReader(writer.toString()))) {
+            result = reader.readObject();
+        }
+
+        assertFalse(result.containsKey("errors"), "there should be no errors");
+        JsonArray testObjects = result.getJsonObject("data").getJsonArray("testObjects");
+
+        assertNotNull(testObjects);
+        assertEquals(2, testObjects.size());
+        JsonObject testObject = testObjects.getJsonObject(0);
+        assertEquals("Phillip", testObject.getString("name"));
+        assertFalse(testObject.isNull("id"), "id should not be null");
+        assertFalse(testObject.get("timestamp").asJsonObject().isNull("value"), "timestamp value should not be null");
+    }
+
+    @Test
+    public void testStreamingLeavesTheOutputStreamOpen() {
+        JsonObject input = Json.createObjectBuilder().add("query", TEST_QUERY).build();
+
+        ClosingAwareOutputStream out = new ClosingAwareOutputStream();
+        executionService.execute(input, out);
+
+        assertFalse(out.closed, "the output stream of the caller should not be closed");
+        String response = new String(out.toByteArray(), StandardCharsets.UTF_8);
+        assertTrue(response.contains("\"Phillip\""), "the response should be flushed: " + response);
+    }
+
+    private static class ClosingAwareOutputStream extends ByteArrayOutputStream {
+        private boolean closed;
+
+        @Override
+        public void close() {
+            closed = true;
+        }
+    }
+
     private static final String TEST_QUERY = "{\n" +
             "  testObject(yourname:\"Phillip\") {\n" +
             "    id\n" +
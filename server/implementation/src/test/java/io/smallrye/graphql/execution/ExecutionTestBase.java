@@ -44,7 +44,12 @@ public abstract class ExecutionTestBase {
         LOG.info("================== Testing against: ====================");
         LOG.info(schemaString);
         LOG.info("========================================================");
-        this.executionService = new ExecutionService(getGraphQLConfig(), graphQLSchema, schema.getBatchOperations());
+        this.executionService = new ExecutionService(getGraphQLConfig(), graphQLSchema, schema.getBatchOperations(),
+                isContextInheritable());
+    }
+
+    protected boolean isContextInheritable() {
+        return true;
     }
 
     protected IndexView getIndex() {
@@ -74,7 +79,7 @@ public abstract class ExecutionTestBase {
         return builder.build();
     }
 
-    private Config getGraphQLConfig() {
+    protected Config getGraphQLConfig() {
         Config config = new Config() {
 
             @Override
@@ -1,8 +1,12 @@
 package io.smallrye.graphql.execution;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import javax.json.Json;
+import javax.json.JsonArray;
 import javax.json.JsonObject;
 
 import org.jboss.jandex.IndexView;
@@ -30,6 +34,26 @@ public class GroupingTest extends ExecutionTestBase {
         assertFalse(books.isNull("book"), "book should not be null");
     }
 
+    @Test
+    public void testMutationInBatch() {
+        JsonArray responses = executionService.execute(Json.createArrayBuilder()
+                .add(request(BATCHED_BOOK_QUERY))
+                .add(request(BATCHED_BOOK_MUTATION))
+                .add(request(BATCHED_BOOK_QUERY))
+                .build());
+
+        // The mutation waits for the query before it, and the query after it waits for the mutation
+        assertTrue(responses.getJsonObject(0).getJsonObject("data").getJsonObject("books").isNull("book"));
+        assertEquals("Batched", responses.getJsonObject(1).getJsonObject("data").getJsonObject("books")
+                .getJsonObject("addBook").getString("title"));
+        assertEquals("Batched", responses.getJsonObject(2).getJsonObject("data").getJsonObject("books")
+                .getJsonObject("book").getString("title"));
+    }
+
+    private static JsonObject request(String query) {
+        return Json.createObjectBuilder().add("query", query).build();
+    }
+
     private static final String TEST_QUERY = "{\n" +
             "  books{\n" +
             "    book(name:\"Lord of the Flies\"){\n" +
@@ -40,4 +64,19 @@ public class GroupingTest extends ExecutionTestBase {
             "  }\n" +
             "}";
 
+    private static final String BATCHED_BOOK_QUERY = "{\n" +
+            "  books{\n" +
+            "    book(name:\"Batched\"){\n" +
+            "      title\n" +
+            "    }\n" +
+            "  }\n" +
+            "}";
+
+    private static final String BATCHED_BOOK_MUTATION = "mutation {\n" +
+            "  books{\n" +
+            "    addBook(book:{title:\"Batched\", isbn:\"0-000-00000-0\"}){\n" +
+            "      title\n" +
+            "    }\n" +
+            "  }\n" +
+            "}";
 }
@@ -0,0 +1,101 @@
+package io.smallrye.graphql.execution;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Collections;
+import java.util.Map;
+
+import javax.json.JsonArray;
+import javax.json.JsonObject;
+
+import org.jboss.jandex.IndexView;
+import org.junit.jupiter.api.Test;
+
+import io.smallrye.graphql.json.InputBinder;
+import io.smallrye.graphql.test.input.LineItem;
+import io.smallrye.graphql.test.input.Order;
+
+/**
+ * Test creating input objects straight from the map
+ */
+public class InputBindingTest extends ExecutionTestBase {
+
+    protected IndexView getIndex() {
+        return Indexer.getTestIndex("io/smallrye/graphql/test/input");
+    }
+
+    @Test
+    public void testBinderIsRegistered() {
+        assertNotNull(InputBinder.getInputBinder(Order.class.getName()));
+        assertNotNull(InputBinder.getInputBinder(LineItem.class.getName()));
+    }
+
+    @Test
+    public void testBindNestedInput() {
+        JsonObject data = executeAndGetData(TEST_MUTATION);
+
+        JsonObject order = data.getJsonObject("importOrder");
+        assertEquals("Phillip", order.getString("customer"));
+        assertEquals("17/10/2020", order.getString("orderDate"));
+        assertEquals("A-123", order.getString("ref"));
+        assertEquals("HIGH", order.getString("priority"));
+
+        JsonArray lineItems = order.getJsonArray("lineItems");
+        assertEquals(2, lineItems.size());
+        assertEquals("Coffee", lineItems.getJsonObject(0).getString("product"));
+        assertEquals(3, lineItems.getJsonObject(0).getInt("quantity"));
+        assertEquals("Tea", lineItems.getJsonObject(1).getString("product"));
+        assertEquals(1, lineItems.getJsonObject(1).getInt("quantity"));
+    }
+
+    @Test
+    public void testTypeThatNeverBindsIsLeftToJsonB() {
+        InputBinder binder = InputBinder.getInputBinder(LineItem.class.getName());
+        Map<String, Object> input = Collections.singletonMap("product", "Coffee");
+
+        for (int i = 0; i < 10 && InputBinder.getInputBinder(LineItem.class.getName()) != null; i++) {
+            assertThrows(InputBinder.NotBindableException.class, () -> binder.bind(input, null, NEEDS_JSONB));
+        }
+
+        assertNull(InputBinder.getInputBinder(LineItem.class.getName()));
+    }
+
+    @Test
+    public void testTypeThatWasBoundIsNotLeftToJsonB() throws Exception {
+        InputBinder binder = InputBinder.getInputBinder(LineItem.class.getName());
+        Map<String, Object> input = Collections.singletonMap("product", "Coffee");
+        binder.bind(input, null, (value, property) -> value);
+
+        for (int i = 0; i < 10; i++) {
+            assertThrows(InputBinder.NotBindableException.class, () -> binder.bind(input, null, NEEDS_JSONB));
+        }
+
+        assertNotNull(InputBinder.getInputBinder(LineItem.class.getName()));
+    }
+
+    private static final InputBinder.ValueConverter NEEDS_JSONB = (value, property) -> {
+        throw new IllegalArgumentException("only JsonB can convert " + value);
+    };
+
+    private static final String TEST_MUTATION = "mutation {\n" +
+            "  importOrder(order: {\n" +
+            "    customer: \"Phillip\"\n" +
+            "    orderDate: \"17/10/2020\"\n" +
+            "    ref: \"A-123\"\n" +
+            "    priority: HIGH\n" +
+            "    lineItems: [{product: \"Coffee\", quantity: 3}, {product: \"Tea\", quantity: 1}]\n" +
+            "  }) {\n" +
+            "    customer\n" +
+            "    orderDate\n" +
+            "    ref\n" +
+            "    priority\n" +
+            "    lineItems {\n" +
+            "      product\n" +
+            "      quantity\n" +
+            "    }\n" +
+            "  }\n" +
+            "}";
+}
@@ -64,6 +64,52 @@ public class LRUCacheTest {
         assertNull(lruCache.get(Integer.valueOf(1)));
     }
 
+    @Test
+    public void testStatistics() {
+        LRUCache<Integer, Integer> lruCache = new LRUCache<>(2);
+        assertNull(lruCache.get(1));
+        lruCache.computeIfAbsent(1, k -> k);
+        lruCache.computeIfAbsent(2, k -> k);
+        assertEquals(Integer.valueOf(1), lruCache.get(1));
+        lruCache.computeIfAbsent(3, k -> k);
+
+        assertEquals(1, lruCache.getHitCount());
+        assertEquals(4, lruCache.getMissCount());
+        assertEquals(1, lruCache.getEvictionCount());
+        assertEquals(2, lruCache.size());
+    }
+
+    @Test
+    public void testComputeIfAbsentStatistics() {
+        LRUCache<Integer, Integer> lruCache = new LRUCache<>(2);
+        AtomicInteger computed = new AtomicInteger();
+        lruCache.computeIfAbsent(1, k -> computed.incrementAndGet());
+        lruCache.computeIfAbsent(1, k -> computed.incrementAndGet());
+        lruCache.computeIfAbsent(1, k -> computed.incrementAndGet());
+        lruCache.computeIfAbsent(2, k -> computed.incrementAndGet());
+        // Only adds, the miss was counted by get
+        assertEquals(Integer.valueOf(1), lruCache.putIfAbsent(1, 10));
+
+        assertEquals(2, computed.get());
+        assertEquals(2, lruCache.getHitCount());
+        assertEquals(2, lruCache.getMissCount());
+        assertEquals(2, lruCache.size());
+    }
+
+    @Test
+    public void testRecentlyUsedEntrySurvivesEviction() {
+        LRUCache<Integer, Integer> lruCache = new LRUCache<>(2);
+        lruCache.computeIfAbsent(1, k -> k);
+        lruCache.computeIfAbsent(2, k -> k);
+        // 1 is the oldest, but it was used, so 2 should be evicted instead
+        lruCache.get(1);
+        lruCache.computeIfAbsent(3, k -> k);
+
+        assertNotNull(lruCache.get(1));
+        assertNull(lruCache.get(2));
+        assertNotNull(lruCache.get(3));
+    }
+
     private void validateCache(LRUCache<Integer, Integer> lruCache, int size) throws Exception {
         Field sizeField = LRUCache.class.getDeclaredField("size");
         sizeField.setAccessible(true);
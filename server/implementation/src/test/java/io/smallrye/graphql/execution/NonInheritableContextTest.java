@@ -0,0 +1,50 @@
+package io.smallrye.graphql.execution;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import javax.json.JsonObject;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test the context, when threads started by an operation don't inherit it
+ */
+public class NonInheritableContextTest extends ExecutionTestBase {
+
+    @Override
+    protected boolean isContextInheritable() {
+        return false;
+    }
+
+    @Test
+    public void testContextOfOperation() {
+        JsonObject data = executeAndGetData(TEST_QUERY);
+
+        JsonObject testObject = data.getJsonObject("testContext");
+
+        assertNotNull(testObject);
+
+        assertFalse(testObject.isNull("executionId"), "executionId should not be null");
+        assertEquals("/testContext", testObject.getString("path"));
+        assertFalse(testObject.isNull("query"), "query should not be null");
+    }
+
+    @Test
+    public void testContextIsNotInherited() {
+        JsonObject data = executeAndGetData("{ inheritedContextPath }");
+
+        assertTrue(data.isNull("inheritedContextPath"), "a new thread should not have the context");
+    }
+
+    private static final String TEST_QUERY = "{\n" +
+            "  testContext {\n" +
+            "    executionId\n" +
+            "    path\n" +
+            "    query\n" +
+            "  }\n" +
+            "}";
+
+}
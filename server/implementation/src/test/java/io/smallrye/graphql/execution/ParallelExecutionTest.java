@@ -0,0 +1,81 @@
+package io.smallrye.graphql.execution;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.CountDownLatch;
+
+import javax.json.JsonObject;
+
+import org.jboss.jandex.IndexView;
+import org.junit.jupiter.api.Test;
+
+import io.smallrye.graphql.bootstrap.Config;
+import io.smallrye.graphql.test.parallel.ParallelApi;
+
+/**
+ * Test running blocking operations in parallel
+ */
+public class ParallelExecutionTest extends ExecutionTestBase {
+
+    @Override
+    protected IndexView getIndex() {
+        return Indexer.getTestIndex("io/smallrye/graphql/test/parallel");
+    }
+
+    @Override
+    protected Config getGraphQLConfig() {
+        return new Config() {
+            @Override
+            public boolean isPrintDataFetcherException() {
+                return true;
+            }
+
+            @Override
+            public boolean isParallelExecutionEnabled() {
+                return true;
+            }
+
+            @Override
+            public int getParallelExecutionMaxConcurrency() {
+                return 2;
+            }
+        };
+    }
+
+    @Test
+    public void testSiblingsRunInParallel() {
+        ParallelApi.latch = new CountDownLatch(2);
+
+        JsonObject data = executeAndGetData("{ first second }");
+
+        assertTrue(data.getBoolean("first"));
+        assertTrue(data.getBoolean("second"));
+    }
+
+    @Test
+    public void testConcurrencyIsLimitedPerRequest() {
+        ParallelApi.maxRunning.set(0);
+
+        JsonObject data = executeAndGetData("{ a: tracked b: tracked c: tracked d: tracked e: tracked }");
+
+        assertEquals(5, data.size());
+        assertTrue(ParallelApi.maxRunning.get() <= 2, "At most 2 operations should run at the same time");
+    }
+
+    @Test
+    public void testContextIsPropagated() {
+        JsonObject data = executeAndGetData("{ fieldName }");
+
+        assertEquals("fieldName", data.getString("fieldName"));
+    }
+
+    @Test
+    public void testSequentialRunsOnFetchingThread() {
+        String testThread = Thread.currentThread().getName();
+
+        assertNotEquals(testThread, executeAndGetData("{ thread }").getString("thread"));
+        assertEquals(testThread, executeAndGetData("{ sequentialThread }").getString("sequentialThread"));
+    }
+}
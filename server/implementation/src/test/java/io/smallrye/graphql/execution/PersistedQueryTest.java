@@ -0,0 +1,73 @@
+package io.smallrye.graphql.execution;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+import javax.json.Json;
+import javax.json.JsonObject;
+import javax.json.JsonObjectBuilder;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test Automatic Persisted Queries
+ */
+public class PersistedQueryTest extends ExecutionTestBase {
+
+    @Test
+    public void testUnknownHash() {
+        JsonObject result = executionService.execute(persistedQuery(null, PersistedQueries.sha256("{ unknown }")));
+
+        JsonObject error = result.getJsonArray("errors").getJsonObject(0);
+        assertEquals("PersistedQueryNotFound", error.getString("message"));
+        assertEquals("PERSISTED_QUERY_NOT_FOUND", error.getJsonObject("extensions").getString("code"));
+    }
+
+    @Test
+    public void testRegisterAndExecuteByHash() {
+        String hash = PersistedQueries.sha256(TEST_QUERY);
+
+        JsonObject registered = executionService.execute(persistedQuery(TEST_QUERY, hash));
+        assertFalse(registered.containsKey("errors"), "there should be no errors");
+        assertEquals("Phillip", registered.getJsonObject("data").getJsonObject("testObject").getString("name"));
+
+        JsonObject byHash = executionService.execute(persistedQuery(null, hash));
+        assertFalse(byHash.containsKey("errors"), "there should be no errors");
+        JsonObject testObject = byHash.getJsonObject("data").getJsonObject("testObject");
+        assertNotNull(testObject);
+        assertEquals("Phillip", testObject.getString("name"));
+    }
+
+    @Test
+    public void testHashMismatch() {
+        String hash = PersistedQueries.sha256("{ somethingElse }");
+
+        JsonObject result = executionService.execute(persistedQuery(TEST_QUERY, hash));
+
+        JsonObject error = result.getJsonArray("errors").getJsonObject(0);
+        assertEquals("PERSISTED_QUERY_HASH_MISMATCH", error.getJsonObject("extensions").getString("code"));
+        assertEquals("PersistedQueryNotFound",
+                executionService.execute(persistedQuery(null, hash)).getJsonArray("errors").getJsonObject(0)
+                        .getString("message"));
+    }
+
+    private JsonObject persistedQuery(String query, String hash) {
+        JsonObjectBuilder builder = Json.createObjectBuilder();
+        if (query != null) {
+            builder.add("query", query);
+        }
+        builder.add("extensions", Json.createObjectBuilder()
+                .add("persistedQuery", Json.createObjectBuilder()
+                        .add("version", 1)
+                        .add("sha256Hash", hash)));
+        return builder.build();
+    }
+
+    private static final String TEST_QUERY = "{\n" +
+            "  testObject(yourname:\"Phillip\") {\n" +
+            "    id\n" +
+            "    name\n" +
+            "  }\n" +
+            "}";
+}
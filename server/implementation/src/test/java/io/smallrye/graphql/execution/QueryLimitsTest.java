@@ -0,0 +1,65 @@
+package io.smallrye.graphql.execution;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import java.util.Optional;
+
+import javax.json.Json;
+import javax.json.JsonObject;
+
+import org.junit.jupiter.api.Test;
+
+import io.smallrye.graphql.bootstrap.Config;
+
+/**
+ * Test the max query depth and complexity
+ */
+public class QueryLimitsTest extends ExecutionTestBase {
+
+    @Override
+    protected Config getGraphQLConfig() {
+        return new Config() {
+            @Override
+            public Optional<Integer> getMaxQueryDepth() {
+                return Optional.of(3);
+            }
+
+            @Override
+            public Optional<Integer> getMaxQueryComplexity() {
+                return Optional.of(13);
+            }
+        };
+    }
+
+    @Test
+    public void testWithinLimits() {
+        JsonObject result = execute("{ testObject(yourname:\"Phillip\") { id name } }");
+
+        assertFalse(result.containsKey("errors"), "there should be no errors");
+        assertEquals("Phillip", result.getJsonObject("data").getJsonObject("testObject").getString("name"));
+    }
+
+    @Test
+    public void testTooDeep() {
+        JsonObject result = execute("{ __schema { types { fields { name } } } }");
+
+        JsonObject error = result.getJsonArray("errors").getJsonObject(0);
+        assertEquals("max-query-depth-exceeded", error.getJsonObject("extensions").getString("code"));
+        assertEquals("Query depth 4 exceeds the maximum depth of 3", error.getString("message"));
+    }
+
+    @Test
+    public void testTooComplexWithFragment() {
+        // testObject (1) + id (1) + name (1) + timestamp (1) + value (@Cost 10) = 14
+        JsonObject result = execute("{ testObject(yourname:\"Phillip\") { ...f } }\n"
+                + "fragment f on TestObject { id name timestamp { value } }");
+
+        JsonObject error = result.getJsonArray("errors").getJsonObject(0);
+        assertEquals("max-query-complexity-exceeded", error.getJsonObject("extensions").getString("code"));
+    }
+
+    private JsonObject execute(String query) {
+        return executionService.execute(Json.createObjectBuilder().add("query", query).build());
+    }
+}
@@ -0,0 +1,125 @@
+package io.smallrye.graphql.execution;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.json.Json;
+import javax.json.JsonObject;
+
+import org.jboss.jandex.IndexView;
+import org.junit.jupiter.api.Test;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import io.smallrye.graphql.schema.SchemaBuilder;
+import io.smallrye.graphql.schema.SchemaBuilderException;
+
+/**
+ * Test executing subscriptions as a stream of responses
+ */
+public class SubscriptionTest extends ExecutionTestBase {
+
+    protected IndexView getIndex() {
+        return Indexer.getTestIndex("io/smallrye/graphql/test/async");
+    }
+
+    @Test
+    public void testSubscription() {
+        Publisher<JsonObject> responses = executionService.executeAsStream(request(SUBSCRIPTION));
+
+        CollectingSubscriber subscriber = collect(responses);
+
+        assertNull(subscriber.failure);
+        assertTrue(subscriber.completed, "the subscription should complete");
+        assertEquals(2, subscriber.responses.size());
+        assertEquals("Lord of the Flies", getTitle(subscriber.responses.get(0)));
+        assertEquals("Animal Farm", getTitle(subscriber.responses.get(1)));
+    }
+
+    @Test
+    public void testQueryAsStream() {
+        Publisher<JsonObject> responses = executionService.executeAsStream(request(QUERY));
+
+        CollectingSubscriber subscriber = collect(responses);
+
+        assertTrue(subscriber.completed, "the stream should complete");
+        assertEquals(1, subscriber.responses.size());
+        JsonObject response = subscriber.responses.get(0);
+        assertFalse(response.containsKey("errors"), "there should be no errors");
+        assertNotNull(response.getJsonObject("data").getJsonObject("book"));
+    }
+
+    @Test
+    public void testMultiOnlyForSubscriptions() {
+        IndexView index = Indexer.getTestIndex("io/smallrye/graphql/test/async/invalid");
+
+        SchemaBuilderException exception = assertThrows(SchemaBuilderException.class, () -> SchemaBuilder.build(index));
+        assertTrue(exception.getMessage().contains("books"), exception.getMessage());
+    }
+
+    private static String getTitle(JsonObject response) {
+        return response.getJsonObject("data").getJsonObject("bookReleases").getString("title");
+    }
+
+    private static JsonObject request(String query) {
+        return Json.createObjectBuilder().add("query", query).build();
+    }
+
+    private static CollectingSubscriber collect(Publisher<JsonObject> responses) {
+        CollectingSubscriber subscriber = new CollectingSubscriber();
+        responses.subscribe(subscriber);
+        return subscriber;
+    }
+
+    /**
+     * Requests one response at the time, like the WebSocket endpoint does
+     */
+    private static class CollectingSubscriber implements Subscriber<JsonObject> {
+        private final List<JsonObject> responses = new ArrayList<>();
+        private Subscription subscription;
+        private Throwable failure;
+        private boolean completed;
+
+        @Override
+        public void onSubscribe(Subscription subscription) {
+            this.subscription = subscription;
+            subscription.request(1);
+        }
+
+        @Override
+        public void onNext(JsonObject response) {
+            responses.add(response);
+            subscription.request(1);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            failure = throwable;
+        }
+
+        @Override
+        public void onComplete() {
+            completed = true;
+        }
+    }
+
+    private static final String SUBSCRIPTION = "subscription {\n" +
+            "  bookReleases {\n" +
+            "    title\n" +
+            "  }\n" +
+            "}";
+
+    private static final String QUERY = "{\n" +
+            "  book(name: \"Animal Farm\") {\n" +
+            "    title\n" +
+            "  }\n" +
+            "}";
+}
@@ -2,18 +2,26 @@ package io.smallrye.graphql.execution.datafetcher;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.AbstractList;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Deque;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.LinkedHashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.ListIterator;
+import java.util.NavigableSet;
+import java.util.Queue;
 import java.util.Set;
+import java.util.SortedSet;
 import java.util.Stack;
 import java.util.TreeSet;
 import java.util.Vector;
@@ -30,6 +38,36 @@ public class CollectionHelperTest {
         assertTrue(c.isEmpty(), "Unexpected non-empty collection returned: " + c);
     }
 
+    @Test
+    public void newCollection_SortedSet() {
+        test(CollectionCreator.newCollection(SortedSet.class.getName()), TreeSet.class);
+        test(CollectionCreator.newCollection(NavigableSet.class.getName()), TreeSet.class);
+    }
+
+    @Test
+    public void newCollection_Deque() {
+        test(CollectionCreator.newCollection(Deque.class.getName()), ArrayDeque.class);
+        test(CollectionCreator.newCollection(Queue.class.getName()), ArrayDeque.class);
+    }
+
+    @Test
+    public void newCollection_Immutable() {
+        CollectionCreator.Factory factory = CollectionCreator.getFactory(ImmutableStrings.class);
+        Collection<Object> collection = factory.create(2);
+        collection.add("a");
+        collection.add("b");
+
+        Object completed = factory.complete(collection);
+
+        assertEquals(ImmutableStrings.class, completed.getClass());
+        assertEquals(Arrays.asList("a", "b"), ((ImmutableStrings) completed).strings);
+    }
+
+    @Test
+    public void newCollection_SameFactory() {
+        assertSame(CollectionCreator.getFactory(List.class), CollectionCreator.getFactory(List.class));
+    }
+
     @Test
     public void newCollection_Set() {
         test(CollectionCreator.newCollection(Set.class.getName()), HashSet.class);
@@ -315,4 +353,26 @@ public class CollectionHelperTest {
             return null;
         }
     }
+
+    public static final class ImmutableStrings extends AbstractList<Object> {
+        private final List<Object> strings;
+
+        private ImmutableStrings(List<Object> strings) {
+            this.strings = strings;
+        }
+
+        public static ImmutableStrings copyOf(Collection<?> collection) {
+            return new ImmutableStrings(Collections.unmodifiableList(new ArrayList<>(collection)));
+        }
+
+        @Override
+        public Object get(int index) {
+            return strings.get(index);
+        }
+
+        @Override
+        public int size() {
+            return strings.size();
+        }
+    }
 }
@@ -0,0 +1,81 @@
+package io.smallrye.graphql.execution.datafetcher;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+
+import graphql.schema.DataFetchingEnvironment;
+import io.smallrye.graphql.schema.model.Field;
+import io.smallrye.graphql.schema.model.Reference;
+import io.smallrye.graphql.schema.model.ReferenceType;
+
+/**
+ * Test fetching properties with the accessors that are resolved up front
+ */
+public class PropertyDataFetcherTest {
+
+    @Test
+    public void testGetter() {
+        PropertyDataFetcher dataFetcher = new PropertyDataFetcher(stringField("getName", "name"), Bean.class);
+
+        assertEquals("Tony", dataFetcher.get(dfe(new Bean())));
+    }
+
+    @Test
+    public void testPublicField() {
+        PropertyDataFetcher dataFetcher = new PropertyDataFetcher(stringField("nickname", "nickname"), Bean.class);
+
+        assertEquals("Iron Man", dataFetcher.get(dfe(new Bean())));
+    }
+
+    @Test
+    public void testSubclass() {
+        PropertyDataFetcher dataFetcher = new PropertyDataFetcher(stringField("getName", "name"), Bean.class);
+
+        assertEquals("Pepper", dataFetcher.get(dfe(new SubBean())));
+    }
+
+    @Test
+    public void testOtherSource() {
+        PropertyDataFetcher dataFetcher = new PropertyDataFetcher(stringField("getName", "name"), Bean.class);
+
+        assertEquals("Happy", dataFetcher.get(dfe(Collections.singletonMap("name", "Happy"))));
+    }
+
+    @Test
+    public void testUnknownOwner() {
+        PropertyDataFetcher dataFetcher = new PropertyDataFetcher(stringField("getName", "name"), null);
+
+        assertEquals("Tony", dataFetcher.get(dfe(new Bean())));
+    }
+
+    private static Field stringField(String methodName, String propertyName) {
+        return new Field(methodName, propertyName, propertyName, null,
+                new Reference(String.class.getName(), "String", ReferenceType.SCALAR));
+    }
+
+    private static DataFetchingEnvironment dfe(Object source) {
+        DataFetchingEnvironment dfe = mock(DataFetchingEnvironment.class);
+        when(dfe.getSource()).thenReturn(source);
+        return dfe;
+    }
+
+    public static class Bean {
+        public String nickname = "Iron Man";
+
+        public String getName() {
+            return "Tony";
+        }
+    }
+
+    public static class SubBean extends Bean {
+        @Override
+        public String getName() {
+            return "Pepper";
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package io.smallrye.graphql.execution.datafetcher.helper;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import io.smallrye.graphql.schema.model.Argument;
+import io.smallrye.graphql.schema.model.Field;
+import io.smallrye.graphql.schema.model.Reference;
+import io.smallrye.graphql.schema.model.ReferenceType;
+import io.smallrye.graphql.schema.model.Wrapper;
+import io.smallrye.graphql.schema.model.WrapperType;
+
+/**
+ * Test the conversion of arrays, collections and optionals in the helpers
+ */
+public class ConversionTest {
+
+    private static final Reference INT = new Reference("int", "Int", ReferenceType.SCALAR, Integer.class.getName());
+    private static final Reference STRING = new Reference(String.class.getName(), "String", ReferenceType.SCALAR);
+    private static final Reference DATE = new Reference(LocalDate.class.getName(), "Date", ReferenceType.SCALAR,
+            String.class.getName());
+
+    @Test
+    public void shouldCreatePrimitiveArray() throws Exception {
+        Argument argument = argument(INT, wrapper(WrapperType.ARRAY, "[I"));
+
+        Object value = new ArgumentHelper(Collections.singletonList(argument))
+                .recursiveTransform(new ArrayList<>(Arrays.asList(1, 2, 3)), argument);
+
+        assertThat(value).isEqualTo(new int[] { 1, 2, 3 });
+    }
+
+    @Test
+    public void shouldCreateNestedArray() throws Exception {
+        Argument argument = argument(STRING, wrapper(WrapperType.ARRAY, "[[Ljava.lang.String;",
+                wrapper(WrapperType.ARRAY, "[Ljava.lang.String;")));
+
+        Object value = new ArgumentHelper(Collections.singletonList(argument))
+                .recursiveTransform(Arrays.asList(Arrays.asList("a", "b"), Collections.singletonList("c")), argument);
+
+        assertThat(value).isEqualTo(new String[][] { { "a", "b" }, { "c" } });
+    }
+
+    @Test
+    public void shouldCreateCollectionsInCollection() throws Exception {
+        Argument argument = argument(STRING, wrapper(WrapperType.COLLECTION, List.class.getName(),
+                wrapper(WrapperType.COLLECTION, Set.class.getName())));
+
+        Object value = new ArgumentHelper(Collections.singletonList(argument))
+                .recursiveTransform(Arrays.asList(Arrays.asList("a", "a", "b"), Collections.singletonList("c")),
+                        argument);
+
+        assertThat(value).isInstanceOf(List.class);
+        List<?> list = (List<?>) value;
+        assertThat(list).hasSize(2);
+        assertThat(list.get(0)).isInstanceOf(Set.class);
+        assertThat((Set<Object>) list.get(0)).containsExactlyInAnyOrder("a", "b");
+        assertThat((Set<Object>) list.get(1)).containsExactly("c");
+    }
+
+    @Test
+    public void shouldTransformInOptional() throws Exception {
+        Field field = field(DATE, wrapper(WrapperType.OPTIONAL, Optional.class.getName()));
+
+        Object value = new FieldHelper(field).transformResponse(Optional.of(LocalDate.of(2020, 2, 29)));
+
+        assertThat(value).isEqualTo(Optional.of("2020-02-29"));
+    }
+
+    @Test
+    public void shouldTransformInList() throws Exception {
+        Field field = field(DATE, wrapper(WrapperType.COLLECTION, List.class.getName()));
+
+        Object value = new FieldHelper(field)
+                .transformResponse(Arrays.asList(LocalDate.of(2020, 2, 29), null, LocalDate.of(2021, 1, 1)));
+
+        assertThat(value).isEqualTo(Arrays.asList("2020-02-29", null, "2021-01-01"));
+    }
+
+    @Test
+    public void shouldNotCopyResponseThatDoesNotChange() throws Exception {
+        Field field = field(STRING, wrapper(WrapperType.COLLECTION, List.class.getName()));
+        List<String> response = Arrays.asList("a", "b");
+
+        assertThat(new FieldHelper(field).transformResponse(response)).isSameAs(response);
+    }
+
+    private static Argument argument(Reference reference, Wrapper wrapper) {
+        Argument argument = new Argument("arg", "method", "arg", "arg", null, reference);
+        argument.setWrapper(wrapper);
+        return argument;
+    }
+
+    private static Field field(Reference reference, Wrapper wrapper) {
+        Field field = new Field("getField", "field", "field", null, reference);
+        field.setWrapper(wrapper);
+        return field;
+    }
+
+    private static Wrapper wrapper(WrapperType type, String className) {
+        return new Wrapper(type, className);
+    }
+
+    private static Wrapper wrapper(WrapperType type, String className, Wrapper element) {
+        Wrapper wrapper = new Wrapper(type, className);
+        wrapper.setWrapper(element);
+        return wrapper;
+    }
+}
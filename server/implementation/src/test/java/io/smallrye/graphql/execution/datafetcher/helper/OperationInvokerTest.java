@@ -0,0 +1,84 @@
+package io.smallrye.graphql.execution.datafetcher.helper;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.lang.reflect.Method;
+
+import org.junit.jupiter.api.Test;
+
+import io.smallrye.graphql.bootstrap.Config;
+
+public class OperationInvokerTest {
+
+    public static class Api {
+        public String hello(String name, int times) {
+            StringBuilder sb = new StringBuilder();
+            for (int i = 0; i < times; i++) {
+                sb.append("Hello ").append(name);
+            }
+            return sb.toString();
+        }
+
+        public static String ping() {
+            return "pong";
+        }
+
+        public String fail() throws Exception {
+            throw new IllegalStateException("boom");
+        }
+    }
+
+    private static final Config REFLECTION = new Config() {
+        @Override
+        public String getOperationInvoker() {
+            return Config.OPERATION_INVOKER_REFLECTION;
+        }
+    };
+
+    @Test
+    public void shouldUseMethodHandleByDefault() throws Exception {
+        OperationInvoker invoker = OperationInvoker.create(method("hello", String.class, int.class), null);
+
+        assertThat(invoker).isInstanceOf(MethodHandleInvoker.class);
+    }
+
+    @Test
+    public void shouldUseReflectionWhenConfigured() throws Exception {
+        OperationInvoker invoker = OperationInvoker.create(method("hello", String.class, int.class), REFLECTION);
+
+        assertThat(invoker).isInstanceOf(ReflectionInvoker.class);
+    }
+
+    @Test
+    public void shouldInvokeTheSame() throws Throwable {
+        Method method = method("hello", String.class, int.class);
+        Object[] arguments = new Object[] { "Phillip", 2 };
+
+        Object viaMethodHandle = new MethodHandleInvoker(method).invoke(new Api(), arguments);
+        Object viaReflection = new ReflectionInvoker(method).invoke(new Api(), arguments);
+
+        assertThat(viaMethodHandle).isEqualTo("Hello PhillipHello Phillip").isEqualTo(viaReflection);
+    }
+
+    @Test
+    public void shouldInvokeStaticMethod() throws Throwable {
+        Object result = new MethodHandleInvoker(method("ping")).invoke(new Api(), new Object[] {});
+
+        assertThat(result).isEqualTo("pong");
+    }
+
+    @Test
+    public void shouldThrowTheMethodsOwnException() throws Exception {
+        Method method = method("fail");
+
+        assertThatThrownBy(() -> new MethodHandleInvoker(method).invoke(new Api(), new Object[] {}))
+                .isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> new ReflectionInvoker(method).invoke(new Api(), new Object[] {}))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    private Method method(String name, Class<?>... parameterTypes) throws NoSuchMethodException {
+        return Api.class.getMethod(name, parameterTypes);
+    }
+}
@@ -4,6 +4,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
 
 import org.eclipse.microprofile.graphql.DefaultValue;
 import org.eclipse.microprofile.graphql.GraphQLApi;
@@ -86,6 +87,18 @@ public class TestEndpoint {
         return contextInfo;
     }
 
+    @Query
+    public String getInheritedContextPath() throws InterruptedException {
+        AtomicReference<String> path = new AtomicReference<>();
+        Thread thread = new Thread(() -> {
+            Context context = SmallRyeContext.getContext();
+            path.set((context == null) ? null : context.getPath());
+        });
+        thread.start();
+        thread.join();
+        return path.get();
+    }
+
     private TestObject createTestObject(String name) {
         String id = UUID.randomUUID().toString();
         TestObject testObject = new TestObject();
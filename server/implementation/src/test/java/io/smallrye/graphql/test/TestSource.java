@@ -5,6 +5,8 @@ import java.time.LocalDateTime;
 import org.eclipse.microprofile.graphql.DateFormat;
 import org.eclipse.microprofile.graphql.Name;
 
+import io.smallrye.graphql.api.Cost;
+
 /**
  * Some other POJO
  * 
@@ -13,6 +15,7 @@ import org.eclipse.microprofile.graphql.Name;
 public class TestSource {
 
     @Name("value")
+    @Cost(10)
     @DateFormat("yyyy-MM-dd'T'HH:mm")
     private LocalDateTime timestamp;
 
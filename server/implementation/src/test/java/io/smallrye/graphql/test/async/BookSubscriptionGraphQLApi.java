@@ -0,0 +1,23 @@
+package io.smallrye.graphql.test.async;
+
+import java.time.LocalDate;
+import java.time.Month;
+
+import org.eclipse.microprofile.graphql.GraphQLApi;
+
+import io.smallrye.graphql.api.Subscription;
+import io.smallrye.mutiny.Multi;
+
+/**
+ * Book releases, as a subscription
+ */
+@GraphQLApi
+public class BookSubscriptionGraphQLApi {
+
+    @Subscription
+    public Multi<Book> bookReleases() {
+        return Multi.createFrom().items(
+                new Book("0-571-05686-5", "Lord of the Flies", LocalDate.of(1954, Month.SEPTEMBER, 17), "William Golding"),
+                new Book("0-582-53008-3", "Animal Farm", LocalDate.of(1945, Month.AUGUST, 17), "George Orwell"));
+    }
+}
@@ -0,0 +1,19 @@
+package io.smallrye.graphql.test.async.invalid;
+
+import org.eclipse.microprofile.graphql.GraphQLApi;
+import org.eclipse.microprofile.graphql.Query;
+
+import io.smallrye.graphql.test.async.Book;
+import io.smallrye.mutiny.Multi;
+
+/**
+ * A query can't return a stream of results, only a subscription can
+ */
+@GraphQLApi
+public class MultiQueryGraphQLApi {
+
+    @Query
+    public Multi<Book> books() {
+        return Multi.createFrom().empty();
+    }
+}
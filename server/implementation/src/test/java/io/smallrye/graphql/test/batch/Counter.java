@@ -0,0 +1,36 @@
+package io.smallrye.graphql.test.batch;
+
+import java.util.Objects;
+
+/**
+ * Equal counters are one key in a DataLoader, also across requests
+ */
+public class Counter {
+
+    private String name;
+
+    public Counter() {
+    }
+
+    public Counter(String name) {
+        this.name = name;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof Counter && Objects.equals(name, ((Counter) o).name);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(name);
+    }
+}
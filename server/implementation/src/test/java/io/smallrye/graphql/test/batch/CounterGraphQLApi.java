@@ -0,0 +1,49 @@
+package io.smallrye.graphql.test.batch;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.microprofile.graphql.GraphQLApi;
+import org.eclipse.microprofile.graphql.Mutation;
+import org.eclipse.microprofile.graphql.Query;
+import org.eclipse.microprofile.graphql.Source;
+
+import io.smallrye.graphql.execution.context.SmallRyeContext;
+
+/**
+ * A counter with a batched @Source value that a mutation changes, and a batched @Source label with an argument
+ */
+@GraphQLApi
+public class CounterGraphQLApi {
+
+    public static final AtomicInteger VALUE = new AtomicInteger();
+
+    @Query
+    public Counter getCounter() {
+        return new Counter("counter");
+    }
+
+    public List<Integer> getValue(@Source List<Counter> counters) {
+        List<Integer> values = new ArrayList<>();
+        for (Counter counter : counters) {
+            values.add(VALUE.get());
+        }
+        return values;
+    }
+
+    public List<String> getLabel(@Source List<Counter> counters, String prefix) {
+        String operationName = SmallRyeContext.getContext().getOperationName().orElse(null);
+        List<String> labels = new ArrayList<>();
+        for (Counter counter : counters) {
+            labels.add(prefix + " " + counter.getName() + " of " + operationName);
+        }
+        return labels;
+    }
+
+    @Mutation
+    public Counter increment() {
+        VALUE.incrementAndGet();
+        return new Counter("counter");
+    }
+}
@@ -0,0 +1,26 @@
+package io.smallrye.graphql.test.input;
+
+/**
+ * Line item of an order
+ */
+public class LineItem {
+
+    private String product;
+    private int quantity;
+
+    public String getProduct() {
+        return product;
+    }
+
+    public void setProduct(String product) {
+        this.product = product;
+    }
+
+    public int getQuantity() {
+        return quantity;
+    }
+
+    public void setQuantity(int quantity) {
+        this.quantity = quantity;
+    }
+}
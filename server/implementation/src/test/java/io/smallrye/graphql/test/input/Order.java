@@ -0,0 +1,53 @@
+package io.smallrye.graphql.test.input;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.eclipse.microprofile.graphql.DateFormat;
+import org.eclipse.microprofile.graphql.Name;
+
+/**
+ * Order, with a bit of everything the input binding has to handle
+ */
+public class Order {
+
+    public String customer;
+
+    @DateFormat("dd/MM/yyyy")
+    public LocalDate orderDate;
+
+    private String reference;
+    private Priority priority;
+    private List<LineItem> lineItems;
+
+    @Name("ref")
+    public String getReference() {
+        return reference;
+    }
+
+    @Name("ref")
+    public void setReference(String reference) {
+        this.reference = reference;
+    }
+
+    public Priority getPriority() {
+        return priority;
+    }
+
+    public void setPriority(Priority priority) {
+        this.priority = priority;
+    }
+
+    public List<LineItem> getLineItems() {
+        return lineItems;
+    }
+
+    public void setLineItems(List<LineItem> lineItems) {
+        this.lineItems = lineItems;
+    }
+
+    public enum Priority {
+        LOW,
+        HIGH
+    }
+}
@@ -0,0 +1,22 @@
+package io.smallrye.graphql.test.input;
+
+import org.eclipse.microprofile.graphql.GraphQLApi;
+import org.eclipse.microprofile.graphql.Mutation;
+import org.eclipse.microprofile.graphql.Query;
+
+/**
+ * Order API
+ */
+@GraphQLApi
+public class OrderGraphQLApi {
+
+    @Query
+    public Order emptyOrder() {
+        return new Order();
+    }
+
+    @Mutation
+    public Order importOrder(Order order) {
+        return order;
+    }
+}
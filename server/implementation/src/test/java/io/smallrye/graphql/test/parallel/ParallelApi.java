@@ -0,0 +1,66 @@
+package io.smallrye.graphql.test.parallel;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.microprofile.graphql.GraphQLApi;
+import org.eclipse.microprofile.graphql.Query;
+
+import io.smallrye.graphql.api.Sequential;
+import io.smallrye.graphql.execution.context.SmallRyeContext;
+
+/**
+ * Blocking operations to test the parallel execution
+ */
+@GraphQLApi
+public class ParallelApi {
+
+    public static volatile CountDownLatch latch;
+    public static final AtomicInteger running = new AtomicInteger();
+    public static final AtomicInteger maxRunning = new AtomicInteger();
+
+    @Query
+    public boolean first() throws InterruptedException {
+        return awaitOther();
+    }
+
+    @Query
+    public boolean second() throws InterruptedException {
+        return awaitOther();
+    }
+
+    @Query
+    public int tracked() throws InterruptedException {
+        int now = running.incrementAndGet();
+        maxRunning.accumulateAndGet(now, Math::max);
+        try {
+            Thread.sleep(50);
+        } finally {
+            running.decrementAndGet();
+        }
+        return now;
+    }
+
+    @Query
+    public String fieldName() {
+        return SmallRyeContext.getContext().getFieldName();
+    }
+
+    @Query
+    public String thread() {
+        return Thread.currentThread().getName();
+    }
+
+    @Query
+    @Sequential
+    public String sequentialThread() {
+        return Thread.currentThread().getName();
+    }
+
+    private static boolean awaitOther() throws InterruptedException {
+        latch.countDown();
+        // Only returns true if the other field runs at the same time
+        return latch.await(5, TimeUnit.SECONDS);
+    }
+}
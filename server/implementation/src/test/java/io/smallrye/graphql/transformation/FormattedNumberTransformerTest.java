@@ -0,0 +1,65 @@
+package io.smallrye.graphql.transformation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.Test;
+
+import io.smallrye.graphql.schema.model.Field;
+import io.smallrye.graphql.schema.model.Reference;
+import io.smallrye.graphql.schema.model.ReferenceType;
+import io.smallrye.graphql.schema.model.Transformation;
+
+public class FormattedNumberTransformerTest {
+
+    private final FormattedNumberTransformer transformer = new FormattedNumberTransformer(
+            field(new Transformation(Transformation.Type.NUMBER, "#,##0.00", "en-US", false)));
+
+    @Test
+    public void shouldFormat() {
+        assertThat(transformer.out(new BigDecimal("1234.5"))).isEqualTo("1,234.50");
+    }
+
+    @Test
+    public void shouldParse() throws Exception {
+        assertThat(transformer.in("1,234.50")).isEqualTo(new BigDecimal("1234.50"));
+    }
+
+    @Test
+    public void shouldBeSharedBetweenThreads() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<Boolean>> results = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                final int offset = t;
+                results.add(executor.submit(() -> {
+                    for (int i = 0; i < 10_000; i++) {
+                        BigDecimal number = BigDecimal.valueOf(offset * 100_000 + i, 2);
+                        if (!number.equals(transformer.in(transformer.out(number)))) {
+                            return false;
+                        }
+                    }
+                    return true;
+                }));
+            }
+            for (Future<Boolean> result : results) {
+                assertThat(result.get()).isTrue();
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private static Field field(Transformation transformation) {
+        Field field = new Field("getPrice", "price", "price", null,
+                new Reference(BigDecimal.class.getName(), "BigDecimal", ReferenceType.SCALAR, String.class.getName()));
+        field.setTransformation(transformation);
+        return field;
+    }
+}
@@ -2,14 +2,22 @@ package io.smallrye.graphql.gradle.tasks;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
 
 import org.gradle.api.DefaultTask;
 import org.gradle.api.GradleException;
@@ -35,6 +43,7 @@ import io.smallrye.graphql.bootstrap.Bootstrap;
 import io.smallrye.graphql.bootstrap.Config;
 import io.smallrye.graphql.execution.SchemaPrinter;
 import io.smallrye.graphql.schema.SchemaBuilder;
+import io.smallrye.graphql.schema.SchemaSnapshot;
 import io.smallrye.graphql.schema.model.Schema;
 
 /**
@@ -53,6 +62,8 @@ public class GenerateSchemaTask extends DefaultTask {
     private boolean includeDirectives = false;
     private boolean includeSchemaDefinition = false;
     private boolean includeIntrospectionTypes = false;
+    private boolean generateSnapshot = false;
+    private String snapshotDestination = new File(getProject().getBuildDir(), "classes/java/main/" + SchemaSnapshot.LOCATION).getPath();
     
     private File classesDir = new File(getProject().getBuildDir(), "classes");
 
@@ -155,6 +166,26 @@ public class GenerateSchemaTask extends DefaultTask {
         this.includeIntrospectionTypes = includeIntrospectionTypes;
     }
 
+    @Input
+    public boolean getGenerateSnapshot() {
+        return generateSnapshot;
+    }
+
+    @Option(option = "generate-snapshot", description = "Whether to also write a snapshot of the schema model to the classes, so the server does not have to scan the classes on startup. The snapshot is built from the classes and the runtime classpath (the jars that end up in WEB-INF/lib), whatever include-dependencies is.")
+    public void setGenerateSnapshot(boolean generateSnapshot) {
+        this.generateSnapshot = generateSnapshot;
+    }
+
+    @Input
+    public String getSnapshotDestination() {
+        return snapshotDestination;
+    }
+
+    @Option(option = "snapshot-destination", description = "The destination file where to write the snapshot. The server only finds it at META-INF/smallrye-graphql/schema.snapshot in the classes.")
+    public void setSnapshotDestination(String snapshotDestination) {
+        this.snapshotDestination = snapshotDestination;
+    }
+
     @Optional
     @InputDirectory
     public File getClassesDir() {
@@ -167,9 +198,14 @@ public class GenerateSchemaTask extends DefaultTask {
 
     @TaskAction
     public void generateSchema() {
-        IndexView index = createIndex();
-        
-        String schema = generateSchema(index);
+        Index moduleIndex = createModuleIndex();
+        IndexView index = createIndex(moduleIndex);
+
+        Schema internalSchema = SchemaBuilder.build(index);
+        if (generateSnapshot) {
+            writeSnapshot(moduleIndex);
+        }
+        String schema = generateSchema(internalSchema);
         if (schema != null) {
             write(schema);
         } else {
@@ -177,13 +213,15 @@ public class GenerateSchemaTask extends DefaultTask {
         }
     }
 
-    private IndexView createIndex() {
-        IndexView moduleIndex;
+    private Index createModuleIndex() {
         try {
-            moduleIndex = indexModuleClasses();
+            return indexModuleClasses();
         } catch (IOException e) {
             throw new GradleException("Can't compute index", e);
         }
+    }
+
+    private IndexView createIndex(Index moduleIndex) {
         if (includeDependencies) {
             List<IndexView> indexes = new ArrayList<>();
             indexes.add(moduleIndex);
@@ -226,7 +264,7 @@ public class GenerateSchemaTask extends DefaultTask {
         return indexer.complete();
     }
 
-    private String generateSchema(IndexView index) {
+    private String generateSchema(Schema internalSchema) {
         Config config = new Config() {
             @Override
             public boolean isIncludeScalarsInSchema() {
@@ -249,7 +287,6 @@ public class GenerateSchemaTask extends DefaultTask {
             }
         };
         
-        Schema internalSchema = SchemaBuilder.build(index);
         GraphQLSchema graphQLSchema = Bootstrap.bootstrap(internalSchema);
         if(graphQLSchema!=null){
             return new SchemaPrinter(config).print(graphQLSchema);
@@ -275,4 +312,79 @@ public class GenerateSchemaTask extends DefaultTask {
             throw new GradleException("Can't write the result", e);
         }
     }
+
+    /**
+     * The server scans the classes and all jars in WEB-INF/lib when there is no (up to date) snapshot, so the snapshot
+     * is built from the classes and the runtime classpath, and its checksum covers the jars too.
+     */
+    private void writeSnapshot(Index moduleIndex) {
+        List<Path> jars = new ArrayList<>();
+        List<IndexView> indexes = new ArrayList<>();
+        indexes.add(moduleIndex);
+        try {
+            // Like the war plugin, without the providedRuntime dependencies
+            Set<File> files = new LinkedHashSet<>(resolve("runtimeClasspath"));
+            files.removeAll(resolve("providedRuntime"));
+            for (File file : files) {
+                if (!file.isFile() || !file.getName().endsWith(".jar")) {
+                    getLogger().warn("Not writing the schema snapshot: the dependency " + file
+                            + " is not a jar, so the snapshot would never match the jars in WEB-INF/lib");
+                    return;
+                }
+                getLogger().debug("Indexing file " + file + " for the snapshot");
+                jars.add(file.toPath());
+                indexes.add(indexJar(file));
+            }
+            Schema snapshotSchema = SchemaBuilder.build(CompositeIndex.create(indexes));
+
+            Path path = new File(snapshotDestination).toPath();
+            path.toFile().getParentFile().mkdirs();
+            try (OutputStream out = Files.newOutputStream(path)) {
+                SchemaSnapshot.write(snapshotSchema, SchemaSnapshot.checksum(getSnapshotClassesDir(path), jars), out);
+            }
+            getLogger().info("Wrote the schema snapshot to " + path.toAbsolutePath().toString());
+        } catch (IOException e) {
+            throw new GradleException("Can't write the schema snapshot", e);
+        }
+    }
+
+    private Set<File> resolve(String configurationName) {
+        Configuration configuration = getProject().getConfigurations().findByName(configurationName);
+        if (configuration == null) {
+            return Collections.emptySet();
+        }
+        Configuration copiedConfiguration = configuration.copyRecursive();
+        copiedConfiguration.setCanBeResolved(true);
+        return copiedConfiguration.resolve();
+    }
+
+    // index the classes in a jar, without writing an index file next to it
+    private static Index indexJar(File jar) throws IOException {
+        Indexer indexer = new Indexer();
+        try (ZipFile zip = new ZipFile(jar)) {
+            Enumeration<? extends ZipEntry> entries = zip.entries();
+            while (entries.hasMoreElements()) {
+                ZipEntry entry = entries.nextElement();
+                if (entry.getName().endsWith(".class")) {
+                    try (InputStream in = zip.getInputStream(entry)) {
+                        indexer.index(in);
+                    }
+                }
+            }
+        }
+        return indexer.complete();
+    }
+
+    // the checksum is over the classes the snapshot is packaged with (like build/classes/java/main)
+    private Path getSnapshotClassesDir(Path snapshot) {
+        Path location = Paths.get(SchemaSnapshot.LOCATION);
+        if (snapshot.endsWith(location)) {
+            Path root = snapshot;
+            for (int i = 0; i < location.getNameCount(); i++) {
+                root = root.getParent();
+            }
+            return root;
+        }
+        return classesDir.toPath();
+    }
 }
@@ -2,6 +2,8 @@ package io.smallrye.graphql.mavenplugin;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.net.MalformedURLException;
 import java.net.URL;
 import java.net.URLClassLoader;
@@ -9,11 +11,15 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Enumeration;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
 
 import org.apache.maven.artifact.Artifact;
 import org.apache.maven.plugin.AbstractMojo;
@@ -35,6 +41,7 @@ import io.smallrye.graphql.bootstrap.Bootstrap;
 import io.smallrye.graphql.bootstrap.Config;
 import io.smallrye.graphql.execution.SchemaPrinter;
 import io.smallrye.graphql.schema.SchemaBuilder;
+import io.smallrye.graphql.schema.SchemaSnapshot;
 import io.smallrye.graphql.schema.model.Schema;
 
 @Mojo(name = "generate-schema", defaultPhase = LifecyclePhase.PROCESS_CLASSES, requiresDependencyCollection = ResolutionScope.COMPILE_PLUS_RUNTIME, requiresDependencyResolution = ResolutionScope.COMPILE_PLUS_RUNTIME)
@@ -100,14 +107,33 @@ public class GenerateSchemaMojo extends AbstractMojo {
     @Parameter(defaultValue = "${project.build.outputDirectory}", property = "classesDir")
     private File classesDir;
 
+    /**
+     * Also write a snapshot of the schema model to the classes, so the server does not have to
+     * scan the classes on startup. The snapshot is built from the classes and all runtime dependencies (the jars
+     * that end up in WEB-INF/lib), whatever includeDependencies is.
+     */
+    @Parameter(defaultValue = "false", property = "generateSnapshot")
+    private boolean generateSnapshot;
+
+    /**
+     * Destination file where to write the snapshot. The server only finds it at the default location.
+     */
+    @Parameter(defaultValue = "${project.build.outputDirectory}/" + SchemaSnapshot.LOCATION, property = "snapshotDestination")
+    private String snapshotDestination;
+
     @Override
     public void execute() throws MojoExecutionException {
         if (!skip) {
             ClassLoader classLoader = getClassLoader();
             Thread.currentThread().setContextClassLoader(classLoader);
 
-            IndexView index = createIndex();
-            String schema = generateSchema(index);
+            Index moduleIndex = createModuleIndex();
+            IndexView index = createIndex(moduleIndex);
+            Schema internalSchema = SchemaBuilder.build(index);
+            if (generateSnapshot) {
+                writeSnapshot(moduleIndex);
+            }
+            String schema = generateSchema(internalSchema);
             if (schema != null) {
                 write(schema);
             } else {
@@ -116,13 +142,15 @@ public class GenerateSchemaMojo extends AbstractMojo {
         }
     }
 
-    private IndexView createIndex() throws MojoExecutionException {
-        IndexView moduleIndex;
+    private Index createModuleIndex() throws MojoExecutionException {
         try {
-            moduleIndex = indexModuleClasses();
+            return indexModuleClasses();
         } catch (IOException e) {
             throw new MojoExecutionException("Can't compute index", e);
         }
+    }
+
+    private IndexView createIndex(Index moduleIndex) {
         if (includeDependencies) {
             List<IndexView> indexes = new ArrayList<>();
             indexes.add(moduleIndex);
@@ -160,7 +188,7 @@ public class GenerateSchemaMojo extends AbstractMojo {
         return indexer.complete();
     }
 
-    private String generateSchema(IndexView index) {
+    private String generateSchema(Schema internalSchema) {
         Config config = new Config() {
             @Override
             public boolean isIncludeScalarsInSchema() {
@@ -183,7 +211,6 @@ public class GenerateSchemaMojo extends AbstractMojo {
             }
         };
 
-        Schema internalSchema = SchemaBuilder.build(index);
         GraphQLSchema graphQLSchema = Bootstrap.bootstrap(internalSchema, config);
         if (graphQLSchema != null) {
             return new SchemaPrinter(config).print(graphQLSchema);
@@ -210,6 +237,60 @@ public class GenerateSchemaMojo extends AbstractMojo {
         }
     }
 
+    /**
+     * The server scans the classes and all jars in WEB-INF/lib when there is no (up to date) snapshot, so the snapshot
+     * is built from the classes and all runtime dependencies, and its checksum covers the jars too.
+     */
+    private void writeSnapshot(Index moduleIndex) throws MojoExecutionException {
+        List<Path> jars = new ArrayList<>();
+        List<IndexView> indexes = new ArrayList<>();
+        indexes.add(moduleIndex);
+        try {
+            for (Object a : mavenProject.getArtifacts()) {
+                Artifact artifact = (Artifact) a;
+                if (RUNTIME_SCOPES.contains(artifact.getScope()) && "jar".equals(artifact.getType())) {
+                    File file = artifact.getFile();
+                    if (file == null || !file.isFile()) {
+                        // Like a module of the reactor that is not packaged yet
+                        getLog().warn("Not writing the schema snapshot: the dependency " + artifact
+                                + " is not a jar, so the snapshot would never match the jars in WEB-INF/lib");
+                        return;
+                    }
+                    getLog().debug("Indexing file " + file + " for the snapshot");
+                    jars.add(file.toPath());
+                    indexes.add(indexJar(file));
+                }
+            }
+            Schema snapshotSchema = SchemaBuilder.build(CompositeIndex.create(indexes));
+
+            Path path = new File(snapshotDestination).toPath();
+            path.toFile().getParentFile().mkdirs();
+            try (OutputStream out = Files.newOutputStream(path)) {
+                SchemaSnapshot.write(snapshotSchema, SchemaSnapshot.checksum(classesDir.toPath(), jars), out);
+            }
+            getLog().info("Wrote the schema snapshot to " + path.toAbsolutePath().toString());
+        } catch (IOException e) {
+            throw new MojoExecutionException("Can't write the schema snapshot", e);
+        }
+    }
+
+    // index the classes in a jar, without writing an index file next to it
+    private static Index indexJar(File jar) throws IOException {
+        Indexer indexer = new Indexer();
+        try (ZipFile zip = new ZipFile(jar)) {
+            Enumeration<? extends ZipEntry> entries = zip.entries();
+            while (entries.hasMoreElements()) {
+                ZipEntry entry = entries.nextElement();
+                if (entry.getName().endsWith(".class")) {
+                    try (InputStream in = zip.getInputStream(entry)) {
+                        indexer.index(in);
+                    }
+                }
+            }
+        }
+        return indexer.complete();
+    }
+
     private ClassLoader getClassLoader() {
         Set<URL> urls = new HashSet<>();
 
@@ -226,4 +307,7 @@ public class GenerateSchemaMojo extends AbstractMojo {
                 Thread.currentThread().getContextClassLoader());
 
     }
+
+    // the scopes of the dependencies that are packaged in WEB-INF/lib
+    private static final List<String> RUNTIME_SCOPES = Arrays.asList(Artifact.SCOPE_COMPILE, Artifact.SCOPE_RUNTIME);
 }